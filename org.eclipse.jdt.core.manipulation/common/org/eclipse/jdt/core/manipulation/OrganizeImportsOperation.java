@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -94,6 +94,83 @@ public class OrganizeImportsOperation implements IWorkspaceRunnable {
 		TypeNameMatch[] chooseImports(TypeNameMatch[][] openChoices, ISourceRange[] ranges);
 	}
 
+	/**
+	 * Remembers the types found for unresolved simple type names, so that organizing the imports
+	 * of many compilation units searches the index only once per simple name and search scope.
+	 * <p>
+	 * A table should only be shared by operations that run on an unchanged Java model, for example
+	 * all compilation units of one clean up.
+	 * </p>
+	 * <p>
+	 * This class is thread safe.
+	 * </p>
+	 *
+	 * @since 1.17
+	 */
+	public static final class TypeNameMatchTable {
+
+		private final Map<String, Map<String, List<TypeNameMatch>>> fMatchesByScope= new HashMap<>();
+
+		/**
+		 * Returns all types with one of the given simple names in the given project. Names that
+		 * have not been looked up before are searched in a single index query.
+		 *
+		 * @param project the project whose classpath is searched
+		 * @param excludeTestCode whether test code is excluded from the search
+		 * @param simpleNames the simple type names
+		 * @param monitor the progress monitor
+		 * @return the types found
+		 * @throws JavaModelException if the search failed
+		 */
+		synchronized List<TypeNameMatch> findTypes(IJavaProject project, boolean excludeTestCode, Collection<String> simpleNames, IProgressMonitor monitor) throws JavaModelException {
+			String scopeKey= project.getHandleIdentifier() + '|' + excludeTestCode;
+			Map<String, List<TypeNameMatch>> matches= fMatchesByScope.computeIfAbsent(scopeKey, k -> new HashMap<>());
+
+			List<String> missing= new ArrayList<>();
+			for (String simpleName : simpleNames) {
+				if (!matches.containsKey(simpleName)) {
+					missing.add(simpleName);
+				}
+			}
+			if (!missing.isEmpty()) {
+				char[][] allTypes= new char[missing.size()][];
+				for (int i= 0; i < allTypes.length; i++) {
+					allTypes[i]= missing.get(i).toCharArray();
+					matches.put(missing.get(i), new ArrayList<>(1));
+				}
+				List<TypeNameMatch> typesFound= new ArrayList<>();
+				IJavaSearchScope scope= SearchEngine.createJavaSearchScope(excludeTestCode, new IJavaElement[] { project }, true);
+				try {
+					new SearchEngine().searchAllTypeNames(null, allTypes, scope, new TypeNameMatchCollector(typesFound), IJavaSearchConstants.WAIT_UNTIL_READY_TO_SEARCH, monitor);
+				} catch (JavaModelException | OperationCanceledException e) {
+					for (String simpleName : missing) {
+						matches.remove(simpleName);
+					}
+					throw e;
+				}
+				for (TypeNameMatch curr : typesFound) {
+					List<TypeNameMatch> list= matches.get(curr.getSimpleTypeName());
+					if (list != null) {
+						list.add(curr);
+					}
+				}
+			}
+
+			List<TypeNameMatch> result= new ArrayList<>();
+			for (String simpleName : simpleNames) {
+				result.addAll(matches.get(simpleName));
+			}
+			return result;
+		}
+
+		/**
+		 * Discards all remembered types.
+		 */
+		public synchronized void clear() {
+			fMatchesByScope.clear();
+		}
+	}
+
 	/**
 	 * Matches unresolvable import declarations (those having associated
 	 * {@link IProblem#ImportNotFound} problems) to unresolved simple names.
@@ -229,6 +306,8 @@ public class OrganizeImportsOperation implements IWorkspaceRunnable {
 
 		private final UnresolvableImportMatcher fUnresolvableImportMatcher;
 
+		private final TypeNameMatchTable fTypeNameMatchTable;
+
 		private IPackageFragment fCurrPackage;
 
 		private ScopeAnalyzer fAnalyzer;
@@ -240,12 +319,13 @@ public class OrganizeImportsOperation implements IWorkspaceRunnable {
 		private SourceRange[] fSourceRanges;
 
 
-		public TypeReferenceProcessor(Set<String> oldSingleImports, Set<String> oldDemandImports, CompilationUnit root, ImportRewrite impStructure, boolean ignoreLowerCaseNames, UnresolvableImportMatcher unresolvableImportMatcher) {
+		public TypeReferenceProcessor(Set<String> oldSingleImports, Set<String> oldDemandImports, CompilationUnit root, ImportRewrite impStructure, boolean ignoreLowerCaseNames, UnresolvableImportMatcher unresolvableImportMatcher, TypeNameMatchTable typeNameMatchTable) {
 			fOldSingleImports= oldSingleImports;
 			fOldDemandImports= oldDemandImports;
 			fImpStructure= impStructure;
 			fDoIgnoreLowerCaseNames= ignoreLowerCaseNames;
 			fUnresolvableImportMatcher= unresolvableImportMatcher;
+			fTypeNameMatchTable= typeNameMatchTable;
 
 			ICompilationUnit cu= impStructure.getCompilationUnit();
 
@@ -351,17 +431,22 @@ public class OrganizeImportsOperation implements IWorkspaceRunnable {
 				if (nUnresolved == 0) {
 					return false;
 				}
-				char[][] allTypes= new char[nUnresolved][];
-				int i= 0;
-				for (String string : fUnresolvedTypes.keySet()) {
-					allTypes[i++]= string.toCharArray();
-				}
-				final ArrayList<TypeNameMatch> typesFound= new ArrayList<>();
 				final IJavaProject project= fCurrPackage.getJavaProject();
 				boolean excludeTestCode= !((IPackageFragmentRoot)fCurrPackage.getParent()).getResolvedClasspathEntry().isTest();
-				IJavaSearchScope scope= SearchEngine.createJavaSearchScope(excludeTestCode, new IJavaElement[] { project }, true);
-				TypeNameMatchCollector collector= new TypeNameMatchCollector(typesFound);
-				new SearchEngine().searchAllTypeNames(null, allTypes, scope, collector, IJavaSearchConstants.WAIT_UNTIL_READY_TO_SEARCH, monitor);
+				final List<TypeNameMatch> typesFound;
+				if (fTypeNameMatchTable != null) {
+					typesFound= fTypeNameMatchTable.findTypes(project, excludeTestCode, fUnresolvedTypes.keySet(), monitor);
+				} else {
+					char[][] allTypes= new char[nUnresolved][];
+					int i= 0;
+					for (String string : fUnresolvedTypes.keySet()) {
+						allTypes[i++]= string.toCharArray();
+					}
+					typesFound= new ArrayList<>();
+					IJavaSearchScope scope= SearchEngine.createJavaSearchScope(excludeTestCode, new IJavaElement[] { project }, true);
+					TypeNameMatchCollector collector= new TypeNameMatchCollector(typesFound);
+					new SearchEngine().searchAllTypeNames(null, allTypes, scope, collector, IJavaSearchConstants.WAIT_UNTIL_READY_TO_SEARCH, monitor);
+				}
 
 				boolean is50OrHigher= JavaModelUtil.is50OrHigher(project);
 
@@ -512,6 +597,8 @@ public class OrganizeImportsOperation implements IWorkspaceRunnable {
 
 	private final boolean fAllowSyntaxErrors;
 
+	private final TypeNameMatchTable fTypeNameMatchTable;
+
 	/**
 	 * Creates a new OrganizeImportsOperation operation.
 	 *
@@ -523,6 +610,23 @@ public class OrganizeImportsOperation implements IWorkspaceRunnable {
 	 * @param chooseImportQuery Query element to be used for UI interaction or <code>null</code> to not select anything
 	 */
 	public OrganizeImportsOperation(ICompilationUnit cu, CompilationUnit astRoot, boolean ignoreLowerCaseNames, boolean save, boolean allowSyntaxErrors, IChooseImportQuery chooseImportQuery) {
+		this(cu, astRoot, ignoreLowerCaseNames, save, allowSyntaxErrors, chooseImportQuery, null);
+	}
+
+	/**
+	 * Creates a new OrganizeImportsOperation operation that looks up unresolved type names in the
+	 * given table. Use this when organizing the imports of many compilation units.
+	 *
+	 * @param cu The compilation unit
+	 * @param astRoot the compilation unit AST node
+	 * @param ignoreLowerCaseNames when true, type names starting with a lower case are ignored
+	 * @param save If set, the result will be saved
+	 * @param allowSyntaxErrors If set, the operation will only proceed when the compilation unit has no syntax errors
+	 * @param chooseImportQuery Query element to be used for UI interaction or <code>null</code> to not select anything
+	 * @param typeNameMatchTable the table shared by all operations of the batch, or <code>null</code> to search the index for every compilation unit
+	 * @since 1.17
+	 */
+	public OrganizeImportsOperation(ICompilationUnit cu, CompilationUnit astRoot, boolean ignoreLowerCaseNames, boolean save, boolean allowSyntaxErrors, IChooseImportQuery chooseImportQuery, TypeNameMatchTable typeNameMatchTable) {
 		fCompilationUnit= cu;
 		fASTRoot= astRoot;
 
@@ -530,6 +634,7 @@ public class OrganizeImportsOperation implements IWorkspaceRunnable {
 		fIgnoreLowerCaseNames= ignoreLowerCaseNames;
 		fAllowSyntaxErrors= allowSyntaxErrors;
 		fChooseImportQuery= chooseImportQuery;
+		fTypeNameMatchTable= typeNameMatchTable;
 
 		fNumberOfImportsAdded= 0;
 		fNumberOfImportsRemoved= 0;
@@ -587,7 +692,8 @@ public class OrganizeImportsOperation implements IWorkspaceRunnable {
 				astRoot,
 				importsRewrite,
 				fIgnoreLowerCaseNames,
-				unresolvableImportMatcher);
+				unresolvableImportMatcher,
+				fTypeNameMatchTable);
 
 		Iterator<SimpleName> refIterator= typeReferences.iterator();
 		while (refIterator.hasNext()) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,7 +13,10 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.core.manipulation;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 
 import org.eclipse.core.runtime.Assert;
 
@@ -28,14 +31,81 @@ import org.eclipse.jface.text.templates.TemplateBuffer;
 import org.eclipse.jface.text.templates.TemplateContext;
 import org.eclipse.jface.text.templates.TemplateException;
 import org.eclipse.jface.text.templates.TemplateTranslator;
+import org.eclipse.jface.text.templates.TemplateVariable;
 import org.eclipse.jface.text.templates.TemplateVariableResolver;
+import org.eclipse.jface.text.templates.TemplateVariableType;
 
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.manipulation.JavaManipulation;
 
+import org.eclipse.jdt.internal.corext.util.LRUMap;
+
 public class CodeTemplateContext extends TemplateContext {
 
+	/**
+	 * The result of translating a template pattern: the pattern without the variable markup and
+	 * the variables found in it. A compiled template is immutable; every evaluation creates fresh
+	 * variables from it.
+	 */
+	private static final class CompiledTemplate {
+
+		final String fString;
+		final TemplateVariableType[] fTypes;
+		final String[] fNames;
+		final int[][] fOffsets;
+
+		CompiledTemplate(String string, List<TemplateVariableType> types, List<String> names, List<int[]> offsets) {
+			fString= string;
+			fTypes= types.toArray(new TemplateVariableType[types.size()]);
+			fNames= names.toArray(new String[names.size()]);
+			fOffsets= offsets.toArray(new int[offsets.size()][]);
+		}
+	}
+
+	/**
+	 * Translator that records the variables it creates, so that the translation can be replayed.
+	 */
+	private static final class CompilingTemplateTranslator extends TemplateTranslator {
+
+		private final List<TemplateVariableType> fTypes= new ArrayList<>();
+		private final List<String> fNames= new ArrayList<>();
+		private final List<int[]> fOffsets= new ArrayList<>();
+
+		@Override
+		protected TemplateVariable createVariable(TemplateVariableType type, String name, int[] offsets) {
+			fTypes.add(type);
+			fNames.add(name);
+			fOffsets.add(offsets.clone());
+			return super.createVariable(type, name, offsets);
+		}
+
+		CompiledTemplate compile(String pattern) throws TemplateException {
+			TemplateBuffer buffer= translate(pattern);
+			return new CompiledTemplate(buffer.getString(), fTypes, fNames, fOffsets);
+		}
+	}
+
+	/**
+	 * Translator that only creates the variables of a compiled template, without recording them.
+	 */
+	private static final class InstantiatingTemplateTranslator extends TemplateTranslator {
+
+		TemplateBuffer instantiate(CompiledTemplate template) {
+			TemplateVariable[] variables= new TemplateVariable[template.fNames.length];
+			for (int i= 0; i < variables.length; i++) {
+				variables[i]= createVariable(template.fTypes[i], template.fNames[i], template.fOffsets[i].clone());
+			}
+			return new TemplateBuffer(template.fString, variables);
+		}
+	}
+
+	/**
+	 * Compiled templates, keyed by line delimiter and pattern. Changing a template in the
+	 * preferences changes its pattern, so entries never become stale.
+	 */
+	private static final Map<String, CompiledTemplate> fgCompiledTemplates= new LRUMap<>(64);
+
 	private String fLineDelimiter;
 	private IJavaProject fProject;
 
@@ -74,14 +144,26 @@ public class CodeTemplateContext extends TemplateContext {
 		if (!canEvaluate(template))
 			return null;
 
-		String pattern= changeLineDelimiter(template.getPattern(), fLineDelimiter);
-
-		TemplateTranslator translator= new TemplateTranslator();
-		TemplateBuffer buffer= translator.translate(pattern);
+		TemplateBuffer buffer= translate(template.getPattern(), fLineDelimiter);
 		getContextType().resolve(buffer, this);
 		return buffer;
 	}
 
+	private static TemplateBuffer translate(String pattern, String lineDelimiter) throws TemplateException {
+		String key= lineDelimiter + '\0' + pattern;
+		CompiledTemplate compiled;
+		synchronized (fgCompiledTemplates) {
+			compiled= fgCompiledTemplates.get(key);
+		}
+		if (compiled == null) {
+			compiled= new CompilingTemplateTranslator().compile(changeLineDelimiter(pattern, lineDelimiter));
+			synchronized (fgCompiledTemplates) {
+				fgCompiledTemplates.put(key, compiled);
+			}
+		}
+		return new InstantiatingTemplateTranslator().instantiate(compiled);
+	}
+
 	private static String changeLineDelimiter(String code, String lineDelim) {
 		try {
 			ILineTracker tracker= new DefaultLineTracker();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,6 +18,8 @@ import java.io.Reader;
 import java.io.StringReader;
 import java.io.StringWriter;
 import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
 import org.osgi.service.prefs.BackingStoreException;
@@ -36,6 +38,8 @@ import org.eclipse.jface.text.templates.Template;
 
 import org.eclipse.jdt.core.manipulation.JavaManipulation;
 
+import org.eclipse.jdt.internal.corext.util.LRUMap;
+
 /**
  * @since 3.1
  */
@@ -43,9 +47,20 @@ public final class ProjectTemplateStore {
 
 	private static final String KEY= "org.eclipse.jdt.ui.text.custom_code_templates"; //$NON-NLS-1$
 
+	/**
+	 * Loaded stores shared by code generation, see {@link #getLoadedStore(IProject)}. Keyed by
+	 * project name, as the stores reference their project's preferences.
+	 */
+	private static final Map<String, ProjectTemplateStore> fgLoadedStores= new LRUMap<>(32);
+
 	private final TemplateStoreCore fInstanceStore;
 	private final TemplateStoreCore fProjectStore;
 
+	/**
+	 * The project specific templates this store has been loaded from, only set for shared stores.
+	 */
+	private String fLoadedPreference;
+
 	public ProjectTemplateStore(IProject project) {
 		fInstanceStore= JavaManipulation.getCodeTemplateStore();
 		if (project == null) {
@@ -92,6 +107,35 @@ public final class ProjectTemplateStore {
 		}
 	}
 
+	/**
+	 * Returns a loaded template store for the given project that is shared by all clients that
+	 * only look up templates. The store is loaded again once the project specific templates have
+	 * changed. Templates of the instance store are always looked up in the live instance store.
+	 * <p>
+	 * The returned store must not be modified.
+	 * </p>
+	 *
+	 * @param project the project
+	 * @return the loaded store
+	 */
+	public static ProjectTemplateStore getLoadedStore(IProject project) {
+		String preference= new ProjectScope(project).getNode(JavaManipulation.getPreferenceNodeId()).get(KEY, null);
+		synchronized (fgLoadedStores) {
+			ProjectTemplateStore store= fgLoadedStores.get(project.getName());
+			if (store == null || !Objects.equals(store.fLoadedPreference, preference)) {
+				store= new ProjectTemplateStore(project);
+				try {
+					store.load();
+				} catch (IOException e) {
+					JavaManipulationPlugin.log(e);
+				}
+				store.fLoadedPreference= preference;
+				fgLoadedStores.put(project.getName(), store);
+			}
+			return store;
+		}
+	}
+
 	public static boolean hasProjectSpecificTempates(IProject project) {
 		String pref= new ProjectScope(project).getNode(JavaManipulation.getPreferenceNodeId()).get(KEY, null);
 		if (pref != null && pref.trim().length() > 0) {
@@ -1,5 +1,5 @@
 /**
- * Copyright (c) 2011, 2019 Stefan Henss and others.
+ * Copyright (c) 2011, 2026 Stefan Henss and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -12,11 +12,12 @@ package org.eclipse.jdt.internal.ui.text;
 
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 
 import org.eclipse.jdt.core.CompletionContext;
@@ -34,7 +35,7 @@ import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
 
 public final class ChainElementAnalyzer {
 
-	private static final Map<String, IType> typeCache= new HashMap<>();
+	private static final Map<String, IType> typeCache= new ConcurrentHashMap<>();
 
 	private static final Predicate<IField> NON_STATIC_FIELDS_ONLY_FILTER = t -> {
 		try {
@@ -125,7 +126,7 @@ public final class ChainElementAnalyzer {
         return tmp.values();
     }
 
-    private static List<IType> findAllSupertypesIncludingArgument(final ChainType type) {
+    static List<IType> findAllSupertypesIncludingArgument(final ChainType type) {
         if ((type.getPrimitiveType() != null)) {
             return Collections.emptyList();
         }
@@ -293,7 +294,7 @@ public final class ChainElementAnalyzer {
 			if (resType != null) {
 				String fqExpectedType= JavaModelUtil.concatenateName(resType[0][0], resType[0][1]);
 				res= proj.findType(fqExpectedType);
-				if (isResolved) {
+				if (isResolved && res != null) {
 					typeCache.put(typeSig, res);
 				}
 				return res;
@@ -304,6 +305,23 @@ public final class ChainElementAnalyzer {
 		return null;
 	}
 
+	/**
+	 * Discards the types cached by {@link #getTypeFromSignature(IJavaProject, String, IType)}.
+	 */
+	static void flushTypeCache() {
+		typeCache.clear();
+	}
+
+	/**
+	 * Discards the cached types that are declared in one of the given compilation units or class
+	 * files.
+	 *
+	 * @param typeRoots the handle identifiers of the compilation units and class files
+	 */
+	static void flushTypeCache(final Set<String> typeRoots) {
+		typeCache.values().removeIf(type -> typeRoots.contains(type.getTypeRoot().getHandleIdentifier()));
+	}
+
 	private static boolean methodCanBeSeenBy(IMethod mb, IType invocationType) {
 		try {
 			if (Flags.isPublic(mb.getFlags())) {
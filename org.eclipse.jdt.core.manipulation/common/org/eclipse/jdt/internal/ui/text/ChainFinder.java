@@ -1,5 +1,5 @@
 /**
- * Copyright (c) 2010, 2020 Darmstadt University of Technology and others.
+ * Copyright (c) 2010, 2026 Darmstadt University of Technology and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,17 +11,31 @@
  */
 package org.eclipse.jdt.internal.ui.text;
 
-import java.util.Collection;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IType;
 
+import org.eclipse.jdt.internal.core.manipulation.JavaManipulationPlugin;
+import org.eclipse.jdt.internal.corext.util.ParallelRunner;
+
 import org.eclipse.jdt.internal.ui.text.ChainElement.ElementType;
 
+/**
+ * Searches chains of field accesses and method calls that lead from a set of entrypoints to an
+ * expected type. The search is breadth first, one chain length at a time. Before a level is
+ * expanded, the members of all types on that level are looked up concurrently in the shared
+ * {@link ChainTypeGraph}, so repeated requests and later levels mostly hit the cache.
+ */
 public class ChainFinder {
 
 	private final List<ChainType> expectedTypes;
@@ -32,11 +46,7 @@ public class ChainFinder {
 
 	private final List<Chain> chains= new LinkedList<>();
 
-	private final Map<IJavaElement, ChainElement> edgeCache= new HashMap<>();
-
-	private final Map<String, List<IJavaElement>> fieldsAndMethodsCache= new HashMap<>();
-
-	private final Map<String, Boolean> assignableCache= new HashMap<>();
+	private final ChainTypeGraph typeGraph= ChainTypeGraph.getDefault();
 
 	private volatile boolean isCanceled;
 
@@ -68,23 +78,67 @@ public class ChainFinder {
 
 	private void searchChainsForExpectedType(final ChainType expectedType, final int expectedDimensions,
 			final List<ChainElement> entrypoints, final int maxChains, final int minDepth, final int maxDepth) {
-		final LinkedList<LinkedList<ChainElement>> incompleteChains= prepareQueue(entrypoints);
+		LinkedList<LinkedList<ChainElement>> incompleteChains= prepareQueue(entrypoints);
 
 		while (!incompleteChains.isEmpty() && !isCanceled) {
-			final LinkedList<ChainElement> chain= incompleteChains.poll();
-			final ChainElement edge= chain.getLast();
-			if (isValidEndOfChain(edge, expectedType, expectedDimensions)) {
-				if (chain.size() >= minDepth) {
-					chains.add(new Chain(chain, expectedDimensions));
-					if (chains.size() == maxChains) {
-						break;
+			prefetchFieldsAndMethods(incompleteChains, maxDepth);
+			final LinkedList<LinkedList<ChainElement>> nextLevel= new LinkedList<>();
+			while (!incompleteChains.isEmpty() && !isCanceled) {
+				final LinkedList<ChainElement> chain= incompleteChains.poll();
+				final ChainElement edge= chain.getLast();
+				if (isValidEndOfChain(edge, expectedType, expectedDimensions)) {
+					if (chain.size() >= minDepth) {
+						chains.add(new Chain(chain, expectedDimensions));
+						if (chains.size() == maxChains) {
+							return;
+						}
 					}
+					continue;
+				}
+				if (chain.size() < maxDepth && incompleteChains.size() + nextLevel.size() <= 50000) {
+					searchDeeper(chain, nextLevel, edge.getReturnType());
 				}
-				continue;
 			}
-			if (chain.size() < maxDepth && incompleteChains.size() <= 50000) {
-				searchDeeper(chain, incompleteChains, edge.getReturnType());
+			incompleteChains= nextLevel;
+		}
+	}
+
+	/**
+	 * Looks up the members of the types that the given chains may be extended with, using the
+	 * shared worker pool of {@link ParallelRunner}. Only fills the shared type graph, the chains are extended in their original order
+	 * afterwards to keep the result deterministic.
+	 *
+	 * @param level the chains of the current length
+	 * @param maxDepth the maximal chain length
+	 */
+	private void prefetchFieldsAndMethods(final List<LinkedList<ChainElement>> level, final int maxDepth) {
+		final Map<String, ChainElement> lastEdges= new LinkedHashMap<>();
+		for (final LinkedList<ChainElement> chain : level) {
+			final ChainElement edge= chain.getLast();
+			if (chain.size() < maxDepth && edge.getReturnType() != null && edge.getReturnType().getType() != null) {
+				final boolean staticOnly= edge.getElementType() == ElementType.TYPE;
+				lastEdges.putIfAbsent(edge.getReturnType().toString() + Boolean.toString(staticOnly), edge);
+			}
+		}
+		if (lastEdges.size() < 2) {
+			return;
+		}
+		final List<ChainElement> edges= new ArrayList<>(lastEdges.values());
+		final IProgressMonitor monitor= new NullProgressMonitor() {
+			@Override
+			public boolean isCanceled() {
+				return ChainFinder.this.isCanceled;
 			}
+		};
+		try {
+			ParallelRunner.run(edges.size(), i -> {
+				final ChainElement edge= edges.get(i);
+				typeGraph.getFieldsAndMethods(edge.getReturnType(), edge.getElementType() == ElementType.TYPE, receiverType);
+			}, monitor);
+		} catch (CoreException e) {
+			JavaManipulationPlugin.log(e);
+		} catch (OperationCanceledException e) {
+			// the search loop stops as well
 		}
 	}
 
@@ -134,12 +188,7 @@ public class ChainFinder {
 		if (expectedType.getPrimitiveType() != null) {
 			return expectedType.getPrimitiveType().equals(edge.getReturnType().getPrimitiveType());
 		}
-		Boolean isAssignable= assignableCache.get(edge.toString() + expectedType.toString());
-		if (isAssignable == null) {
-			isAssignable= ChainElementAnalyzer.isAssignable(edge, expectedType.getType(), expectedDimension);
-			assignableCache.put(edge.toString() + expectedType.toString(), isAssignable);
-		}
-		return isAssignable;
+		return typeGraph.isAssignable(edge, expectedType, expectedDimension);
 	}
 
 	private void searchDeeper(final LinkedList<ChainElement> chain,
@@ -158,29 +207,17 @@ public class ChainFinder {
 	}
 
 	private List<IJavaElement> findAllFieldsAndMethods(final ChainType chainElementType, boolean staticOnly) {
-		List<IJavaElement> cached= fieldsAndMethodsCache.get(chainElementType.toString() + Boolean.toString(staticOnly));
-		if (cached == null) {
-			cached= new LinkedList<>();
-			Collection<IJavaElement> candidates= staticOnly
-					? ChainElementAnalyzer.findAllPublicStaticFieldsAndNonVoidNonPrimitiveStaticMethods(chainElementType, new ChainType(receiverType))
-					: ChainElementAnalyzer.findVisibleInstanceFieldsAndRelevantInstanceMethods(chainElementType, new ChainType(receiverType));
-			for (final IJavaElement e : candidates) {
-				if (!ChainFinder.isFromExcludedType(excludedTypes, e)) {
-					cached.add(e);
-				}
+		final List<IJavaElement> result= new LinkedList<>();
+		for (final IJavaElement e : typeGraph.getFieldsAndMethods(chainElementType, staticOnly, receiverType)) {
+			if (!ChainFinder.isFromExcludedType(excludedTypes, e)) {
+				result.add(e);
 			}
-			fieldsAndMethodsCache.put(chainElementType.toString() + Boolean.toString(staticOnly), cached);
 		}
-		return cached;
+		return result;
 	}
 
 	private ChainElement createEdge(final IJavaElement member) {
-		ChainElement cached= edgeCache.get(member);
-		if (cached == null) {
-			cached= new ChainElement(member, false);
-			edgeCache.put(member, cached);
-		}
-		return cached;
+		return typeGraph.getEdge(member);
 	}
 
 	private static LinkedList<ChainElement> cloneChainAndAppendEdge(final LinkedList<ChainElement> chain,
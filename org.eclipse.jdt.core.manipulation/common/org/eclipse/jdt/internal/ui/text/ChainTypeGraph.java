@@ -0,0 +1,344 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.text;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.ITypeRoot;
+import org.eclipse.jdt.core.JavaCore;
+
+/**
+ * Workspace wide type graph shared by all {@link ChainFinder}s. For each type it remembers the
+ * fields and methods that can be used to navigate from that type, and the type these members
+ * return. Each of its caches keeps a bounded number of the most recently used entries, so that
+ * the graph does not grow with every type ever completed on.
+ * <p>
+ * Every entry remembers the compilation units and class files that declare the types it was
+ * computed from, including all supertypes. When the Java model reports a change that may affect
+ * the members or supertypes of the types in a compilation unit, either on save or on reconcile,
+ * only the entries that depend on that unit are discarded. Classpath changes discard everything.
+ * </p>
+ * <p>
+ * This class is thread safe.
+ * </p>
+ */
+public final class ChainTypeGraph {
+
+	private static final int CLASSPATH_FLAGS= IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED
+			| IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED | IJavaElementDelta.F_ADDED_TO_CLASSPATH | IJavaElementDelta.F_REMOVED_FROM_CLASSPATH
+			| IJavaElementDelta.F_OPENED | IJavaElementDelta.F_CLOSED;
+
+	private static final int STRUCTURAL_FLAGS= IJavaElementDelta.F_SUPER_TYPES | IJavaElementDelta.F_MODIFIERS;
+
+	private static final int MAX_EDGES= 10000;
+
+	private static final int MAX_TYPES= 2000;
+
+	private static final int MAX_ASSIGNABLE= 10000;
+
+	/**
+	 * A cached value and the handle identifiers of the type roots it was computed from.
+	 */
+	private static final class Entry<V> {
+		final V value;
+		final Set<String> typeRoots;
+
+		Entry(final V value, final Set<String> typeRoots) {
+			this.value= value;
+			this.typeRoots= typeRoots;
+		}
+	}
+
+	/**
+	 * A map that keeps the most recently used entries. Values are computed outside of the lock,
+	 * so two threads may compute the same value, the first one is kept.
+	 */
+	private static final class LRUCache<K, V> {
+
+		private final Map<K, Entry<V>> map;
+
+		LRUCache(final int maxSize) {
+			map= new LinkedHashMap<K, Entry<V>>(64, 0.75f, true) {
+				private static final long serialVersionUID= 1L;
+
+				@Override
+				protected boolean removeEldestEntry(final Map.Entry<K, Entry<V>> eldest) {
+					return size() > maxSize;
+				}
+			};
+		}
+
+		V computeIfAbsent(final K key, final Function<K, V> function, final Function<V, Set<String>> typeRoots) {
+			Entry<V> entry;
+			synchronized (map) {
+				entry= map.get(key);
+			}
+			if (entry == null) {
+				final V value= function.apply(key);
+				entry= new Entry<>(value, typeRoots.apply(value));
+				synchronized (map) {
+					final Entry<V> existing= map.putIfAbsent(key, entry);
+					if (existing != null) {
+						entry= existing;
+					}
+				}
+			}
+			return entry.value;
+		}
+
+		void removeAll(final Set<String> changedTypeRoots) {
+			synchronized (map) {
+				map.values().removeIf(entry -> !Collections.disjoint(entry.typeRoots, changedTypeRoots));
+			}
+		}
+
+		void clear() {
+			synchronized (map) {
+				map.clear();
+			}
+		}
+	}
+
+	private static ChainTypeGraph fgDefault;
+
+	private final LRUCache<IJavaElement, ChainElement> edges= new LRUCache<>(MAX_EDGES);
+
+	private final LRUCache<String, List<IJavaElement>> fieldsAndMethods= new LRUCache<>(MAX_TYPES);
+
+	private final LRUCache<String, Boolean> assignable= new LRUCache<>(MAX_ASSIGNABLE);
+
+	private final IElementChangedListener listener= event -> {
+		final Set<String> changedTypeRoots= new HashSet<>();
+		if (collectChangedTypeRoots(event.getDelta(), changedTypeRoots)) {
+			flush();
+		} else if (!changedTypeRoots.isEmpty()) {
+			invalidate(changedTypeRoots);
+		}
+	};
+
+	private ChainTypeGraph() {
+		JavaCore.addElementChangedListener(listener, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+	}
+
+	/**
+	 * Returns the shared type graph.
+	 *
+	 * @return the shared type graph
+	 */
+	public static synchronized ChainTypeGraph getDefault() {
+		if (fgDefault == null) {
+			fgDefault= new ChainTypeGraph();
+		}
+		return fgDefault;
+	}
+
+	/**
+	 * Releases the shared type graph and stops listening to Java model changes.
+	 */
+	public static synchronized void shutdown() {
+		if (fgDefault != null) {
+			JavaCore.removeElementChangedListener(fgDefault.listener);
+			fgDefault.flush();
+			fgDefault= null;
+		}
+	}
+
+	/**
+	 * Returns the edge for the given field or method.
+	 *
+	 * @param member the member
+	 * @return the edge
+	 */
+	public ChainElement getEdge(final IJavaElement member) {
+		return edges.computeIfAbsent(member, m -> new ChainElement(m, false), edge -> {
+			final Set<String> typeRoots= new HashSet<>();
+			addTypeRoot(member, typeRoots);
+			if (edge.getReturnType() != null) {
+				addTypeRoot(edge.getReturnType().getType(), typeRoots);
+			}
+			return typeRoots;
+		});
+	}
+
+	/**
+	 * Returns the fields and methods that the given receiver type can use to navigate away from
+	 * the given type. Members of excluded types are not filtered, see
+	 * {@link ChainFinder#isFromExcludedType(List, IJavaElement)}.
+	 *
+	 * @param type the type to navigate from
+	 * @param staticOnly whether only static members are of interest
+	 * @param receiverType the type in which the chain is invoked, used for visibility checks
+	 * @return the fields and methods, never <code>null</code>
+	 */
+	public List<IJavaElement> getFieldsAndMethods(final ChainType type, final boolean staticOnly, final IType receiverType) {
+		final String key= type.toString() + Boolean.toString(staticOnly) + '|' + (receiverType == null ? "" : receiverType.getHandleIdentifier()); //$NON-NLS-1$
+		return fieldsAndMethods.computeIfAbsent(key, k -> {
+			final Collection<IJavaElement> candidates= staticOnly
+					? ChainElementAnalyzer.findAllPublicStaticFieldsAndNonVoidNonPrimitiveStaticMethods(type, new ChainType(receiverType))
+					: ChainElementAnalyzer.findVisibleInstanceFieldsAndRelevantInstanceMethods(type, new ChainType(receiverType));
+			return Collections.unmodifiableList(new ArrayList<>(candidates));
+		}, members -> {
+			final Set<String> typeRoots= getSupertypeRoots(type);
+			addTypeRoot(receiverType, typeRoots);
+			return typeRoots;
+		});
+	}
+
+	/**
+	 * Tells whether the return type of the given edge is assignable to the expected type.
+	 *
+	 * @param edge the edge
+	 * @param expectedType the expected type
+	 * @param expectedDimension the expected array dimension
+	 * @return <code>true</code> if the edge's return type is assignable
+	 */
+	public boolean isAssignable(final ChainElement edge, final ChainType expectedType, final int expectedDimension) {
+		final String key= edge.getElement().getHandleIdentifier() + '|' + expectedType.toString() + '[' + expectedDimension;
+		return assignable.computeIfAbsent(key, k -> Boolean.valueOf(ChainElementAnalyzer.isAssignable(edge, expectedType.getType(), expectedDimension)), result -> {
+			final Set<String> typeRoots= getSupertypeRoots(edge.getReturnType());
+			addTypeRoot(edge.getElement(), typeRoots);
+			addTypeRoot(expectedType.getType(), typeRoots);
+			return typeRoots;
+		}).booleanValue();
+	}
+
+	/**
+	 * Discards all cached information.
+	 */
+	public void flush() {
+		edges.clear();
+		fieldsAndMethods.clear();
+		assignable.clear();
+		ChainElementAnalyzer.flushTypeCache();
+	}
+
+	/**
+	 * Discards the cached information that depends on a type declared in one of the given
+	 * compilation units or class files.
+	 *
+	 * @param typeRoots the handle identifiers of the changed compilation units and class files
+	 */
+	public void invalidate(final Set<String> typeRoots) {
+		ChainElementAnalyzer.flushTypeCache(typeRoots);
+		edges.removeAll(typeRoots);
+		fieldsAndMethods.removeAll(typeRoots);
+		assignable.removeAll(typeRoots);
+	}
+
+	private static Set<String> getSupertypeRoots(final ChainType type) {
+		final Set<String> typeRoots= new HashSet<>();
+		if (type != null && type.getType() != null) {
+			for (final IType supertype : ChainElementAnalyzer.findAllSupertypesIncludingArgument(type)) {
+				addTypeRoot(supertype, typeRoots);
+			}
+		}
+		return typeRoots;
+	}
+
+	private static void addTypeRoot(final IJavaElement element, final Set<String> typeRoots) {
+		final ITypeRoot typeRoot= getTypeRoot(element);
+		if (typeRoot != null) {
+			typeRoots.add(typeRoot.getHandleIdentifier());
+		}
+	}
+
+	private static ITypeRoot getTypeRoot(final IJavaElement element) {
+		if (element == null) {
+			return null;
+		}
+		final IJavaElement typeRoot= element.getAncestor(IJavaElement.COMPILATION_UNIT);
+		if (typeRoot != null) {
+			return (ITypeRoot) typeRoot;
+		}
+		return (ITypeRoot) element.getAncestor(IJavaElement.CLASS_FILE);
+	}
+
+	/**
+	 * Collects the compilation units and class files whose types may have changed their members,
+	 * their member signatures or their supertypes. Changes inside of method bodies are reported as
+	 * fine grained deltas on the compilation unit without affected members and are ignored.
+	 *
+	 * @param delta the delta
+	 * @param changedTypeRoots collects the handle identifiers of the changed type roots
+	 * @return <code>true</code> if the whole graph needs to be flushed
+	 */
+	private static boolean collectChangedTypeRoots(final IJavaElementDelta delta, final Set<String> changedTypeRoots) {
+		final IJavaElement element= delta.getElement();
+		if (element.getElementType() < IJavaElement.COMPILATION_UNIT) {
+			// the model, a project, a package fragment root or a package
+			if (delta.getKind() != IJavaElementDelta.CHANGED || (delta.getFlags() & CLASSPATH_FLAGS) != 0) {
+				return true;
+			}
+			for (final IJavaElementDelta child : delta.getAffectedChildren()) {
+				if (collectChangedTypeRoots(child, changedTypeRoots)) {
+					return true;
+				}
+			}
+			return false;
+		}
+		if (isStructuralChange(delta)) {
+			final ITypeRoot typeRoot= getTypeRoot(element);
+			if (typeRoot == null) {
+				return true;
+			}
+			changedTypeRoots.add(typeRoot.getHandleIdentifier());
+		}
+		return false;
+	}
+
+	/**
+	 * Tells whether the given delta on a compilation unit, a class file or one of their elements
+	 * may change the members, the member signatures or the supertypes of a type.
+	 *
+	 * @param delta the delta
+	 * @return <code>true</code> if the types of the enclosing type root have changed
+	 */
+	private static boolean isStructuralChange(final IJavaElementDelta delta) {
+		if (delta.getKind() != IJavaElementDelta.CHANGED) {
+			return true;
+		}
+		final int flags= delta.getFlags();
+		if ((flags & STRUCTURAL_FLAGS) != 0) {
+			return true;
+		}
+		final int elementType= delta.getElement().getElementType();
+		if (elementType > IJavaElement.COMPILATION_UNIT && elementType != IJavaElement.IMPORT_CONTAINER
+				&& elementType != IJavaElement.IMPORT_DECLARATION && elementType != IJavaElement.PACKAGE_DECLARATION) {
+			// a member was changed, added or removed
+			return true;
+		}
+		if (elementType == IJavaElement.COMPILATION_UNIT && (flags & IJavaElementDelta.F_CONTENT) != 0 && (flags & IJavaElementDelta.F_FINE_GRAINED) == 0) {
+			return true;
+		}
+		for (final IJavaElementDelta child : delta.getAffectedChildren()) {
+			if (isStructuralChange(child)) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -181,6 +181,36 @@ public class RenameAnalyzeUtil {
 		return null;
 	}
 
+	/**
+	 * Tells whether the given identifier occurs as a whole word in the source of any of the given
+	 * compilation units. Comments and string literals are not excluded, so the answer may be a
+	 * false positive, but never a false negative. Sources with unicode escapes are always reported
+	 * as possible matches.
+	 *
+	 * @param cus the compilation units to check
+	 * @param identifier the identifier
+	 * @return <code>true</code> if the identifier may occur in one of the compilation units
+	 * @throws JavaModelException if the source of a compilation unit cannot be accessed
+	 */
+	public static boolean mayContainIdentifier(ICompilationUnit[] cus, String identifier) throws JavaModelException {
+		for (ICompilationUnit cu : cus) {
+			String source= cu.getSource();
+			if (source == null || source.indexOf("\\u") != -1) //$NON-NLS-1$
+				return true;
+			int length= identifier.length();
+			int index= source.indexOf(identifier);
+			while (index != -1) {
+				int end= index + length;
+				boolean startsWord= index == 0 || !Character.isJavaIdentifierPart(source.charAt(index - 1));
+				boolean endsWord= end == source.length() || !Character.isJavaIdentifierPart(source.charAt(end));
+				if (startsWord && endsWord)
+					return true;
+				index= source.indexOf(identifier, end);
+			}
+		}
+		return false;
+	}
+
 	public static ICompilationUnit[] createNewWorkingCopies(ICompilationUnit[] compilationUnitsToModify, TextChangeManager manager, WorkingCopyOwner owner, SubProgressMonitor pm) throws CoreException {
 		pm.beginTask("", compilationUnitsToModify.length); //$NON-NLS-1$
 		ICompilationUnit[] newWorkingCopies= new ICompilationUnit[compilationUnitsToModify.length];
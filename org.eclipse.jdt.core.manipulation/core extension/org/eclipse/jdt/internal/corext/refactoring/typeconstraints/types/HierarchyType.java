@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,8 +13,6 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types;
 
-import java.util.Map;
-
 import org.eclipse.core.runtime.Assert;
 
 import org.eclipse.jdt.core.IType;
@@ -25,9 +23,11 @@ public abstract class HierarchyType extends TType {
 	private HierarchyType fSuperclass;
 	private HierarchyType[] fInterfaces;
 	private IType fJavaElementType;
+	private final int fHierarchyId;
 
 	protected HierarchyType(TypeEnvironment environment) {
 		super(environment);
+		fHierarchyId= environment.nextHierarchyTypeId();
 	}
 
 	protected void initialize(ITypeBinding binding, IType javaElementType) {
@@ -62,14 +62,12 @@ public abstract class HierarchyType extends TType {
 
 	public boolean isSubType(HierarchyType other) {
 		if (getEnvironment() == other.getEnvironment()) {
-			Map<TypeTuple, Boolean> cache= getEnvironment().getSubTypeCache();
-			TypeTuple key= new TypeTuple(this, other);
-			Boolean value= cache.get(key);
+			SubTypeMemo memo= getEnvironment().getSubTypeMemo();
+			Boolean value= memo.get(fHierarchyId, other.fHierarchyId);
 			if (value != null)
-				return value;
+				return value.booleanValue();
 			boolean isSub= doIsSubType(other);
-			value= isSub;
-			cache.put(key, value);
+			memo.put(fHierarchyId, other.fHierarchyId, isSub);
 			return isSub;
 		}
 		return doIsSubType(other);
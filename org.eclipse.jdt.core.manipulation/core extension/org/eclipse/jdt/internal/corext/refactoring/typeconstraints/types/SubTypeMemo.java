@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types;
+
+/**
+ * Remembers the results of subtype checks between {@link HierarchyType}s of one
+ * {@link TypeEnvironment}. Pairs of types are keyed by their hierarchy ids and stored in an open
+ * addressing table of primitive <code>long</code>s, so that lookups neither allocate nor box.
+ * The memo is flushed when it grows too big.
+ * <p>
+ * This class is not thread safe.
+ * </p>
+ */
+public final class SubTypeMemo {
+
+	private static final int INITIAL_CAPACITY= 1 << 10;
+	/**
+	 * The number of entries after which the memo is flushed.
+	 */
+	public static final int MAX_ENTRIES= 1 << 20;
+
+	private static final byte UNKNOWN= 0;
+	private static final byte NO= 1;
+	private static final byte YES= 2;
+
+	/** Open addressing table, <code>0</code> marks a free slot. */
+	private long[] fKeys= new long[INITIAL_CAPACITY];
+	private byte[] fValues= new byte[INITIAL_CAPACITY];
+	private int fSize;
+
+	/**
+	 * Looks up a remembered subtype check.
+	 *
+	 * @param subId the hierarchy id of the potential subtype, must be positive
+	 * @param superId the hierarchy id of the potential supertype, must be positive
+	 * @return {@link Boolean#TRUE} or {@link Boolean#FALSE} if the result is known,
+	 *         <code>null</code> otherwise
+	 */
+	public Boolean get(int subId, int superId) {
+		long key= key(subId, superId);
+		int mask= fKeys.length - 1;
+		for (int i= hash(key) & mask; fKeys[i] != 0; i= (i + 1) & mask) {
+			if (fKeys[i] == key)
+				return fValues[i] == YES ? Boolean.TRUE : Boolean.FALSE;
+		}
+		return null;
+	}
+
+	/**
+	 * Remembers the result of a subtype check.
+	 *
+	 * @param subId the hierarchy id of the potential subtype, must be positive
+	 * @param superId the hierarchy id of the potential supertype, must be positive
+	 * @param isSubType the result of the check
+	 */
+	public void put(int subId, int superId, boolean isSubType) {
+		if (fSize >= MAX_ENTRIES) {
+			fKeys= new long[INITIAL_CAPACITY];
+			fValues= new byte[INITIAL_CAPACITY];
+			fSize= 0;
+		} else if (2 * (fSize + 1) > fKeys.length) {
+			rehash(2 * fKeys.length);
+		}
+		insert(key(subId, superId), isSubType ? YES : NO);
+	}
+
+	/**
+	 * @return the number of remembered checks
+	 */
+	public int size() {
+		return fSize;
+	}
+
+	private void insert(long key, byte value) {
+		int mask= fKeys.length - 1;
+		int i= hash(key) & mask;
+		while (fKeys[i] != 0) {
+			if (fKeys[i] == key) {
+				fValues[i]= value;
+				return;
+			}
+			i= (i + 1) & mask;
+		}
+		fKeys[i]= key;
+		fValues[i]= value;
+		fSize++;
+	}
+
+	private void rehash(int capacity) {
+		long[] oldKeys= fKeys;
+		byte[] oldValues= fValues;
+		fKeys= new long[capacity];
+		fValues= new byte[capacity];
+		fSize= 0;
+		for (int i= 0; i < oldKeys.length; i++) {
+			if (oldKeys[i] != 0 && oldValues[i] != UNKNOWN)
+				insert(oldKeys[i], oldValues[i]);
+		}
+	}
+
+	private static long key(int subId, int superId) {
+		return ((long) subId << 32) | (superId & 0xFFFFFFFFL);
+	}
+
+	private static int hash(long key) {
+		long h= key * 0x9E3779B97F4A7C15L;
+		return (int) (h ^ (h >>> 32));
+	}
+}
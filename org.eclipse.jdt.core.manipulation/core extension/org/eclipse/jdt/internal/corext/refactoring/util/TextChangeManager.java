@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,9 +15,12 @@
 package org.eclipse.jdt.internal.corext.refactoring.util;
 
 import java.util.Arrays;
-import java.util.HashMap;
+import java.util.Comparator;
 import java.util.Map;
-import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.runtime.Assert;
+import org.eclipse.core.runtime.IPath;
 
 import org.eclipse.ltk.core.refactoring.TextChange;
 
@@ -28,10 +31,23 @@ import org.eclipse.jdt.core.refactoring.CompilationUnitChange;
 /**
  * A <code>TextChangeManager</code> manages associations between <code>ICompilationUnit</code>
  * or <code>IFile</code> and <code>TextChange</code> objects.
+ * <p>
+ * The associations can be queried and modified from several threads at once, e.g. when the edits
+ * for different compilation units are computed concurrently. A single <code>TextChange</code> is
+ * not thread safe and must only be modified by one thread at a time.
+ * </p>
+ * <p>
+ * Compilation units passed to {@link #manage(ICompilationUnit, TextChange)} and
+ * {@link #get(ICompilationUnit)} must not be <code>null</code>. The queries and
+ * {@link #remove(ICompilationUnit)} accept <code>null</code> and treat it as a compilation unit
+ * without changes.
+ * </p>
  */
 public class TextChangeManager {
 
-	private Map<ICompilationUnit, TextChange> fMap= new HashMap<>(10);
+	private static final Comparator<ICompilationUnit> BY_PATH= Comparator.comparing((ICompilationUnit cu) -> getPathString(cu)).thenComparing(ICompilationUnit::getElementName);
+
+	private Map<ICompilationUnit, TextChange> fMap= new ConcurrentHashMap<>(10);
 
 	private final boolean fKeepExecutedTextEdits;
 
@@ -47,56 +63,57 @@ public class TextChangeManager {
 	 * Adds an association between the given compilation unit and the passed
 	 * change to this manager.
 	 *
-	 * @param cu the compilation unit (key)
-	 * @param change the change associated with the compilation unit
+	 * @param cu the compilation unit (key), must not be <code>null</code>
+	 * @param change the change associated with the compilation unit, or <code>null</code> to
+	 *            remove the association
 	 */
 	public void manage(ICompilationUnit cu, TextChange change) {
-		fMap.put(cu, change);
+		Assert.isNotNull(cu);
+		if (change == null)
+			fMap.remove(cu);
+		else
+			fMap.put(cu, change);
 	}
 
 	/**
 	 * Returns the <code>TextChange</code> associated with the given compilation unit.
 	 * If the manager does not already manage an association it creates a one.
 	 *
-	 * @param cu the compilation unit for which the text buffer change is requested
+	 * @param cu the compilation unit for which the text buffer change is requested, must not be
+	 *            <code>null</code>
 	 * @return the text change associated with the given compilation unit.
 	 */
 	public TextChange get(ICompilationUnit cu) {
-		TextChange result= fMap.get(cu);
-		if (result == null) {
-			result= new CompilationUnitChange(cu.getElementName(), cu);
+		Assert.isNotNull(cu);
+		return fMap.computeIfAbsent(cu, unit -> {
+			TextChange result= new CompilationUnitChange(unit.getElementName(), unit);
 			result.setKeepPreviewEdits(fKeepExecutedTextEdits);
-			fMap.put(cu, result);
-		}
-		return result;
+			return result;
+		});
 	}
 
 	/**
 	 * Removes the <tt>TextChange</tt> managed under the given key
 	 * <code>unit<code>.
 	 *
-	 * @param unit the key determining the <tt>TextChange</tt> to be removed.
-	 * @return the removed <tt>TextChange</tt>.
+	 * @param unit the key determining the <tt>TextChange</tt> to be removed, may be
+	 *            <code>null</code>.
+	 * @return the removed <tt>TextChange</tt>, or <code>null</code> if there was none.
 	 */
 	public TextChange remove(ICompilationUnit unit) {
+		if (unit == null)
+			return null;
 		return fMap.remove(unit);
 	}
 
 	/**
-	 * Returns all text changes managed by this instance.
+	 * Returns all text changes managed by this instance, ordered by the path of their compilation
+	 * units. The order does not depend on the order in which the changes have been created.
 	 *
 	 * @return all text changes managed by this instance
 	 */
 	public TextChange[] getAllChanges(){
-		Set<ICompilationUnit> cuSet= fMap.keySet();
-		ICompilationUnit[] cus= cuSet.toArray(new ICompilationUnit[cuSet.size()]);
-		// sort by cu name:
-		Arrays.sort(cus, (o1, o2) -> {
-			String name1= o1.getElementName();
-			String name2= o2.getElementName();
-			return name1.compareTo(name2);
-		});
-
+		ICompilationUnit[] cus= getAllCompilationUnits();
 		TextChange[] textChanges= new TextChange[cus.length];
 		for (int i= 0; i < cus.length; i++) {
 			textChanges[i]= fMap.get(cus[i]);
@@ -105,12 +122,14 @@ public class TextChangeManager {
 	}
 
 	/**
-	 * Returns all compilation units managed by this instance.
+	 * Returns all compilation units managed by this instance, ordered by their path.
 	 *
 	 * @return all compilation units managed by this instance
 	 */
 	public ICompilationUnit[] getAllCompilationUnits(){
-		return fMap.keySet().toArray(new ICompilationUnit[fMap.size()]);
+		ICompilationUnit[] cus= fMap.keySet().toArray(new ICompilationUnit[0]);
+		Arrays.sort(cus, BY_PATH);
+		return cus;
 	}
 
 	/**
@@ -123,11 +142,16 @@ public class TextChangeManager {
 	/**
 	 * Returns if any text changes are managed for the specified compilation unit.
 	 *
-	 * @param cu the compilation unit
+	 * @param cu the compilation unit, may be <code>null</code>
 	 * @return <code>true</code> if any text changes are managed for the specified compilation unit and <code>false</code> otherwise
 	 */
 	public boolean containsChangesIn(ICompilationUnit cu){
-		return fMap.containsKey(cu);
+		return cu != null && fMap.containsKey(cu);
+	}
+
+	private static String getPathString(ICompilationUnit cu) {
+		IPath path= cu.getPath();
+		return path == null ? "" : path.toString(); //$NON-NLS-1$
 	}
 }
 
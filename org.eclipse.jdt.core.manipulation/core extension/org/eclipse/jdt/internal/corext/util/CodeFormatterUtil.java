@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -252,7 +252,30 @@ public class CodeFormatterUtil {
 	 * @return the formatted source string
 	 */
 	public static String format(int kind, String source, int indentationLevel, String lineSeparator, Map<String, String> options) {
-		TextEdit edit= format2(kind, source, indentationLevel, lineSeparator, options);
+		return format(ToolFactory.createCodeFormatter(options), kind, source, indentationLevel, lineSeparator);
+	}
+
+	/**
+	 * Formats the given string with the given formatter. Clients that format many snippets with
+	 * the same options should create the formatter once and use this method.
+	 *
+	 * @param formatter
+	 *        The formatter to use, e.g. created by {@link ToolFactory#createCodeFormatter(Map)}
+	 * @param kind
+	 *        Use to specify the kind of the code snippet to format.
+	 *        It can be any of the kind constants defined in {@link CodeFormatter}
+	 * @param source
+	 *        The source to format
+	 * @param indentationLevel
+	 *        The initial indentation level, used to shift left/right the entire source fragment.
+	 *        An initial indentation level of zero or below has no effect.
+	 * @param lineSeparator
+	 *        The line separator to use in formatted source,
+	 *        if set to <code>null</code>, then the platform default one will be used.
+	 * @return the formatted source string
+	 */
+	public static String format(CodeFormatter formatter, int kind, String source, int indentationLevel, String lineSeparator) {
+		TextEdit edit= formatter.format(kind, source, 0, source.length(), indentationLevel, lineSeparator);
 		if (edit == null) {
 			return source;
 		} else {
@@ -0,0 +1,126 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.util;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+
+/**
+ * Runs independent tasks, such as reading, searching or parsing compilation units, on a small
+ * pool of threads that is shared by all callers.
+ * <p>
+ * The calling thread works on the tasks as well, so a call always makes progress, even if all
+ * threads of the pool are busy, and calls made from a task do not wait for the pool. The tasks
+ * must not depend on each other and must not require the UI thread.
+ * </p>
+ */
+public final class ParallelRunner {
+
+	/**
+	 * A task that is run for each index.
+	 */
+	@FunctionalInterface
+	public interface Task {
+
+		/**
+		 * Runs the task for the given index.
+		 *
+		 * @param index the index, between 0 and the number of tasks (exclusive)
+		 * @throws CoreException if the task fails, no further tasks are started then
+		 */
+		void run(int index) throws CoreException;
+	}
+
+	private static final int MAX_THREADS= Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+
+	private static final ThreadPoolExecutor EXECUTOR;
+	static {
+		EXECUTOR= new ThreadPoolExecutor(MAX_THREADS, MAX_THREADS, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+			Thread thread= new Thread(runnable, "JDT UI Worker"); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		EXECUTOR.allowCoreThreadTimeOut(true);
+	}
+
+	/**
+	 * Runs the given task for the indices <code>0</code> to <code>count - 1</code> and waits
+	 * until all started tasks have finished. After a task failed or the monitor was cancelled, no
+	 * further tasks are started.
+	 *
+	 * @param count the number of tasks
+	 * @param task the task
+	 * @param monitor the monitor that is checked for cancellation, is not advanced
+	 * @throws CoreException the exception of the first task that failed
+	 * @throws OperationCanceledException if the monitor was cancelled
+	 */
+	public static void run(int count, Task task, IProgressMonitor monitor) throws CoreException {
+		AtomicInteger next= new AtomicInteger();
+		AtomicReference<CoreException> failure= new AtomicReference<>();
+		AtomicReference<Throwable> uncheckedFailure= new AtomicReference<>();
+		CountDownLatch finished= new CountDownLatch(count);
+		Runnable worker= () -> {
+			for (int i= next.getAndIncrement(); i < count; i= next.getAndIncrement()) {
+				try {
+					if (failure.get() == null && uncheckedFailure.get() == null && !monitor.isCanceled())
+						task.run(i);
+				} catch (CoreException e) {
+					failure.compareAndSet(null, e);
+				} catch (RuntimeException | Error e) {
+					uncheckedFailure.compareAndSet(null, e);
+				} finally {
+					finished.countDown();
+				}
+			}
+		};
+		for (int i= Math.min(MAX_THREADS, count - 1); i > 0; i--) {
+			EXECUTOR.execute(worker);
+		}
+		worker.run();
+
+		// only tasks that other threads are running are left
+		boolean interrupted= false;
+		while (true) {
+			try {
+				finished.await();
+				break;
+			} catch (InterruptedException e) {
+				interrupted= true;
+			}
+		}
+		if (interrupted)
+			Thread.currentThread().interrupt();
+
+		Throwable unchecked= uncheckedFailure.get();
+		if (unchecked instanceof RuntimeException)
+			throw (RuntimeException) unchecked;
+		if (unchecked instanceof Error)
+			throw (Error) unchecked;
+		if (failure.get() != null)
+			throw failure.get();
+		if (monitor.isCanceled())
+			throw new OperationCanceledException();
+	}
+
+	private ParallelRunner() {
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -48,6 +48,7 @@ import org.eclipse.jdt.text.tests.templates.TemplatesTestSuite;
 	MarkOccurrenceTest.class,
 	MarkOccurrenceTest1d7.class,
 	MarkOccurrenceTest1d8.class,
+	OccurrencesIndexTest.class,
 	PluginsNotLoadedTest.class,
 //	PluginsNotLoadedTest.addLoadedPlugIns(
 //			new String[] {
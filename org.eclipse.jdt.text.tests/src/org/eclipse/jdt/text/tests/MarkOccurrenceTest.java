@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,7 +19,9 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.Set;
 
 import org.junit.After;
 import org.junit.Before;
@@ -85,6 +87,7 @@ public class MarkOccurrenceTest {
 	private IDocument fDocument;
 	private FindReplaceDocumentAdapter fFindReplaceDocumentAdapter;
 	private int fOccurrences;
+	private Set<Annotation> fOccurrenceAnnotations;
 	private IAnnotationModel fAnnotationModel;
 	private ISelectionListenerWithAST fSelWASTListener;
 	private IRegion fMatch;
@@ -126,16 +129,22 @@ public class MarkOccurrenceTest {
 			private void countOccurrences() {
 				synchronized (MarkOccurrenceTest.this) {
 					int occurrences= 0;
+					Set<Annotation> annotations= new HashSet<>();
 					Iterator<Annotation> iter= fAnnotationModel.getAnnotationIterator();
 					while (iter.hasNext()) {
 						Annotation annotation= iter.next();
-						if (OCCURRENCE_ANNOTATION.equals(annotation.getType()))
+						if (OCCURRENCE_ANNOTATION.equals(annotation.getType())) {
 							occurrences++;
-						if (OCCURRENCE_WRITE_ANNOTATION.equals(annotation.getType()))
+							annotations.add(annotation);
+						}
+						if (OCCURRENCE_WRITE_ANNOTATION.equals(annotation.getType())) {
 							occurrences++;
+							annotations.add(annotation);
+						}
 
 					}
 					fOccurrences= occurrences;
+					fOccurrenceAnnotations= annotations;
 				}
 			}
 		};
@@ -258,6 +267,41 @@ public class MarkOccurrenceTest {
 		assertOccurrencesInWidget();
 	}
 
+	@Test
+	public void markFieldOccurrencesKeepsAnnotations() {
+		try {
+			fMatch= fFindReplaceDocumentAdapter.find(0, "fName", true, true, true, false);
+		} catch (BadLocationException e) {
+			fail();
+		}
+		assertNotNull(fMatch);
+
+		fEditor.selectAndReveal(fMatch.getOffset(), fMatch.getLength());
+
+		assertOccurrences(9);
+		Set<Annotation> annotations;
+		synchronized (this) {
+			annotations= fOccurrenceAnnotations;
+			fOccurrences= -1;
+		}
+
+		// another occurrence of the same field keeps the annotations at unchanged positions
+		try {
+			fMatch= fFindReplaceDocumentAdapter.find(fMatch.getOffset() + fMatch.getLength(), "fName", true, true, true, false);
+		} catch (BadLocationException e) {
+			fail();
+		}
+		assertNotNull(fMatch);
+
+		fEditor.selectAndReveal(fMatch.getOffset(), fMatch.getLength());
+
+		assertOccurrences(9);
+		synchronized (this) {
+			assertEquals(annotations, fOccurrenceAnnotations);
+		}
+		assertOccurrencesInWidget();
+	}
+
 	@Test
 	public void markLocalOccurrences() {
 		try {
@@ -0,0 +1,197 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.SimpleName;
+
+import org.eclipse.jdt.internal.core.manipulation.search.IOccurrencesFinder.OccurrenceLocation;
+import org.eclipse.jdt.internal.core.manipulation.search.OccurrencesFinder;
+
+import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
+
+import org.eclipse.jdt.internal.ui.javaeditor.OccurrencesIndex;
+
+/**
+ * Tests that the occurrences index reports the occurrences found by the OccurrencesFinder.
+ */
+public class OccurrencesIndexTest {
+	@Rule
+	public ProjectTestSetup pts= new ProjectTestSetup();
+
+	private IJavaProject fJProject1;
+	private IPackageFragmentRoot fSourceFolder;
+
+	@Before
+	public void setUp() throws Exception {
+		fJProject1= pts.getProject();
+		fSourceFolder= JavaProjectHelper.addSourceContainer(fJProject1, "src");
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		JavaProjectHelper.clear(fJProject1, pts.getDefaultClasspath());
+	}
+
+	private CompilationUnit createAST() throws Exception {
+		IPackageFragment pack1= fSourceFolder.createPackageFragment("test1", false, null);
+		pack1.createCompilationUnit("A.java",
+				"package test1;\n" +
+				"public class A {\n" +
+				"	public static int COUNT;\n" +
+				"	public static void foo() {\n" +
+				"	}\n" +
+				"	public static void foo(int i) {\n" +
+				"	}\n" +
+				"}\n", false, null);
+		ICompilationUnit cu= pack1.createCompilationUnit("E.java",
+				"package test1;\n" +
+				"import static test1.A.foo;\n" +
+				"import static test1.A.COUNT;\n" +
+				"import java.util.List;\n" +
+				"public class E<T> {\n" +
+				"	private List<T> fList;\n" +
+				"	private int fCount;\n" +
+				"	public E(List<T> list) {\n" +
+				"		fList= list;\n" +
+				"		fCount= list.size();\n" +
+				"	}\n" +
+				"	void bar(E<String> e) {\n" +
+				"		foo();\n" +
+				"		foo(fCount);\n" +
+				"		A.foo(COUNT);\n" +
+				"		COUNT= e.fCount + fList.size();\n" +
+				"		for (int i= 0; i < fCount; i++) {\n" +
+				"			bar(this == e ? null : new E<String>(null));\n" +
+				"		}\n" +
+				"	}\n" +
+				"}\n", false, null);
+		ASTParser parser= ASTParser.newParser(AST.getJLSLatest());
+		parser.setSource(cu);
+		parser.setResolveBindings(true);
+		return (CompilationUnit) parser.createAST(null);
+	}
+
+	private static List<SimpleName> getNames(CompilationUnit ast) {
+		List<SimpleName> names= new ArrayList<>();
+		ast.accept(new ASTVisitor() {
+			@Override
+			public boolean visit(SimpleName node) {
+				names.add(node);
+				return true;
+			}
+		});
+		return names;
+	}
+
+	private static String[] toStrings(OccurrenceLocation[] occurrences) {
+		if (occurrences == null)
+			return new String[0];
+		String[] result= new String[occurrences.length];
+		for (int i= 0; i < occurrences.length; i++) {
+			OccurrenceLocation location= occurrences[i];
+			result[i]= location.getOffset() + "/" + location.getLength() + "/" + location.getFlags() + "/" + location.getDescription();
+		}
+		Arrays.sort(result);
+		return result;
+	}
+
+	private static String[] findOccurrences(CompilationUnit ast, SimpleName name) {
+		OccurrencesFinder finder= new OccurrencesFinder();
+		if (finder.initialize(ast, name) == null)
+			return toStrings(finder.getOccurrences());
+		return new String[0];
+	}
+
+	private static void assertIndex(CompilationUnit ast, OccurrencesIndex index, List<SimpleName> names) {
+		for (SimpleName name : names) {
+			String message= name.getIdentifier() + " at " + name.getStartPosition();
+			assertArrayEquals(message, findOccurrences(ast, name), toStrings(index.getOccurrences(name)));
+		}
+	}
+
+	@Test
+	public void testAllNames() throws Exception {
+		CompilationUnit ast= createAST();
+		List<SimpleName> names= getNames(ast);
+		OccurrencesIndex index= new OccurrencesIndex(ast);
+		assertIndex(ast, index, names);
+		// the second pass only reads the index
+		assertIndex(ast, index, names);
+	}
+
+	@Test
+	public void testAllNamesReversed() throws Exception {
+		CompilationUnit ast= createAST();
+		List<SimpleName> names= getNames(ast);
+		Collections.reverse(names);
+		assertIndex(ast, new OccurrencesIndex(ast), names);
+	}
+
+	@Test
+	public void testStaticImport() throws Exception {
+		CompilationUnit ast= createAST();
+		List<SimpleName> names= getNames(ast);
+		SimpleName imported= null;
+		SimpleName invocation= null;
+		for (SimpleName name : names) {
+			if ("foo".equals(name.getIdentifier())) {
+				if (imported == null)
+					imported= name;
+				else if (invocation == null)
+					invocation= name;
+			}
+		}
+		assertNotNull(imported);
+		assertNotNull(invocation);
+
+		// the import matches all invocations of foo, an invocation only those of the same method
+		String[] importOccurrences= findOccurrences(ast, imported);
+		String[] invocationOccurrences= findOccurrences(ast, invocation);
+		assertEquals(4, importOccurrences.length);
+		assertEquals(2, invocationOccurrences.length);
+
+		OccurrencesIndex index= new OccurrencesIndex(ast);
+		assertArrayEquals(invocationOccurrences, toStrings(index.getOccurrences(invocation)));
+		assertArrayEquals(importOccurrences, toStrings(index.getOccurrences(imported)));
+		assertArrayEquals(invocationOccurrences, toStrings(index.getOccurrences(invocation)));
+
+		index= new OccurrencesIndex(ast);
+		assertArrayEquals(importOccurrences, toStrings(index.getOccurrences(imported)));
+		assertArrayEquals(invocationOccurrences, toStrings(index.getOccurrences(invocation)));
+	}
+}
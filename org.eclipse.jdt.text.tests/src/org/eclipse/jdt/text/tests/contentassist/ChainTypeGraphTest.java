@@ -0,0 +1,155 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests.contentassist;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.jdt.core.IBuffer;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+
+import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
+
+import org.eclipse.jdt.internal.ui.text.ChainType;
+import org.eclipse.jdt.internal.ui.text.ChainTypeGraph;
+
+public class ChainTypeGraphTest {
+
+	@Rule
+	public ProjectTestSetup pts= new ProjectTestSetup();
+
+	private IJavaProject fJProject;
+
+	private IPackageFragment fPack;
+
+	private ChainTypeGraph fGraph;
+
+	@Before
+	public void setUp() throws Exception {
+		fJProject= JavaProjectHelper.createJavaProject("TestProject", "bin");
+		JavaProjectHelper.addRTJar18(fJProject);
+		IPackageFragmentRoot root= JavaProjectHelper.addSourceContainer(fJProject, "src");
+		fPack= root.createPackageFragment("test", false, null);
+		fGraph= ChainTypeGraph.getDefault();
+		fGraph.flush();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		JavaProjectHelper.delete(fJProject);
+	}
+
+	private ICompilationUnit createUnit(String name, String contents) throws Exception {
+		return fPack.createCompilationUnit(name + ".java", "package test;\n" + contents, false, null);
+	}
+
+	private List<IJavaElement> getFieldsAndMethods(String typeName) throws Exception {
+		IType type= fJProject.findType("test." + typeName);
+		return fGraph.getFieldsAndMethods(new ChainType(type), false, type);
+	}
+
+	private static boolean containsMember(List<IJavaElement> members, String name) {
+		for (IJavaElement member : members) {
+			if (member.getElementName().equals(name)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Test
+	public void testSaveInvalidatesOnlyChangedUnit() throws Exception {
+		createUnit("A", "public class A {\n    public String a;\n}\n");
+		ICompilationUnit cuC= createUnit("C", "public class C {\n    public String c;\n}\n");
+		List<IJavaElement> membersA= getFieldsAndMethods("A");
+		List<IJavaElement> membersC= getFieldsAndMethods("C");
+		assertSame(membersA, getFieldsAndMethods("A"));
+
+		cuC.getBuffer().setContents("package test;\npublic class C {\n    public String c;\n    public String d;\n}\n");
+		cuC.save(null, true);
+
+		assertSame(membersA, getFieldsAndMethods("A"));
+		List<IJavaElement> newMembersC= getFieldsAndMethods("C");
+		assertNotSame(membersC, newMembersC);
+		assertTrue(containsMember(newMembersC, "d"));
+	}
+
+	@Test
+	public void testSupertypeChangeInvalidatesSubtypes() throws Exception {
+		ICompilationUnit cuA= createUnit("A", "public class A {\n    public String a;\n}\n");
+		createUnit("B", "public class B extends A {\n}\n");
+		createUnit("C", "public class C {\n    public String c;\n}\n");
+		List<IJavaElement> membersB= getFieldsAndMethods("B");
+		List<IJavaElement> membersC= getFieldsAndMethods("C");
+		assertFalse(containsMember(membersB, "b"));
+
+		cuA.getType("A").createField("public String b;", null, false, null);
+
+		List<IJavaElement> newMembersB= getFieldsAndMethods("B");
+		assertNotSame(membersB, newMembersB);
+		assertTrue(containsMember(newMembersB, "b"));
+		assertSame(membersC, getFieldsAndMethods("C"));
+	}
+
+	@Test
+	public void testReconcile() throws Exception {
+		ICompilationUnit cuA= createUnit("A", "public class A {\n    public String a;\n    public void foo() {\n    }\n}\n");
+		List<IJavaElement> membersA= getFieldsAndMethods("A");
+
+		cuA.becomeWorkingCopy(null);
+		try {
+			IBuffer buffer= cuA.getBuffer();
+
+			// changes inside of method bodies keep the graph
+			buffer.setContents("package test;\npublic class A {\n    public String a;\n    public void foo() {\n        a= null;\n    }\n}\n");
+			cuA.reconcile(ICompilationUnit.NO_AST, false, null, null);
+			assertSame(membersA, getFieldsAndMethods("A"));
+
+			// new members are seen before the unit is saved
+			buffer.setContents("package test;\npublic class A {\n    public String a;\n    public String b;\n    public void foo() {\n        a= null;\n    }\n}\n");
+			cuA.reconcile(ICompilationUnit.NO_AST, false, null, null);
+			List<IJavaElement> newMembersA= getFieldsAndMethods("A");
+			assertNotSame(membersA, newMembersA);
+			assertTrue(containsMember(newMembersA, "b"));
+		} finally {
+			cuA.discardWorkingCopy();
+		}
+	}
+
+	@Test
+	public void testClasspathChangeFlushes() throws Exception {
+		createUnit("A", "public class A {\n    public String a;\n}\n");
+		List<IJavaElement> membersA= getFieldsAndMethods("A");
+
+		JavaProjectHelper.addSourceContainer(fJProject, "src2");
+
+		assertNotSame(membersA, getFieldsAndMethods("A"));
+	}
+}
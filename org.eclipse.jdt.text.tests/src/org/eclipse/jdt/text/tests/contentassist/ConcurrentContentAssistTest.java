@@ -0,0 +1,225 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests.contentassist;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.jdt.core.CompletionContext;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+
+import org.eclipse.jdt.ui.JavaUI;
+import org.eclipse.jdt.ui.text.java.CompletionProposalCollector;
+import org.eclipse.jdt.ui.text.java.JavaContentAssistInvocationContext;
+
+import org.eclipse.jdt.internal.ui.javaeditor.JavaEditor;
+import org.eclipse.jdt.internal.ui.text.java.ConcurrentJavaContentAssistInvocationContext;
+import org.eclipse.jdt.internal.ui.text.java.ContentAssistCategoryExecutor;
+import org.eclipse.jdt.internal.ui.text.java.ContentAssistCategoryExecutor.Computation;
+
+/**
+ * Tests the concurrent computation of content assist categories.
+ */
+public class ConcurrentContentAssistTest {
+
+	private static final long LONG_WAIT= 10000;
+
+	private IJavaProject fJProject1;
+
+	@Before
+	public void setUp() throws Exception {
+		fJProject1= JavaProjectHelper.createJavaProject("TestProject1", "bin");
+		JavaProjectHelper.addRTJar(fJProject1);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		CodeCompletionTest.closeAllEditors();
+		JavaProjectHelper.delete(fJProject1);
+	}
+
+	/**
+	 * A computation that runs until its monitor is cancelled.
+	 *
+	 * @param started incremented when the computation starts
+	 * @param cancelled set when the computation noticed the cancellation
+	 * @return the computation
+	 */
+	private static Computation<String> waitForCancel(AtomicInteger started, AtomicBoolean cancelled) {
+		return monitor -> {
+			started.incrementAndGet();
+			long end= System.currentTimeMillis() + LONG_WAIT;
+			while (!monitor.isCanceled() && System.currentTimeMillis() < end) {
+				try {
+					Thread.sleep(5);
+				} catch (InterruptedException e) {
+					break;
+				}
+			}
+			cancelled.set(monitor.isCanceled());
+			return Collections.singletonList("late");
+		};
+	}
+
+	@Test
+	public void testResultsInOrder() throws Exception {
+		List<Computation<String>> computations= new ArrayList<>();
+		for (int i= 0; i < 6; i++) {
+			String name= "c" + i;
+			long delay= 30 - 5 * i;
+			computations.add(monitor -> {
+				try {
+					Thread.sleep(delay);
+				} catch (InterruptedException e) {
+					// done
+				}
+				return Collections.singletonList(name);
+			});
+		}
+		List<List<String>> result= ContentAssistCategoryExecutor.computeAll(computations, LONG_WAIT);
+		assertEquals(6, result.size());
+		for (int i= 0; i < 6; i++) {
+			assertEquals(Collections.singletonList("c" + i), result.get(i));
+		}
+	}
+
+	@Test
+	public void testTimedOutComputationIsCancelled() throws Exception {
+		AtomicInteger started= new AtomicInteger();
+		AtomicBoolean cancelled= new AtomicBoolean();
+		List<Computation<String>> computations= new ArrayList<>();
+		computations.add(monitor -> Collections.singletonList("fast"));
+		computations.add(waitForCancel(started, cancelled));
+
+		long start= System.currentTimeMillis();
+		List<List<String>> result= ContentAssistCategoryExecutor.computeAll(computations, 200);
+		long duration= System.currentTimeMillis() - start;
+
+		assertEquals(Collections.singletonList("fast"), result.get(0));
+		assertEquals(Collections.emptyList(), result.get(1));
+		assertTrue("took " + duration + "ms", duration < LONG_WAIT / 2);
+
+		// the computation sees the cancellation and releases its thread
+		long end= System.currentTimeMillis() + LONG_WAIT;
+		while (!cancelled.get() && System.currentTimeMillis() < end) {
+			Thread.sleep(10);
+		}
+		assertTrue(cancelled.get());
+	}
+
+	@Test
+	public void testQueuedComputationsAreNotStartedAfterTimeout() throws Exception {
+		AtomicInteger started= new AtomicInteger();
+		AtomicBoolean cancelled= new AtomicBoolean();
+		int count= ContentAssistCategoryExecutor.MAX_QUEUED + 8;
+		List<Computation<String>> computations= new ArrayList<>();
+		for (int i= 0; i < count; i++) {
+			computations.add(waitForCancel(started, cancelled));
+		}
+
+		long start= System.currentTimeMillis();
+		List<List<String>> result= ContentAssistCategoryExecutor.computeAll(computations, 200);
+		long duration= System.currentTimeMillis() - start;
+
+		assertEquals(count, result.size());
+		for (List<String> computed : result) {
+			assertEquals(Collections.emptyList(), computed);
+		}
+		// the computations that overflow the queue run in the calling thread and are cancelled too
+		assertTrue("took " + duration + "ms", duration < LONG_WAIT / 2);
+		assertTrue("started " + started.get(), started.get() < ContentAssistCategoryExecutor.MAX_QUEUED);
+	}
+
+	private List<ConcurrentJavaContentAssistInvocationContext> createCopies(String contents, String completeAfter, int count) throws Exception {
+		IPackageFragmentRoot sourceFolder= JavaProjectHelper.addSourceContainer(fJProject1, "src");
+		IPackageFragment pack= sourceFolder.createPackageFragment("test1", false, null);
+		ICompilationUnit cu= pack.createCompilationUnit("A.java", contents, false, null);
+		int offset= contents.indexOf(completeAfter) + completeAfter.length();
+
+		JavaEditor editor= (JavaEditor) JavaUI.openInEditor(cu);
+		JavaContentAssistInvocationContext context= new JavaContentAssistInvocationContext(editor.getViewer(), offset, editor);
+		return ConcurrentJavaContentAssistInvocationContext.createCopies(context, editor, count);
+	}
+
+	@Test
+	public void testCopiesShareCoreContextOfCollector() throws Exception {
+		String contents= "package test1;\n" +
+				"public class A {\n" +
+				"    void foo() {\n" +
+				"        String s= \n" +
+				"    }\n" +
+				"}\n";
+		List<ConcurrentJavaContentAssistInvocationContext> copies= createCopies(contents, "String s= ", 2);
+		ConcurrentJavaContentAssistInvocationContext first= copies.get(0);
+		ConcurrentJavaContentAssistInvocationContext second= copies.get(1);
+		assertNotSame(first, second);
+
+		// nothing is computed when the copies are created, the context comes from the collector
+		CompletionProposalCollector collector= new CompletionProposalCollector(first.getCompilationUnit());
+		collector.setInvocationContext(first);
+		first.getCompilationUnit().codeComplete(first.getInvocationOffset(), collector, new NullProgressMonitor());
+		CompletionContext coreContext= collector.getContext();
+		assertNotNull(coreContext);
+		assertSame(coreContext, first.getCoreContext());
+		assertSame(coreContext, second.getCoreContext());
+
+		assertNotNull(first.getExpectedType());
+		assertEquals("java.lang.String", first.getExpectedType().getFullyQualifiedName());
+		assertSame(first.getExpectedType(), second.getExpectedType());
+	}
+
+	@Test
+	public void testCopiesComputeCoreContextOnce() throws Exception {
+		String contents= "package test1;\n" +
+				"public class A {\n" +
+				"    void foo() {\n" +
+				"        int i= \n" +
+				"    }\n" +
+				"}\n";
+		List<ConcurrentJavaContentAssistInvocationContext> copies= createCopies(contents, "int i= ", 4);
+		List<Computation<CompletionContext>> computations= new ArrayList<>();
+		for (ConcurrentJavaContentAssistInvocationContext copy : copies) {
+			computations.add(monitor -> {
+				copy.getHistoryRelevance("java.lang.Integer");
+				return Collections.singletonList(copy.getCoreContext());
+			});
+		}
+		List<List<CompletionContext>> result= ContentAssistCategoryExecutor.computeAll(computations, LONG_WAIT);
+		CompletionContext coreContext= result.get(0).get(0);
+		assertNotNull(coreContext);
+		for (List<CompletionContext> computed : result) {
+			assertSame(coreContext, computed.get(0));
+		}
+	}
+}
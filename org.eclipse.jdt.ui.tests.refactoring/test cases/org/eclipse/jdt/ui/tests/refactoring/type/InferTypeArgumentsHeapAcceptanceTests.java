@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.refactoring.type;
+
+import static org.junit.Assert.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.test.performance.Dimension;
+
+import org.eclipse.ltk.core.refactoring.RefactoringStatus;
+
+import org.eclipse.jdt.core.IJavaElement;
+
+import org.eclipse.jdt.internal.corext.refactoring.generics.InferTypeArgumentsRefactoring;
+
+import org.eclipse.jdt.ui.tests.performance.SWTTestProject;
+import org.eclipse.jdt.ui.tests.refactoring.infra.RefactoringHeapTestCase;
+import org.eclipse.jdt.ui.tests.refactoring.rules.RefactoringPerformanceTestSetup;
+
+/**
+ * Measures the heap used by Infer Generic Type Arguments on the SWT sources. The batches of
+ * compilation units are parsed on several threads, so the peak heap usage must in addition stay
+ * well below the maximum heap.
+ */
+public class InferTypeArgumentsHeapAcceptanceTests extends RefactoringHeapTestCase {
+
+	private SWTTestProject fProject;
+	private InferTypeArgumentsRefactoring fRefactoring;
+
+	@Rule
+	public RefactoringPerformanceTestSetup rpts= new RefactoringPerformanceTestSetup();
+
+	@Override
+	public void setUp() throws Exception {
+		super.setUp();
+		fProject= new SWTTestProject();
+		fRefactoring= new InferTypeArgumentsRefactoring(new IJavaElement[] { fProject.getProject() });
+	}
+
+	@Override
+	public void tearDown() throws Exception {
+		fProject.delete();
+		super.tearDown();
+	}
+
+	@Test
+	public void testInferSWT() throws Exception {
+		tagAsSummary("Infer Type Arguments - SWT heap", Dimension.USED_JAVA_HEAP);
+		for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+			pool.resetPeakUsage();
+		}
+		executeRefactoring(fRefactoring, true, RefactoringStatus.ERROR, true);
+
+		long peak= 0;
+		for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+			if (pool.getType() == MemoryType.HEAP)
+				peak+= pool.getPeakUsage().getUsed();
+		}
+		// the batches parsed concurrently must leave room for the rest of the workbench
+		long limit= Runtime.getRuntime().maxMemory() / 10 * 9;
+		assertTrue("peak heap " + (peak >> 20) + " MB, limit " + (limit >> 20) + " MB", peak < limit);
+	}
+}
@@ -0,0 +1,102 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.refactoring.type;
+
+import org.junit.FixMethodOrder;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import org.eclipse.test.performance.Dimension;
+
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IPackageFragment;
+
+import org.eclipse.jdt.internal.corext.refactoring.generics.InferTypeArgumentsRefactoring;
+
+import org.eclipse.jdt.ui.tests.refactoring.reorg.RepeatingRefactoringPerformanceTestCaseCommon;
+import org.eclipse.jdt.ui.tests.refactoring.rules.RefactoringPerformanceTestSetup;
+
+/**
+ * Measures Infer Generic Type Arguments on a project whose compilation units pass raw
+ * collections to each other, so that the constraints of all units are connected.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class InferTypeArgumentsPerfTests extends RepeatingRefactoringPerformanceTestCaseCommon {
+
+	@Rule
+	public RefactoringPerformanceTestSetup rpts= new RefactoringPerformanceTestSetup();
+
+	@Test
+	public void testACold_10_10() throws Exception {
+		executeRefactoring(10, 10, false, 3);
+	}
+
+	@Test
+	public void testB_10_10() throws Exception {
+		executeRefactoring(10, 10, true, 10);
+	}
+
+	@Test
+	public void testC_100_10() throws Exception {
+		executeRefactoring(100, 10, true, 10);
+	}
+
+	@Test
+	public void testD_500_10() throws Exception {
+		tagAsSummary("Infer Type Arguments - 500 CUs, 10 collections", Dimension.ELAPSED_PROCESS);
+		executeRefactoring(500, 10, true, 5);
+	}
+
+	@Override
+	protected void doExecuteRefactoring(int numberOfCus, int numberOfCollections, boolean measure) throws Exception {
+		IPackageFragment pack= fTestProject.getSourceFolder().createPackageFragment("gen", false, null);
+		for (int i= 0; i < numberOfCus; i++) {
+			createCu(pack, i, numberOfCollections);
+		}
+		InferTypeArgumentsRefactoring refactoring= new InferTypeArgumentsRefactoring(new IJavaElement[] { fTestProject.getProject() });
+		executeRefactoring(refactoring, measure);
+	}
+
+	private void createCu(IPackageFragment pack, int index, int numberOfCollections) throws Exception {
+		StringBuilder buf= new StringBuilder();
+		buf.append("package " + pack.getElementName() + ";\n");
+		buf.append("import java.util.*;\n");
+		buf.append("public class C" + index + " {\n");
+		buf.append("    public List names= new ArrayList();\n");
+		buf.append("    public Map counts= new HashMap();\n");
+		buf.append("    public List copy(List list) {\n");
+		buf.append("        List result= new ArrayList();\n");
+		buf.append("        for (Iterator iter= list.iterator(); iter.hasNext();) {\n");
+		buf.append("            result.add(iter.next());\n");
+		buf.append("        }\n");
+		buf.append("        return result;\n");
+		buf.append("    }\n");
+		buf.append("    public void fill() {\n");
+		for (int i= 0; i < numberOfCollections; i++) {
+			buf.append("        List list" + i + "= new ArrayList();\n");
+			buf.append("        list" + i + ".add(\"" + i + "\");\n");
+			buf.append("        names.addAll(copy(list" + i + "));\n");
+			buf.append("        counts.put(list" + i + ".get(0), Integer.valueOf(" + i + "));\n");
+		}
+		if (index > 0) {
+			buf.append("        names.addAll(new C" + (index - 1) + "().copy(names));\n");
+		}
+		buf.append("        String first= (String) names.get(0);\n");
+		buf.append("        Integer count= (Integer) counts.get(first);\n");
+		buf.append("    }\n");
+		buf.append("}\n");
+		pack.createCompilationUnit("C" + index + ".java", buf.toString(), false, null);
+	}
+}
@@ -0,0 +1,97 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.refactoring.typeconstraints;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import org.eclipse.jdt.internal.corext.refactoring.generics.ConstraintVariableWorkList;
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints2.ConstraintVariable2;
+
+public class ConstraintVariableWorkListTests {
+
+	private static ConstraintVariable2[] createVariables(int count) {
+		ConstraintVariable2[] cvs= new ConstraintVariable2[count];
+		for (int i= 0; i < count; i++) {
+			cvs[i]= new ConstraintVariable2(null) {
+			};
+		}
+		return cvs;
+	}
+
+	@Test
+	public void testIds() {
+		ConstraintVariable2[] cvs= createVariables(3);
+		ConstraintVariableWorkList workList= new ConstraintVariableWorkList();
+		assertEquals(0, workList.getId(cvs[0]));
+		assertEquals(1, workList.getId(cvs[1]));
+		assertEquals(0, workList.getId(cvs[0]));
+		assertEquals(2, workList.getId(cvs[2]));
+		assertEquals(3, workList.getVariableCount());
+		assertSame(cvs[1], workList.getVariable(1));
+		assertTrue(workList.isEmpty());
+	}
+
+	@Test
+	public void testNoDuplicates() {
+		ConstraintVariable2[] cvs= createVariables(2);
+		ConstraintVariableWorkList workList= new ConstraintVariableWorkList();
+		workList.addAll(cvs);
+		workList.addAll(new ConstraintVariable2[] { cvs[1], cvs[0], cvs[1] });
+		assertEquals(2, workList.size());
+
+		assertSame(cvs[0], workList.getVariable(workList.removeNext()));
+		assertSame(cvs[1], workList.getVariable(workList.removeNext()));
+		assertTrue(workList.isEmpty());
+	}
+
+	@Test
+	public void testReaddAfterRemove() {
+		ConstraintVariable2[] cvs= createVariables(1);
+		ConstraintVariableWorkList workList= new ConstraintVariableWorkList();
+		workList.addAll(cvs);
+		assertEquals(0, workList.removeNext());
+		assertTrue(workList.isEmpty());
+
+		workList.addAll(cvs);
+		assertFalse(workList.isEmpty());
+		assertEquals(0, workList.removeNext());
+		assertEquals(1, workList.getVariableCount());
+	}
+
+	@Test
+	public void testRoundRobin() {
+		ConstraintVariable2[] cvs= createVariables(4);
+		ConstraintVariableWorkList workList= new ConstraintVariableWorkList();
+		workList.addAll(cvs);
+		assertEquals(0, workList.removeNext());
+		assertEquals(1, workList.removeNext());
+
+		// variables before the current position wait until the end is reached
+		workList.addAll(new ConstraintVariable2[] { cvs[0] });
+		assertEquals(2, workList.removeNext());
+		assertEquals(3, workList.removeNext());
+		assertEquals(0, workList.removeNext());
+		assertTrue(workList.isEmpty());
+	}
+
+	@Test(expected= IllegalStateException.class)
+	public void testRemoveFromEmpty() {
+		new ConstraintVariableWorkList().removeNext();
+	}
+}
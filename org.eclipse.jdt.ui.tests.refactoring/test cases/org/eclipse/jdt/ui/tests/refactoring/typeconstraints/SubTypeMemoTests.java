@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.refactoring.typeconstraints;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types.SubTypeMemo;
+
+public class SubTypeMemoTests {
+
+	@Test
+	public void testUnknown() {
+		SubTypeMemo memo= new SubTypeMemo();
+		assertNull(memo.get(1, 2));
+		memo.put(1, 2, true);
+		assertNull(memo.get(1, 3));
+		assertNull(memo.get(3, 2));
+	}
+
+	@Test
+	public void testPutAndGet() {
+		SubTypeMemo memo= new SubTypeMemo();
+		memo.put(1, 2, true);
+		memo.put(1, 3, false);
+		assertEquals(Boolean.TRUE, memo.get(1, 2));
+		assertEquals(Boolean.FALSE, memo.get(1, 3));
+		assertEquals(2, memo.size());
+	}
+
+	@Test
+	public void testOrderOfIds() {
+		SubTypeMemo memo= new SubTypeMemo();
+		memo.put(1, 2, true);
+		memo.put(2, 1, false);
+		assertEquals(Boolean.TRUE, memo.get(1, 2));
+		assertEquals(Boolean.FALSE, memo.get(2, 1));
+	}
+
+	@Test
+	public void testOverwrite() {
+		SubTypeMemo memo= new SubTypeMemo();
+		memo.put(1, 2, true);
+		memo.put(1, 2, false);
+		assertEquals(Boolean.FALSE, memo.get(1, 2));
+		assertEquals(1, memo.size());
+	}
+
+	@Test
+	public void testGrow() {
+		SubTypeMemo memo= new SubTypeMemo();
+		for (int sub= 1; sub <= 100; sub++) {
+			for (int sup= 1; sup <= 100; sup++) {
+				memo.put(sub, sup, (sub + sup) % 3 == 0);
+			}
+		}
+		assertEquals(100 * 100, memo.size());
+		for (int sub= 1; sub <= 100; sub++) {
+			for (int sup= 1; sup <= 100; sup++) {
+				assertEquals(Boolean.valueOf((sub + sup) % 3 == 0), memo.get(sub, sup));
+			}
+		}
+	}
+
+	@Test
+	public void testLargeIds() {
+		SubTypeMemo memo= new SubTypeMemo();
+		memo.put(Integer.MAX_VALUE, 1, true);
+		memo.put(1, Integer.MAX_VALUE, false);
+		assertEquals(Boolean.TRUE, memo.get(Integer.MAX_VALUE, 1));
+		assertEquals(Boolean.FALSE, memo.get(1, Integer.MAX_VALUE));
+	}
+
+	@Test
+	public void testFlush() {
+		SubTypeMemo memo= new SubTypeMemo();
+		for (int i= 1; i <= SubTypeMemo.MAX_ENTRIES; i++) {
+			memo.put(i, 1, true);
+		}
+		assertEquals(SubTypeMemo.MAX_ENTRIES, memo.size());
+		assertEquals(Boolean.TRUE, memo.get(1, 1));
+
+		memo.put(1, 2, false);
+		assertEquals(1, memo.size());
+		assertNull(memo.get(1, 1));
+		assertEquals(Boolean.FALSE, memo.get(1, 2));
+	}
+}
@@ -0,0 +1,148 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.performance.views;
+
+import static org.junit.Assert.assertNotNull;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.FixMethodOrder;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExternalResource;
+import org.junit.runners.MethodSorters;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+import org.eclipse.jdt.testplugin.JavaTestPlugin;
+
+import org.eclipse.core.runtime.CoreException;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+
+import org.eclipse.jdt.ui.JavaElementLabels;
+import org.eclipse.jdt.ui.PreferenceConstants;
+import org.eclipse.jdt.ui.tests.performance.JdtPerformanceTestCaseCommon;
+
+import org.eclipse.jdt.internal.ui.viewsupport.JavaElementLabelCache;
+
+/**
+ * Measures the label computation of the members of JUnit with the flag combinations used by the
+ * Java views.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class JavaElementLabelsPerfTest extends JdtPerformanceTestCaseCommon {
+
+	private static final long[] FLAGS= {
+			JavaElementLabels.ALL_DEFAULT,
+			JavaElementLabels.ALL_DEFAULT | JavaElementLabels.M_APP_RETURNTYPE | JavaElementLabels.F_APP_TYPE_SIGNATURE,
+			JavaElementLabels.ALL_FULLY_QUALIFIED,
+			JavaElementLabels.ALL_POST_QUALIFIED,
+			JavaElementLabels.M_PARAMETER_NAMES | JavaElementLabels.M_PARAMETER_TYPES | JavaElementLabels.T_TYPE_PARAMETERS | JavaElementLabels.P_COMPRESSED
+	};
+
+	private static final int REPEAT= 10;
+
+	private static class MyTestSetup extends ExternalResource {
+		public static final String SRC_CONTAINER= "src";
+
+		public static IJavaProject fJProject1;
+		public static IPackageFragmentRoot fJunitSrcRoot;
+
+		@Override
+		public void before() throws Throwable {
+			fJProject1= JavaProjectHelper.createJavaProject("TestProject1", "bin");
+			assertNotNull("rt not found", JavaProjectHelper.addRTJar13(fJProject1));
+			File junitSrcArchive= JavaTestPlugin.getDefault().getFileInPlugin(JavaProjectHelper.JUNIT_SRC_381);
+			fJunitSrcRoot= JavaProjectHelper.addSourceContainerWithImport(fJProject1, SRC_CONTAINER, junitSrcArchive, JavaProjectHelper.JUNIT_SRC_ENCODING);
+		}
+
+		@Override
+		public void after() {
+			try {
+				if (fJProject1 != null && fJProject1.exists())
+					JavaProjectHelper.delete(fJProject1);
+			} catch (CoreException e) {
+				e.printStackTrace();
+			}
+		}
+	}
+
+	@Rule
+	public MyTestSetup stup= new MyTestSetup();
+
+	@Test
+	public void testAUncachedLabels() throws Exception {
+		List<IJavaElement> elements= collectElements();
+		joinBackgroudActivities();
+		JavaElementLabelCache.uninstall();
+		try {
+			for (int i= 0; i < REPEAT; i++) {
+				startMeasuring();
+				computeLabels(elements);
+				stopMeasuring();
+			}
+		} finally {
+			JavaElementLabelCache.install(PreferenceConstants.getPreferenceStore());
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	@Test
+	public void testBCachedLabels() throws Exception {
+		List<IJavaElement> elements= collectElements();
+		joinBackgroudActivities();
+		computeLabels(elements);
+		for (int i= 0; i < REPEAT; i++) {
+			startMeasuring();
+			computeLabels(elements);
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	private static void computeLabels(List<IJavaElement> elements) {
+		for (long flags : FLAGS) {
+			for (IJavaElement element : elements) {
+				JavaElementLabels.getTextLabel(element, flags);
+				JavaElementLabels.getStyledTextLabel(element, flags);
+			}
+		}
+	}
+
+	private static List<IJavaElement> collectElements() throws CoreException {
+		List<IJavaElement> elements= new ArrayList<>();
+		for (IJavaElement pack : MyTestSetup.fJunitSrcRoot.getChildren()) {
+			elements.add(pack);
+			for (ICompilationUnit cu : ((IPackageFragment) pack).getCompilationUnits()) {
+				elements.add(cu);
+				for (IType type : cu.getAllTypes()) {
+					elements.add(type);
+					for (IJavaElement member : type.getChildren()) {
+						elements.add(member);
+					}
+				}
+			}
+		}
+		return elements;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020 IBM Corporation and others.
+ * Copyright (c) 2020, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -36,6 +36,7 @@ ImportOrganizeTest.class,
 ImportOrganizeTest1d8.class,
 JavaElementLabelsTest.class,
 JavaElementLabelsTest1d8.class,
+JavaElementLabelCacheTest.class,
 BindingLabelsTest.class,
 BindingLabels18Test.class,
 JavaElementPropertyTesterTest.class,
@@ -50,7 +51,10 @@ TemplateStoreTest.class,
 TypeHierarchyTest.class,
 TypeHierarchyViewPartTest.class,
 TypeRulesTest.class,
+ProblemSeverityTreeTest.class,
 TypeInfoTest.class,
+TypeNameIndexTest.class,
+TypeNameMatchTableTest.class,
 StringsTest.class,
 IndentManipulationTest.class,
 SelectionHistoryTest.class,
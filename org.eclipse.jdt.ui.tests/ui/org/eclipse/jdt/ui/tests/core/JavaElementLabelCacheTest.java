@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.jface.viewers.StyledString;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IField;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+
+import org.eclipse.jdt.ui.JavaElementLabels;
+import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
+
+import org.eclipse.jdt.internal.ui.viewsupport.JavaElementLabelCache;
+
+public class JavaElementLabelCacheTest {
+
+	private static final long FLAGS= JavaElementLabels.F_APP_TYPE_SIGNATURE;
+
+	@Rule
+	public ProjectTestSetup pts= new ProjectTestSetup();
+
+	private IJavaProject fJProject1;
+
+	private ICompilationUnit fCu;
+
+	private IField fField;
+
+	private JavaElementLabelCache fCache;
+
+	@Before
+	public void setUp() throws Exception {
+		fJProject1= pts.getProject();
+		IPackageFragmentRoot sourceFolder= JavaProjectHelper.addSourceContainer(fJProject1, "src");
+		IPackageFragment pack= sourceFolder.createPackageFragment("test", false, null);
+		fCu= pack.createCompilationUnit("A.java", "package test;\npublic class A {\n    int x;\n}\n", false, null);
+		fField= fCu.getType("A").getField("x");
+		fCache= JavaElementLabelCache.getCache(FLAGS);
+		assertNotNull(fCache);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		JavaProjectHelper.clear(fJProject1, pts.getDefaultClasspath());
+	}
+
+	private void changeFieldType() throws Exception {
+		fCu.getBuffer().setContents("package test;\npublic class A {\n    String x;\n}\n");
+		fCu.save(null, true);
+	}
+
+	@Test
+	public void testLabelIsCached() throws Exception {
+		int stamp= fCache.getStamp();
+		fCache.putLabel(fField, FLAGS, "cached", stamp);
+		assertEquals("cached", fCache.getLabel(fField, FLAGS));
+		assertEquals("cached", JavaElementLabels.getElementLabel(fField, FLAGS));
+
+		changeFieldType();
+		assertNull(fCache.getLabel(fField, FLAGS));
+		assertEquals("x : String", JavaElementLabels.getElementLabel(fField, FLAGS));
+	}
+
+	@Test
+	public void testRaceWithChange() throws Exception {
+		assertEquals("x : int", JavaElementLabels.getElementLabel(fField, FLAGS));
+		fCache.clear();
+
+		// the label is computed before the change and cached after the change was reported
+		int stamp= fCache.getStamp();
+		String label= "x : int";
+		changeFieldType();
+		fCache.putLabel(fField, FLAGS, label, stamp);
+
+		assertNull(fCache.getLabel(fField, FLAGS));
+		assertEquals("x : String", JavaElementLabels.getElementLabel(fField, FLAGS));
+		assertEquals("x : String", fCache.getLabel(fField, FLAGS));
+	}
+
+	@Test
+	public void testStyledRaceWithChange() throws Exception {
+		assertEquals("x : int", JavaElementLabels.getStyledElementLabel(fField, FLAGS).getString());
+		fCache.clear();
+
+		int stamp= fCache.getStamp();
+		StyledString label= new StyledString("x : int");
+		changeFieldType();
+		fCache.putStyledLabel(fField, FLAGS, label, stamp);
+
+		assertNull(fCache.getStyledLabel(fField, FLAGS));
+		assertEquals("x : String", JavaElementLabels.getStyledElementLabel(fField, FLAGS).getString());
+	}
+
+	@Test
+	public void testRaceWithClear() throws Exception {
+		int stamp= fCache.getStamp();
+		fCache.clear();
+		fCache.putLabel(fField, FLAGS, "stale", stamp);
+		fCache.putStyledLabel(fField, FLAGS, new StyledString("stale"), stamp);
+
+		assertNull(fCache.getLabel(fField, FLAGS));
+		assertNull(fCache.getStyledLabel(fField, FLAGS));
+	}
+}
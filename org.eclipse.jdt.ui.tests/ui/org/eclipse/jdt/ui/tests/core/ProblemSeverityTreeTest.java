@@ -0,0 +1,197 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.core;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.core.runtime.CoreException;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.viewsupport.IProblemChangedListener;
+import org.eclipse.jdt.internal.ui.viewsupport.ProblemMarkerManager;
+import org.eclipse.jdt.internal.ui.viewsupport.ProblemSeverityTree;
+
+public class ProblemSeverityTreeTest {
+
+	private IProject fProject;
+	private IFolder fFolder;
+	private IFile fFile1;
+	private IFile fFile2;
+
+	@Before
+	public void setUp() throws Exception {
+		fProject= ResourcesPlugin.getWorkspace().getRoot().getProject("ProblemSeverityTreeTest");
+		fProject.create(null);
+		fProject.open(null);
+		fFolder= fProject.getFolder("folder");
+		fFolder.create(true, true, null);
+		fFile1= createFile("File1.txt");
+		fFile2= createFile("File2.txt");
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		fProject.delete(true, true, null);
+	}
+
+	private IFile createFile(String name) throws CoreException {
+		IFile file= fFolder.getFile(name);
+		file.create(new ByteArrayInputStream("some problems in here".getBytes()), true, null);
+		return file;
+	}
+
+	private static IMarker createProblem(IResource resource, int severity, int charStart) throws CoreException {
+		IMarker marker= resource.createMarker(IMarker.PROBLEM);
+		marker.setAttribute(IMarker.SEVERITY, severity);
+		marker.setAttribute(IMarker.CHAR_START, charStart);
+		marker.setAttribute(IMarker.CHAR_END, charStart + 1);
+		return marker;
+	}
+
+	@Test
+	public void testSeverityOfContainers() throws Exception {
+		createProblem(fFile1, IMarker.SEVERITY_WARNING, 0);
+		createProblem(fFile2, IMarker.SEVERITY_ERROR, 0);
+		createProblem(fFile2, IMarker.SEVERITY_INFO, 5);
+
+		ProblemSeverityTree tree= new ProblemSeverityTree();
+		assertEquals(IMarker.SEVERITY_WARNING, tree.getMaxSeverity(fFile1, IResource.DEPTH_ZERO));
+		assertEquals(IMarker.SEVERITY_ERROR, tree.getMaxSeverity(fFile2, IResource.DEPTH_ZERO));
+		assertEquals(-1, tree.getMaxSeverity(fFolder, IResource.DEPTH_ZERO));
+		assertEquals(IMarker.SEVERITY_ERROR, tree.getMaxSeverity(fFolder, IResource.DEPTH_ONE));
+		assertEquals(-1, tree.getMaxSeverity(fProject, IResource.DEPTH_ONE));
+		assertEquals(IMarker.SEVERITY_ERROR, tree.getMaxSeverity(fProject, IResource.DEPTH_INFINITE));
+	}
+
+	@Test
+	public void testSetSeverity() throws Exception {
+		IMarker warning= createProblem(fFile1, IMarker.SEVERITY_WARNING, 0);
+		IMarker error= createProblem(fFile2, IMarker.SEVERITY_ERROR, 0);
+
+		ProblemSeverityTree tree= new ProblemSeverityTree();
+		assertEquals(IMarker.SEVERITY_ERROR, tree.getMaxSeverity(fProject, IResource.DEPTH_INFINITE));
+
+		error.setAttribute(IMarker.SEVERITY, IMarker.SEVERITY_INFO);
+		tree.markersChanged(fFile2);
+		assertEquals(IMarker.SEVERITY_INFO, tree.getMaxSeverity(fFile2, IResource.DEPTH_ZERO));
+		assertEquals(IMarker.SEVERITY_WARNING, tree.getMaxSeverity(fFolder, IResource.DEPTH_ONE));
+		assertEquals(IMarker.SEVERITY_WARNING, tree.getMaxSeverity(fProject, IResource.DEPTH_INFINITE));
+
+		warning.delete();
+		tree.markersChanged(fFile1);
+		assertEquals(-1, tree.getMaxSeverity(fFile1, IResource.DEPTH_ZERO));
+		assertEquals(IMarker.SEVERITY_INFO, tree.getMaxSeverity(fProject, IResource.DEPTH_INFINITE));
+
+		createProblem(fFile1, IMarker.SEVERITY_ERROR, 0);
+		tree.markersChanged(fFile1);
+		assertEquals(IMarker.SEVERITY_ERROR, tree.getMaxSeverity(fFolder, IResource.DEPTH_INFINITE));
+	}
+
+	@Test
+	public void testResourceRemoved() throws Exception {
+		createProblem(fFile1, IMarker.SEVERITY_ERROR, 0);
+		createProblem(fProject, IMarker.SEVERITY_WARNING, 0);
+
+		ProblemSeverityTree tree= new ProblemSeverityTree();
+		assertEquals(IMarker.SEVERITY_ERROR, tree.getMaxSeverity(fProject, IResource.DEPTH_INFINITE));
+
+		fFolder.delete(true, null);
+		tree.resourceRemoved(fFolder);
+		assertFalse(tree.contains(fFolder));
+		assertFalse(tree.contains(fFile1));
+		assertEquals(IMarker.SEVERITY_WARNING, tree.getMaxSeverity(fProject, IResource.DEPTH_ONE));
+		assertEquals(IMarker.SEVERITY_WARNING, tree.getMaxSeverity(fProject, IResource.DEPTH_INFINITE));
+	}
+
+	@Test
+	public void testProjectRemovedIsReadAgain() throws Exception {
+		createProblem(fFile1, IMarker.SEVERITY_WARNING, 0);
+
+		ProblemSeverityTree tree= new ProblemSeverityTree();
+		assertEquals(IMarker.SEVERITY_WARNING, tree.getMaxSeverity(fProject, IResource.DEPTH_INFINITE));
+
+		tree.resourceRemoved(fProject);
+		assertFalse(tree.contains(fProject));
+		createProblem(fFile2, IMarker.SEVERITY_ERROR, 0);
+		assertEquals(IMarker.SEVERITY_ERROR, tree.getMaxSeverity(fProject, IResource.DEPTH_INFINITE));
+	}
+
+	@Test
+	public void testPrune() throws Exception {
+		IMarker marker= createProblem(fFile1, IMarker.SEVERITY_ERROR, 0);
+
+		ProblemSeverityTree tree= new ProblemSeverityTree();
+		assertArrayEquals(new int[] { 0 }, tree.getProblemPositions(fFile1, IMarker.SEVERITY_ERROR));
+		assertTrue(tree.contains(fFile1));
+
+		marker.delete();
+		tree.markersChanged(fFile1);
+		assertFalse(tree.contains(fFile1));
+		assertFalse(tree.contains(fFolder));
+		assertTrue("loaded project is kept", tree.contains(fProject));
+		assertEquals(-1, tree.getMaxSeverity(fProject, IResource.DEPTH_INFINITE));
+	}
+
+	@Test
+	public void testPositionsChanged() throws Exception {
+		IMarker marker= createProblem(fFile1, IMarker.SEVERITY_ERROR, 10);
+
+		ProblemSeverityTree tree= new ProblemSeverityTree();
+		assertArrayEquals(new int[] { 10 }, tree.getProblemPositions(fFile1, IMarker.SEVERITY_ERROR));
+
+		marker.setAttribute(IMarker.CHAR_START, 15);
+		tree.positionsChanged(fFile1);
+		assertArrayEquals(new int[] { 15 }, tree.getProblemPositions(fFile1, IMarker.SEVERITY_ERROR));
+		assertEquals(IMarker.SEVERITY_ERROR, tree.getMaxSeverity(fFile1, IResource.DEPTH_ZERO));
+	}
+
+	@Test
+	public void testMovedMarkerUpdatesPositions() throws Exception {
+		IMarker marker= createProblem(fFile1, IMarker.SEVERITY_ERROR, 10);
+
+		ProblemMarkerManager manager= JavaPlugin.getDefault().getProblemMarkerManager();
+		IProblemChangedListener listener= (changedResources, isMarkerChange) -> {
+			// only keeps the severity tree alive
+		};
+		manager.addListener(listener);
+		try {
+			ProblemSeverityTree tree= manager.getSeverityTree();
+			assertNotNull(tree);
+			assertArrayEquals(new int[] { 10 }, tree.getProblemPositions(fFile1, IMarker.SEVERITY_ERROR));
+
+			// the severity stays the same, only the position changes
+			marker.setAttribute(IMarker.CHAR_START, 15);
+			assertArrayEquals(new int[] { 15 }, tree.getProblemPositions(fFile1, IMarker.SEVERITY_ERROR));
+		} finally {
+			manager.removeListener(listener);
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,6 +17,8 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.Rule;
@@ -27,9 +29,12 @@ import org.eclipse.jdt.testplugin.JavaProjectHelper;
 import org.eclipse.text.templates.TemplatePersistenceData;
 
 import org.eclipse.jface.text.templates.Template;
+import org.eclipse.jface.text.templates.TemplateBuffer;
+import org.eclipse.jface.text.templates.TemplateVariable;
 
 import org.eclipse.jdt.core.IJavaProject;
 
+import org.eclipse.jdt.internal.core.manipulation.CodeTemplateContext;
 import org.eclipse.jdt.internal.core.manipulation.CodeTemplateContextType;
 import org.eclipse.jdt.internal.core.manipulation.ProjectTemplateStore;
 
@@ -216,4 +221,90 @@ public class TemplateStoreTest extends CoreTests {
 		}
 	}
 
+	private void setProjectSpecificTemplate(String templateId, String pattern) throws Exception {
+		ProjectTemplateStore projectStore= new ProjectTemplateStore(fJProject1.getProject());
+		projectStore.load();
+		projectStore.setProjectSpecific(templateId, true);
+		TemplatePersistenceData currData= find(templateId, projectStore.getTemplateData());
+		Template oldTemplate= currData.getTemplate();
+		currData.setTemplate(new Template(oldTemplate.getName(), oldTemplate.getDescription(), oldTemplate.getContextTypeId(), pattern, oldTemplate.isAutoInsertable()));
+		projectStore.save();
+	}
+
+	@Test
+	public void testLoadedStoreIsShared() throws Exception {
+		fJProject1= JavaProjectHelper.createJavaProject("TestProject1", "bin");
+		try {
+			ProjectTemplateStore store= ProjectTemplateStore.getLoadedStore(fJProject1.getProject());
+			assertSame(store, ProjectTemplateStore.getLoadedStore(fJProject1.getProject()));
+
+			// changed project specific templates load the store again
+			String templateId= CodeTemplateContextType.SETTERCOMMENT_ID;
+			setProjectSpecificTemplate(templateId, "//Hello4");
+			ProjectTemplateStore reloaded= ProjectTemplateStore.getLoadedStore(fJProject1.getProject());
+			assertNotSame(store, reloaded);
+			assertEquals("//Hello4", reloaded.findTemplateById(templateId).getPattern());
+			assertSame(reloaded, ProjectTemplateStore.getLoadedStore(fJProject1.getProject()));
+		} finally {
+			JavaProjectHelper.delete(fJProject1);
+		}
+	}
+
+	@Test
+	public void testLoadedStoreOfRecreatedProject() throws Exception {
+		String templateId= CodeTemplateContextType.SETTERCOMMENT_ID;
+		fJProject1= JavaProjectHelper.createJavaProject("TestProject1", "bin");
+		try {
+			setProjectSpecificTemplate(templateId, "//Hello5");
+			assertEquals("//Hello5", ProjectTemplateStore.getLoadedStore(fJProject1.getProject()).findTemplateById(templateId).getPattern());
+		} finally {
+			JavaProjectHelper.delete(fJProject1);
+		}
+
+		fJProject1= JavaProjectHelper.createJavaProject("TestProject1", "bin");
+		try {
+			Template template= ProjectTemplateStore.getLoadedStore(fJProject1.getProject()).findTemplateById(templateId);
+			assertNotEquals("//Hello5", template.getPattern());
+		} finally {
+			JavaProjectHelper.delete(fJProject1);
+		}
+	}
+
+	private TemplateBuffer evaluateCatchBlock(Template template, String exceptionType, String exceptionVar) throws Exception {
+		CodeTemplateContext context= new CodeTemplateContext(template.getContextTypeId(), fJProject1, "\n");
+		context.setVariable(CodeTemplateContextType.ENCLOSING_TYPE, "E");
+		context.setVariable(CodeTemplateContextType.ENCLOSING_METHOD, "foo");
+		context.setVariable(CodeTemplateContextType.EXCEPTION_TYPE, exceptionType);
+		context.setVariable(CodeTemplateContextType.EXCEPTION_VAR, exceptionVar);
+		return context.evaluate(template);
+	}
+
+	private static TemplateVariable findVariable(TemplateVariable[] variables, String name) {
+		for (TemplateVariable variable : variables) {
+			if (variable.getName().equals(name)) {
+				return variable;
+			}
+		}
+		return null;
+	}
+
+	@Test
+	public void testEvaluateCompiledTemplate() throws Exception {
+		fJProject1= pts.getProject();
+		Template template= new Template("catch", "", CodeTemplateContextType.CATCHBLOCK_CONTEXTTYPE, "// ${exception_type}\r\n${exception_var}.toString(${exception_var});", false);
+
+		TemplateBuffer first= evaluateCatchBlock(template, "IOException", "e");
+		assertEquals("// IOException\ne.toString(e);", first.getString());
+
+		// the second evaluation uses the compiled template and gets its own variables
+		TemplateBuffer second= evaluateCatchBlock(template, "RuntimeException", "ex");
+		assertEquals("// RuntimeException\nex.toString(ex);", second.getString());
+		assertEquals("// IOException\ne.toString(e);", first.getString());
+
+		TemplateVariable[] variables= second.getVariables();
+		assertEquals(2, variables.length);
+		assertEquals(1, findVariable(variables, CodeTemplateContextType.EXCEPTION_TYPE).getOffsets().length);
+		assertEquals(2, findVariable(variables, CodeTemplateContextType.EXCEPTION_VAR).getOffsets().length);
+		assertEquals(variables.length, evaluateCatchBlock(template, "Error", "x").getVariables().length);
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,7 +14,13 @@
 package org.eclipse.jdt.ui.tests.core;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.After;
 import org.junit.Before;
@@ -23,6 +29,9 @@ import org.junit.Test;
 
 import org.eclipse.jdt.testplugin.JavaProjectHelper;
 
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.jface.operation.IRunnableContext;
 import org.eclipse.jface.text.IDocument;
 
 import org.eclipse.ui.IEditorPart;
@@ -33,6 +42,8 @@ import org.eclipse.jdt.core.IPackageFragment;
 import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.ITypeHierarchy;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.manipulation.SharedASTProviderCore;
 
 import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
@@ -41,6 +52,8 @@ import org.eclipse.jdt.ui.JavaUI;
 import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
 
 import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.typehierarchy.ITypeHierarchyLifeCycleListener;
+import org.eclipse.jdt.internal.ui.typehierarchy.TypeHierarchyLifeCycle;
 
 public class TypeHierarchyTest {
 	@Rule
@@ -268,4 +281,163 @@ public class TypeHierarchyTest {
 		assertEquals("Should contain 3 types, contains: " + allTypes.length, 3, allTypes.length);
 		assertEquals("Update count should be 1, is: " + updateCount[0], 1, updateCount[0]);
 	}
+
+	private static void save(ICompilationUnit cu, String contents) throws JavaModelException {
+		cu.becomeWorkingCopy(null);
+		try {
+			cu.getBuffer().setContents(contents);
+			cu.reconcile(ICompilationUnit.NO_AST, false, null, null);
+			cu.commitWorkingCopy(true, null);
+		} finally {
+			cu.discardWorkingCopy();
+		}
+	}
+
+	@Test
+	public void lifeCycleRefreshAfterIntactSave() throws Exception {
+		IPackageFragmentRoot root1= JavaProjectHelper.addSourceContainer(fJavaProject1, "src");
+		IPackageFragment pack1= root1.createPackageFragment("pack1", true, null);
+
+		ICompilationUnit cu1= pack1.getCompilationUnit("Base.java");
+		IType base= cu1.createType("public class Base {\n}\n", null, true, null);
+		ICompilationUnit cu2= pack1.createCompilationUnit("Other.java",
+				"package pack1;\n" +
+				"public class Other {\n" +
+				"	void foo() {\n" +
+				"	}\n" +
+				"}\n", true, null);
+
+		List<IType[]> changes= new ArrayList<>();
+		ITypeHierarchyLifeCycleListener listener= (typeHierarchyProvider, changedTypes) -> changes.add(changedTypes);
+		IRunnableContext context= (fork, cancelable, runnable) -> runnable.run(new NullProgressMonitor());
+
+		TypeHierarchyLifeCycle lifeCycle= new TypeHierarchyLifeCycle(false);
+		lifeCycle.addChangedListener(listener);
+		try {
+			lifeCycle.ensureRefreshedTypeHierarchy(base, context);
+			assertEquals(0, lifeCycle.getHierarchy().getAllSubtypes(base).length);
+
+			// does not touch the hierarchy
+			save(cu2,
+					"package pack1;\n" +
+					"public class Other {\n" +
+					"	void foo() {\n" +
+					"		int i= 0;\n" +
+					"	}\n" +
+					"}\n");
+			assertEquals(0, changes.size());
+
+			// anonymous types do not show up in the delta
+			save(cu2,
+					"package pack1;\n" +
+					"public class Other {\n" +
+					"	void foo() {\n" +
+					"		int i= 0;\n" +
+					"		new Base() {};\n" +
+					"	}\n" +
+					"}\n");
+			assertEquals(1, changes.size());
+			assertNull(changes.get(0));
+
+			lifeCycle.ensureRefreshedTypeHierarchy(base, context);
+			IType[] subtypes= lifeCycle.getHierarchy().getAllSubtypes(base);
+			assertEquals(1, subtypes.length);
+			assertEquals(cu2, subtypes[0].getCompilationUnit());
+			assertFalse(lifeCycle.isShapeKept());
+
+			// an explicit refresh that finds the same types keeps the shape
+			lifeCycle.typeHierarchyChanged(lifeCycle.getHierarchy());
+			lifeCycle.ensureRefreshedTypeHierarchy(base, context);
+			assertEquals(1, lifeCycle.getHierarchy().getAllSubtypes(base).length);
+			assertTrue(lifeCycle.isShapeKept());
+		} finally {
+			lifeCycle.removeChangedListener(listener);
+			lifeCycle.freeHierarchy();
+		}
+	}
+
+	@Test
+	public void lifeCycleBodyOnlySave() throws Exception {
+		IPackageFragmentRoot root1= JavaProjectHelper.addSourceContainer(fJavaProject1, "src");
+		IPackageFragment pack1= root1.createPackageFragment("pack1", true, null);
+
+		ICompilationUnit cu1= pack1.createCompilationUnit("Base.java",
+				"package pack1;\n" +
+				"public class Base {\n" +
+				"	void foo() {\n" +
+				"	}\n" +
+				"}\n", true, null);
+		IType base= cu1.getType("Base");
+		pack1.createCompilationUnit("Sub.java",
+				"package pack1;\n" +
+				"public class Sub extends Base {\n" +
+				"}\n", true, null);
+
+		List<IType[]> changes= new ArrayList<>();
+		ITypeHierarchyLifeCycleListener listener= (typeHierarchyProvider, changedTypes) -> changes.add(changedTypes);
+		IRunnableContext context= (fork, cancelable, runnable) -> runnable.run(new NullProgressMonitor());
+
+		TypeHierarchyLifeCycle lifeCycle= new TypeHierarchyLifeCycle(false);
+		lifeCycle.addChangedListener(listener);
+		try {
+			lifeCycle.ensureRefreshedTypeHierarchy(base, context);
+			assertEquals(1, lifeCycle.getHierarchy().getAllSubtypes(base).length);
+
+			save(cu1,
+					"package pack1;\n" +
+					"public class Base {\n" +
+					"	void foo() {\n" +
+					"		int i= 0;\n" +
+					"	}\n" +
+					"}\n");
+			// the base type changed, the hierarchy did not
+			assertFalse(changes.isEmpty());
+			for (IType[] changedTypes : changes) {
+				assertNotNull(changedTypes);
+			}
+		} finally {
+			lifeCycle.removeChangedListener(listener);
+			lifeCycle.freeHierarchy();
+		}
+	}
+
+	@Test
+	public void lifeCycleSubtypeInNewPackage() throws Exception {
+		IPackageFragmentRoot root1= JavaProjectHelper.addSourceContainer(fJavaProject1, "src");
+		IPackageFragment pack1= root1.createPackageFragment("pack1", true, null);
+
+		ICompilationUnit cu1= pack1.getCompilationUnit("Base.java");
+		IType base= cu1.createType("public class Base {\n}\n", null, true, null);
+
+		List<IType[]> changes= new ArrayList<>();
+		ITypeHierarchyLifeCycleListener listener= (typeHierarchyProvider, changedTypes) -> changes.add(changedTypes);
+		IRunnableContext context= (fork, cancelable, runnable) -> runnable.run(new NullProgressMonitor());
+
+		TypeHierarchyLifeCycle lifeCycle= new TypeHierarchyLifeCycle(false);
+		lifeCycle.addChangedListener(listener);
+		try {
+			lifeCycle.ensureRefreshedTypeHierarchy(base, context);
+			assertEquals(0, lifeCycle.getHierarchy().getAllSubtypes(base).length);
+
+			// the delta only reports the added package
+			JavaCore.run(monitor -> {
+				IPackageFragment pack2= root1.createPackageFragment("pack2", true, null);
+				pack2.createCompilationUnit("Sub.java",
+						"package pack2;\n" +
+						"public class Sub extends pack1.Base {\n" +
+						"}\n", true, null);
+			}, null);
+			assertEquals(1, changes.size());
+			assertNull(changes.get(0));
+
+			lifeCycle.ensureRefreshedTypeHierarchy(base, context);
+			IType[] subtypes= lifeCycle.getHierarchy().getAllSubtypes(base);
+			assertEquals(1, subtypes.length);
+			assertEquals("pack2.Sub", subtypes[0].getFullyQualifiedName());
+			assertFalse(lifeCycle.isShapeKept());
+		} finally {
+			lifeCycle.removeChangedListener(listener);
+			lifeCycle.freeHierarchy();
+		}
+	}
 }
@@ -0,0 +1,290 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.core;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.swt.widgets.Shell;
+
+import org.eclipse.ui.dialogs.FilteredItemsSelectionDialog.AbstractContentProvider;
+import org.eclipse.ui.dialogs.FilteredItemsSelectionDialog.ItemsFilter;
+
+import org.eclipse.jdt.core.IBuffer;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.TypeNameMatch;
+
+import org.eclipse.jdt.internal.corext.util.TypeInfoFilter;
+import org.eclipse.jdt.internal.corext.util.TypeNameIndex;
+
+import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.dialogs.FilteredTypesSelectionDialog;
+
+public class TypeNameIndexTest {
+
+	private static final long TIMEOUT= 30000;
+
+	/**
+	 * Collects the types the dialog finds for the empty pattern.
+	 */
+	private static final class TestDialog extends FilteredTypesSelectionDialog {
+
+		TestDialog(Shell shell) {
+			super(shell, false, null, SearchEngine.createWorkspaceScope(), IJavaSearchConstants.TYPE);
+		}
+
+		List<TypeNameMatch> findTypes() throws CoreException {
+			List<TypeNameMatch> result= new ArrayList<>();
+			fillContentProvider(new AbstractContentProvider() {
+				@Override
+				public void add(Object item, ItemsFilter itemsFilter) {
+					result.add((TypeNameMatch) item);
+				}
+			}, createFilter(), new NullProgressMonitor());
+			return result;
+		}
+	}
+
+	@Rule
+	public ProjectTestSetup pts= new ProjectTestSetup();
+
+	private IJavaProject fJProject1;
+	private IPackageFragment fPack;
+
+	@Before
+	public void setUp() throws Exception {
+		fJProject1= JavaProjectHelper.createJavaProject("TestProject1", "bin");
+		IPackageFragmentRoot root= JavaProjectHelper.addSourceContainer(fJProject1, "src");
+		fPack= root.createPackageFragment("tni", true, null);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		JavaProjectHelper.delete(fJProject1);
+	}
+
+	private static TypeInfoFilter createFilter(String text) {
+		return new TypeInfoFilter(text, SearchEngine.createWorkspaceScope(), IJavaSearchConstants.TYPE, null);
+	}
+
+	/**
+	 * Returns the types of package <code>tni</code> that the index reports for the given filter
+	 * text, waits until the index is available.
+	 *
+	 * @param text the filter text
+	 * @return the matches
+	 * @throws Exception if the index does not become available
+	 */
+	private static List<TypeNameMatch> search(String text) throws Exception {
+		TypeInfoFilter filter= createFilter(text);
+		long end= System.currentTimeMillis() + TIMEOUT;
+		while (true) {
+			List<TypeNameMatch> result= new ArrayList<>();
+			if (TypeNameIndex.getInstance().search(filter, match -> {
+				if ("tni".equals(match.getPackageName()))
+					result.add(match);
+			}, new NullProgressMonitor())) {
+				return result;
+			}
+			if (System.currentTimeMillis() > end)
+				throw new AssertionError("type name index not built");
+			Thread.sleep(50);
+		}
+	}
+
+	private static String[] getSimpleNames(List<TypeNameMatch> matches) {
+		String[] names= new String[matches.size()];
+		for (int i= 0; i < names.length; i++) {
+			names[i]= matches.get(i).getSimpleTypeName();
+		}
+		Arrays.sort(names);
+		return names;
+	}
+
+	/**
+	 * Waits until the index reports the given simple names for the given filter text.
+	 *
+	 * @param text the filter text
+	 * @param expected the expected simple names, sorted
+	 * @return the matches
+	 * @throws Exception if the index does not report the names
+	 */
+	private static List<TypeNameMatch> assertSearch(String text, String... expected) throws Exception {
+		long end= System.currentTimeMillis() + TIMEOUT;
+		while (true) {
+			List<TypeNameMatch> result= search(text);
+			if (Arrays.equals(expected, getSimpleNames(result)) || System.currentTimeMillis() > end) {
+				assertArrayEquals(text, expected, getSimpleNames(result));
+				return result;
+			}
+			Thread.sleep(50);
+		}
+	}
+
+	private static TypeNameMatch findMatch(List<TypeNameMatch> matches, String simpleName) {
+		for (TypeNameMatch match : matches) {
+			if (match.getSimpleTypeName().equals(simpleName))
+				return match;
+		}
+		return null;
+	}
+
+	private void createTypes() throws Exception {
+		fPack.createCompilationUnit("TniAlpha.java",
+				"package tni;\n" +
+				"public class TniAlpha {}\n" +
+				"class TniBeta {}\n" +
+				"class TniBetaMax {}\n" +
+				"class TniGamma {}\n", true, null);
+	}
+
+	@Test
+	public void testNamePrefix() throws Exception {
+		createTypes();
+		assertSearch("tnibeta", "TniBeta", "TniBetaMax");
+		assertSearch("TniBeta ", "TniBeta");
+		assertSearch("tni.TniG", "TniGamma");
+		assertSearch("TniC");
+	}
+
+	@Test
+	public void testCamelCaseAndWildcards() throws Exception {
+		createTypes();
+		assertSearch("TBM", "TniBetaMax");
+		assertSearch("Tni*a", "TniAlpha", "TniBeta", "TniGamma");
+		assertSearch("*Max", "TniBetaMax");
+		assertSearch("?niAlpha", "TniAlpha");
+	}
+
+	@Test
+	public void testAddedAndRemovedTypes() throws Exception {
+		ICompilationUnit cuA= fPack.createCompilationUnit("TniAlpha.java",
+				"package tni;\n" +
+				"public class TniAlpha {}\n" +
+				"class TniGamma {}\n", true, null);
+		ICompilationUnit cuB= fPack.createCompilationUnit("TniBeta.java",
+				"package tni;\n" +
+				"public class TniBeta {\n" +
+				"	class TniDelta {}\n" +
+				"}\n", true, null);
+		assertSearch("Tni", "TniAlpha", "TniBeta", "TniDelta", "TniGamma");
+
+		fPack.createCompilationUnit("TniAlpha.java",
+				"package tni;\n" +
+				"public class TniAlpha {}\n" +
+				"class TniEpsilon {}\n" +
+				"class TniAardvark {}\n", true, null);
+		assertSearch("Tni", "TniAardvark", "TniAlpha", "TniBeta", "TniDelta", "TniEpsilon");
+
+		cuB.delete(true, null);
+		List<TypeNameMatch> matches= assertSearch("Tni", "TniAardvark", "TniAlpha", "TniEpsilon");
+		assertEquals(cuA, findMatch(matches, "TniAlpha").getType().getCompilationUnit());
+	}
+
+	@Test
+	public void testReconcile() throws Exception {
+		ICompilationUnit cuA= fPack.createCompilationUnit("TniAlpha.java",
+				"package tni;\n" +
+				"public class TniAlpha {\n" +
+				"	void foo() {\n" +
+				"	}\n" +
+				"}\n", true, null);
+		assertSearch("Tni", "TniAlpha");
+
+		cuA.becomeWorkingCopy(null);
+		try {
+			// wait until all changes so far have been patched into the index
+			fPack.createCompilationUnit("TniBeta.java",
+					"package tni;\n" +
+					"public class TniBeta {}\n", true, null);
+			TypeNameMatch alpha= findMatch(assertSearch("Tni", "TniAlpha", "TniBeta"), "TniAlpha");
+
+			// changes inside of method bodies keep the types of the unit
+			IBuffer buffer= cuA.getBuffer();
+			buffer.setContents("package tni;\n" +
+					"public class TniAlpha {\n" +
+					"	void foo() {\n" +
+					"		foo();\n" +
+					"	}\n" +
+					"}\n");
+			cuA.reconcile(ICompilationUnit.NO_AST, false, null, null);
+			fPack.createCompilationUnit("TniGamma.java",
+					"package tni;\n" +
+					"public class TniGamma {}\n", true, null);
+			assertSame(alpha, findMatch(assertSearch("Tni", "TniAlpha", "TniBeta", "TniGamma"), "TniAlpha"));
+
+			// new types are seen before the unit is saved
+			buffer.setContents("package tni;\n" +
+					"public class TniAlpha {\n" +
+					"	void foo() {\n" +
+					"		foo();\n" +
+					"	}\n" +
+					"	class TniDelta {}\n" +
+					"}\n");
+			cuA.reconcile(ICompilationUnit.NO_AST, false, null, null);
+			assertSearch("Tni", "TniAlpha", "TniBeta", "TniDelta", "TniGamma");
+		} finally {
+			cuA.discardWorkingCopy();
+		}
+		assertSearch("Tni", "TniAlpha", "TniBeta", "TniGamma");
+	}
+
+	@Test
+	public void testTypeSelectionDialog() throws Exception {
+		createTypes();
+		search("Tni");
+
+		TestDialog dialog= new TestDialog(JavaPlugin.getActiveWorkbenchShell());
+		List<TypeNameMatch> matches= new ArrayList<>();
+		for (TypeNameMatch match : dialog.findTypes()) {
+			if ("tni".equals(match.getPackageName()))
+				matches.add(match);
+		}
+		assertArrayEquals(new String[] { "TniAlpha", "TniBeta", "TniBetaMax", "TniGamma" }, getSimpleNames(matches));
+
+		// the dialog reports the types patched into the index
+		fPack.createCompilationUnit("TniDelta.java",
+				"package tni;\n" +
+				"public class TniDelta {}\n", true, null);
+		assertSearch("TniD", "TniDelta");
+		matches.clear();
+		for (TypeNameMatch match : dialog.findTypes()) {
+			if ("tni".equals(match.getPackageName()))
+				matches.add(match);
+		}
+		assertArrayEquals(new String[] { "TniAlpha", "TniBeta", "TniBetaMax", "TniDelta", "TniGamma" }, getSimpleNames(matches));
+	}
+}
@@ -0,0 +1,171 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.core;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IImportDeclaration;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.manipulation.OrganizeImportsOperation;
+import org.eclipse.jdt.core.manipulation.OrganizeImportsOperation.IChooseImportQuery;
+import org.eclipse.jdt.core.manipulation.OrganizeImportsOperation.TypeNameMatchTable;
+import org.eclipse.jdt.core.search.TypeNameMatch;
+
+import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
+
+public class TypeNameMatchTableTest {
+
+	@Rule
+	public ProjectTestSetup pts= new ProjectTestSetup();
+
+	private IJavaProject fJProject1;
+
+	private IPackageFragmentRoot fSourceFolder;
+
+	@Before
+	public void setUp() throws Exception {
+		fJProject1= pts.getProject();
+		fSourceFolder= JavaProjectHelper.addSourceContainer(fJProject1, "src");
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		JavaProjectHelper.clear(fJProject1, pts.getDefaultClasspath());
+	}
+
+	private ICompilationUnit createUnit(String packageName, String typeName, String body) throws Exception {
+		String contents= "package " + packageName + ";\n" +
+				"public class " + typeName + " {\n" +
+				body +
+				"}\n";
+		return fSourceFolder.createPackageFragment(packageName, false, null).createCompilationUnit(typeName + ".java", contents, false, null);
+	}
+
+	private static void organizeImports(ICompilationUnit cu, TypeNameMatchTable table) throws Exception {
+		// all names used by the tests are unambiguous
+		IChooseImportQuery query= (openChoices, ranges) -> {
+			assertEquals(0, openChoices.length);
+			return new TypeNameMatch[0];
+		};
+		new OrganizeImportsOperation(cu, null, false, true, true, query, table).run(null);
+	}
+
+	private static void assertImports(ICompilationUnit cu, String... imports) throws Exception {
+		IImportDeclaration[] declarations= cu.getImports();
+		assertEquals(cu.getElementName() + "-count", imports.length, declarations.length);
+		for (int i= 0; i < imports.length; i++) {
+			assertEquals(cu.getElementName() + "-import" + i, imports[i], declarations[i].getElementName());
+		}
+	}
+
+	@Test
+	public void testLookup() throws Exception {
+		createUnit("p", "Foo", "");
+		createUnit("p", "Bar", "");
+		ICompilationUnit cuA= createUnit("a", "A", "    Foo foo;\n");
+		ICompilationUnit cuB= createUnit("b", "B", "    Foo foo;\n    Bar bar;\n");
+
+		TypeNameMatchTable table= new TypeNameMatchTable();
+		organizeImports(cuA, table);
+		organizeImports(cuB, table);
+
+		assertImports(cuA, "p.Foo");
+		assertImports(cuB, "p.Bar", "p.Foo");
+	}
+
+	@Test
+	public void testNamesAreLookedUpOnce() throws Exception {
+		ICompilationUnit cuFoo= createUnit("p", "Foo", "");
+		ICompilationUnit cuA= createUnit("a", "A", "    Foo foo;\n");
+		ICompilationUnit cuB= createUnit("b", "B", "    Foo foo;\n");
+
+		TypeNameMatchTable table= new TypeNameMatchTable();
+		organizeImports(cuA, table);
+
+		// the table is not updated, the operations must only share it on an unchanged model
+		cuFoo.delete(true, null);
+		createUnit("q", "Foo", "");
+		organizeImports(cuB, table);
+
+		assertImports(cuA, "p.Foo");
+		assertImports(cuB, "p.Foo");
+	}
+
+	@Test
+	public void testNoPrefixMatches() throws Exception {
+		createUnit("p", "Foo", "");
+		createUnit("q", "FooBar", "");
+		ICompilationUnit cuA= createUnit("a", "A", "    FooBar fooBar;\n");
+		ICompilationUnit cuB= createUnit("b", "B", "    Foo foo;\n");
+		ICompilationUnit cuC= createUnit("c", "C", "    Fo fo;\n");
+
+		TypeNameMatchTable table= new TypeNameMatchTable();
+		organizeImports(cuA, table);
+		organizeImports(cuB, table);
+		organizeImports(cuC, table);
+
+		assertImports(cuA, "q.FooBar");
+		assertImports(cuB, "p.Foo");
+		assertImports(cuC);
+	}
+
+	@Test
+	public void testClear() throws Exception {
+		ICompilationUnit cuFoo= createUnit("p", "Foo", "");
+		ICompilationUnit cuA= createUnit("a", "A", "    Foo foo;\n");
+		ICompilationUnit cuB= createUnit("b", "B", "    Foo foo;\n");
+
+		TypeNameMatchTable table= new TypeNameMatchTable();
+		organizeImports(cuA, table);
+
+		cuFoo.delete(true, null);
+		createUnit("q", "Foo", "");
+		table.clear();
+		organizeImports(cuB, table);
+
+		assertImports(cuA, "p.Foo");
+		assertImports(cuB, "q.Foo");
+	}
+
+	@Test
+	public void testScopesAreSeparate() throws Exception {
+		IJavaProject project2= JavaProjectHelper.createJavaProject("TestProject2", "bin");
+		try {
+			JavaProjectHelper.addRTJar(project2);
+			IPackageFragmentRoot sourceFolder2= JavaProjectHelper.addSourceContainer(project2, "src");
+			sourceFolder2.createPackageFragment("q", false, null).createCompilationUnit("Foo.java", "package q;\npublic class Foo {\n}\n", false, null);
+			ICompilationUnit cu2= sourceFolder2.createPackageFragment("b", false, null).createCompilationUnit("B.java", "package b;\npublic class B {\n    Foo foo;\n}\n", false, null);
+			createUnit("p", "Foo", "");
+			ICompilationUnit cuA= createUnit("a", "A", "    Foo foo;\n");
+
+			TypeNameMatchTable table= new TypeNameMatchTable();
+			organizeImports(cuA, table);
+			organizeImports(cu2, table);
+
+			assertImports(cuA, "p.Foo");
+			assertImports(cu2, "q.Foo");
+		} finally {
+			JavaProjectHelper.delete(project2);
+		}
+	}
+}
@@ -0,0 +1,144 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.core.source;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IField;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IType;
+
+import org.eclipse.jdt.internal.corext.codemanipulation.AddGetterSetterBatchOperation;
+import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
+
+import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
+
+/**
+ * Tests generation of getters and setters for several types at once.
+ *
+ * @see org.eclipse.jdt.internal.corext.codemanipulation.AddGetterSetterBatchOperation
+ */
+public class GenerateGettersSettersBatchTest extends SourceTestCase {
+	@Rule
+	public ProjectTestSetup pts= new ProjectTestSetup();
+
+	private static final String[] NO_PARAMETERS= new String[0];
+
+	private void runOperation(AddGetterSetterBatchOperation op) throws Exception {
+		op.run(new NullProgressMonitor());
+		for (ICompilationUnit unit : op.getResultingEdits().keySet()) {
+			JavaModelUtil.reconcile(unit);
+		}
+	}
+
+	private static void assertAccessors(IType type, String fieldName, String typeSignature) {
+		String name= Character.toUpperCase(fieldName.charAt(0)) + fieldName.substring(1);
+		assertTrue("getter of " + fieldName, type.getMethod("get" + name, NO_PARAMETERS).exists());
+		assertTrue("setter of " + fieldName, type.getMethod("set" + name, new String[] { typeSignature }).exists());
+	}
+
+	@Test
+	public void testSeveralTypesInOneUnit() throws Exception {
+		ICompilationUnit unit= fPackageP.createCompilationUnit("B.java",
+				"package p;\n" +
+				"\n" +
+				"public class B {\n" +
+				"	String name;\n" +
+				"	static class Inner {\n" +
+				"		int count;\n" +
+				"	}\n" +
+				"}\n" +
+				"class C {\n" +
+				"	long size;\n" +
+				"}\n", true, null);
+		IType b= unit.getType("B");
+		IType inner= b.getType("Inner");
+		IType c= unit.getType("C");
+
+		AddGetterSetterBatchOperation op= new AddGetterSetterBatchOperation(true);
+		op.addType(b, null, null, new IField[] { b.getField("name") });
+		op.addType(inner, null, null, new IField[] { inner.getField("count") });
+		op.addType(c, null, null, new IField[] { c.getField("size") });
+		runOperation(op);
+
+		assertEquals(1, op.getResultingEdits().size());
+		assertAccessors(b, "name", "QString;");
+		assertAccessors(inner, "count", "I");
+		assertAccessors(c, "size", "J");
+	}
+
+	@Test
+	public void testSeveralUnits() throws Exception {
+		IField field1= fClassA.createField("String field1;", null, false, new NullProgressMonitor());
+		ICompilationUnit unitB= fPackageP.createCompilationUnit("B.java",
+				"package p;\n" +
+				"\n" +
+				"public class B {\n" +
+				"	boolean field2;\n" +
+				"	Object field3;\n" +
+				"}\n", true, null);
+		IType b= unitB.getType("B");
+
+		AddGetterSetterBatchOperation op= new AddGetterSetterBatchOperation(true);
+		op.addType(fClassA, new IField[] { field1 }, null, null);
+		op.addType(b, null, new IField[] { b.getField("field2") }, new IField[] { b.getField("field3") });
+		runOperation(op);
+
+		assertArrayEquals(new ICompilationUnit[] { fClassA.getCompilationUnit(), unitB }, op.getResultingEdits().keySet().toArray());
+		assertTrue(fClassA.getMethod("getField1", NO_PARAMETERS).exists());
+		assertFalse(fClassA.getMethod("setField1", new String[] { "QString;" }).exists());
+		assertFalse(b.getMethod("isField2", NO_PARAMETERS).exists());
+		assertTrue(b.getMethod("setField2", new String[] { "Z" }).exists());
+		assertAccessors(b, "field3", "QObject;");
+	}
+
+	@Test
+	public void testExistingAccessorsKept() throws Exception {
+		IField field1= fClassA.createField("String field1;", null, false, new NullProgressMonitor());
+		fClassA.createMethod("public String getField1() {\n\treturn \"custom\";\n}\n", null, false, new NullProgressMonitor());
+		ICompilationUnit unitB= fPackageP.createCompilationUnit("B.java",
+				"package p;\n" +
+				"\n" +
+				"public class B {\n" +
+				"	int field2;\n" +
+				"	public void setField2(int value) {\n" +
+				"	}\n" +
+				"}\n", true, null);
+		IType b= unitB.getType("B");
+
+		AddGetterSetterBatchOperation op= new AddGetterSetterBatchOperation(true);
+		op.addType(fClassA, null, null, new IField[] { field1 });
+		op.addType(b, null, null, new IField[] { b.getField("field2") });
+		runOperation(op);
+
+		IMethod getter= fClassA.getMethod("getField1", NO_PARAMETERS);
+		assertTrue(getter.getSource().contains("\"custom\""));
+		assertTrue(fClassA.getMethod("setField1", new String[] { "QString;" }).exists());
+		assertEquals(2, fClassA.getMethods().length);
+
+		IMethod setter= b.getMethod("setField2", new String[] { "I" });
+		assertTrue(setter.getSource().contains("int value"));
+		assertTrue(b.getMethod("getField2", NO_PARAMETERS).exists());
+		assertEquals(2, b.getMethods().length);
+	}
+}
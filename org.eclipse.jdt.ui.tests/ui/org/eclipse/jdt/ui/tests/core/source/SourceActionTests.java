@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -29,6 +29,7 @@ import org.junit.runners.Suite;
 AddUnimplementedMethodsTest.class,
 GenerateGettersSettersTest.class,
 GenerateGettersSettersTest16.class,
+GenerateGettersSettersBatchTest.class,
 GenerateDelegateMethodsTest.class,
 AddUnimplementedConstructorsTest.class,
 GenerateConstructorUsingFieldsTest.class,
@@ -0,0 +1,179 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.packageview;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.swt.widgets.Display;
+
+import org.eclipse.core.resources.IWorkspaceDescription;
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.ui.IViewPart;
+import org.eclipse.ui.IWorkbenchPage;
+import org.eclipse.ui.PlatformUI;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+
+import org.eclipse.jdt.internal.ui.packageview.PackageExplorerContentProvider;
+import org.eclipse.jdt.internal.ui.util.CoreUtility;
+
+/**
+ * Tests the coalescing of the viewer updates that the PackageExplorerContentProvider queues for
+ * Java model changes reported outside of the UI thread.
+ */
+public class ContentProviderUpdateCoalescingTests {
+
+	private IJavaProject fJProject;
+	private IPackageFragment fPack2;
+	private IPackageFragment fPack6;
+	private ICompilationUnit fCU1;
+	private ICompilationUnit fCU2;
+	private ICompilationUnit fCU3;
+
+	private IWorkbenchPage fPage;
+	private MockPluginView fMyPart;
+	private PackageExplorerContentProvider fProvider;
+	private boolean fEnableAutoBuildAfterTesting;
+
+	@Before
+	public void setUp() throws Exception {
+		IWorkspaceDescription workspaceDesc= ResourcesPlugin.getWorkspace().getDescription();
+		fEnableAutoBuildAfterTesting= workspaceDesc.isAutoBuilding();
+		if (fEnableAutoBuildAfterTesting)
+			CoreUtility.setAutoBuilding(false);
+
+		fJProject= JavaProjectHelper.createJavaProject("TestProject", "bin");
+		IPackageFragmentRoot root= JavaProjectHelper.addSourceContainer(fJProject, "src1");
+		fPack2= root.createPackageFragment("pack2", true, null);
+		root.createPackageFragment("pack3", true, null);
+		root.createPackageFragment("pack3.pack5", true, null);
+		fPack6= root.createPackageFragment("pack3.pack5.pack6", true, null);
+		fCU1= fPack2.createCompilationUnit("Object.java", "", true, null);
+		fCU2= fPack6.createCompilationUnit("Object.java", "", true, null);
+		fCU3= fPack6.createCompilationUnit("Jen.java", "", true, null);
+
+		fPage= PlatformUI.getWorkbench().getActiveWorkbenchWindow().getActivePage();
+		assertNotNull(fPage);
+		IViewPart myPart= fPage.showView("org.eclipse.jdt.ui.tests.packageview.MockPluginView");
+		if (myPart instanceof MockPluginView) {
+			fMyPart= (MockPluginView) myPart;
+			fMyPart.setFolding(false);
+			fMyPart.setFlatLayout(false);
+			fMyPart.clear();
+			fProvider= (PackageExplorerContentProvider) fMyPart.getTreeViewer().getContentProvider();
+		} else {
+			fail("Unable to get view");
+		}
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		JavaProjectHelper.delete(fJProject);
+		fPage.hideView(fMyPart);
+
+		if (fEnableAutoBuildAfterTesting)
+			CoreUtility.setAutoBuilding(true);
+	}
+
+	@Test
+	public void testRemoveBelowRefreshedElementIsDropped() throws Exception {
+		postInBackground(
+				TestDelta.createCUDelta(new ICompilationUnit[] { fCU2 }, fPack6, IJavaElementDelta.REMOVED),
+				TestDelta.createCUDelta(new ICompilationUnit[] { fCU2, fCU3 }, fPack6, IJavaElementDelta.REMOVED));
+		runPendingUpdates();
+
+		assertFalse("Remove happened", fMyPart.hasRemoveHappened());
+		assertEquals("One refresh", 1, fMyPart.getRefreshedObject().size());
+	}
+
+	@Test
+	public void testRemoveOutsideRefreshedElementIsKept() throws Exception {
+		postInBackground(
+				TestDelta.createCUDelta(new ICompilationUnit[] { fCU1 }, fPack2, IJavaElementDelta.REMOVED),
+				TestDelta.createCUDelta(new ICompilationUnit[] { fCU2, fCU3 }, fPack6, IJavaElementDelta.REMOVED));
+		runPendingUpdates();
+
+		assertTrue("Remove happened", fMyPart.hasRemoveHappened());
+		assertTrue("Correct remove", fMyPart.getRemovedObjects().contains(fCU1));
+		assertEquals("One refresh", 1, fMyPart.getRefreshedObject().size());
+	}
+
+	@Test
+	public void testDuplicateRefreshesAreMerged() throws Exception {
+		IJavaElementDelta delta= TestDelta.createCUDelta(new ICompilationUnit[] { fCU2, fCU3 }, fPack6, IJavaElementDelta.REMOVED);
+		postInBackground(delta, delta, delta);
+		runPendingUpdates();
+
+		assertEquals("One refresh", 1, fMyPart.getRefreshedObject().size());
+	}
+
+	@Test
+	public void testTooManyUpdatesRefreshWholeViewer() throws Exception {
+		IJavaElementDelta[] deltas= new IJavaElementDelta[1001];
+		for (int i= 0; i < deltas.length; i++) {
+			deltas[i]= TestDelta.createCUDelta(new ICompilationUnit[] { fCU2 }, fPack6, IJavaElementDelta.REMOVED);
+		}
+		postInBackground(deltas);
+		runPendingUpdates();
+
+		assertFalse("Remove happened", fMyPart.hasRemoveHappened());
+		assertEquals("One refresh", 1, fMyPart.getRefreshedObject().size());
+		assertEquals("Refresh of the input", fMyPart.getTreeViewer().getInput(), fMyPart.getRefreshedObject().get(0));
+	}
+
+	/*
+	 * Reports the deltas from a background thread, like the Java model does, so that the updates
+	 * are queued and coalesced instead of being run right away.
+	 */
+	private void postInBackground(IJavaElementDelta... deltas) throws Exception {
+		Exception[] failure= new Exception[1];
+		Thread thread= new Thread(() -> {
+			try {
+				for (IJavaElementDelta delta : deltas) {
+					fProvider.elementChanged(new ElementChangedEvent(delta, ElementChangedEvent.POST_CHANGE));
+				}
+			} catch (RuntimeException e) {
+				failure[0]= e;
+			}
+		});
+		thread.start();
+		thread.join();
+		if (failure[0] != null)
+			throw failure[0];
+	}
+
+	private void runPendingUpdates() {
+		fProvider.runPendingUpdates();
+		Display display= fMyPart.getTreeViewer().getControl().getDisplay();
+		while (display.readAndDispatch()) {
+			// process the scheduled update job
+		}
+	}
+}
@@ -26,6 +26,7 @@ import org.junit.runners.Suite;
 	ContentProviderTests5.class,
 	ContentProviderTests6.class,
 	ContentProviderTests7.class,
+	ContentProviderUpdateCoalescingTests.class,
 	PackageExplorerShowInTests.class,
 	WorkingSetDropAdapterTest.class,
 	HierarchicalContentProviderTests.class,
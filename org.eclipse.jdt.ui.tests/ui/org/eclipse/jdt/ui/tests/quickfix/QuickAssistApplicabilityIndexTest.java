@@ -0,0 +1,178 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.quickfix;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+
+import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
+import org.eclipse.jdt.ui.text.java.IInvocationContext;
+
+import org.eclipse.jdt.internal.ui.text.correction.AssistContext;
+import org.eclipse.jdt.internal.ui.text.correction.QuickAssistApplicabilityIndex;
+
+public class QuickAssistApplicabilityIndexTest extends QuickFixTest {
+
+	@Rule
+	public ProjectTestSetup projectSetup= new ProjectTestSetup();
+
+	private IJavaProject fJProject1;
+	private ICompilationUnit fCu;
+	private String fSource;
+
+	/** The processors that were asked, in order */
+	private final List<String> fAsked= new ArrayList<>();
+
+	/** The processor that has assists everywhere, or <code>null</code> */
+	private String fApplicable;
+
+	private String[] fProcessors= { "first", "second" };
+
+	@Before
+	public void setUp() throws Exception {
+		fJProject1= projectSetup.getProject();
+		IPackageFragmentRoot sourceFolder= JavaProjectHelper.addSourceContainer(fJProject1, "src");
+		IPackageFragment pack1= sourceFolder.createPackageFragment("test1", false, null);
+		fSource= "package test1;\n" +
+				"public class E {\n" +
+				"    public void foo(int count) {\n" +
+				"        int someValue= count;\n" +
+				"    }\n" +
+				"}\n";
+		fCu= pack1.createCompilationUnit("E.java", fSource, false, null);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		JavaProjectHelper.clear(fJProject1, projectSetup.getDefaultClasspath());
+	}
+
+	private QuickAssistApplicabilityIndex<String> createIndex() {
+		return new QuickAssistApplicabilityIndex<>(() -> fProcessors, (processor, context) -> {
+			fAsked.add(processor);
+			return processor.equals(fApplicable);
+		});
+	}
+
+	private IInvocationContext createContext(CompilationUnit astRoot, int offset, int length) {
+		AssistContext context= new AssistContext(fCu, offset, length);
+		context.setASTRoot(astRoot);
+		return context;
+	}
+
+	@Test
+	public void testCaretMovesInsideNode() throws Exception {
+		QuickAssistApplicabilityIndex<String> index= createIndex();
+		CompilationUnit astRoot= getASTRoot(fCu);
+		int offset= fSource.indexOf("someValue");
+
+		assertFalse(index.hasAssists(createContext(astRoot, offset, 0)));
+		assertEquals(2, fAsked.size());
+
+		// same covering node, the processors are not asked again
+		assertFalse(index.hasAssists(createContext(astRoot, offset + 3, 0)));
+		assertFalse(index.hasAssists(createContext(astRoot, offset + 8, 0)));
+		assertEquals(2, fAsked.size());
+
+		// other node
+		assertFalse(index.hasAssists(createContext(astRoot, fSource.indexOf("count;"), 0)));
+		assertEquals(4, fAsked.size());
+	}
+
+	@Test
+	public void testStopsAtFirstApplicableProcessor() throws Exception {
+		fApplicable= "first";
+		QuickAssistApplicabilityIndex<String> index= createIndex();
+		CompilationUnit astRoot= getASTRoot(fCu);
+		int offset= fSource.indexOf("someValue");
+
+		assertTrue(index.hasAssists(createContext(astRoot, offset, 0)));
+		assertTrue(index.hasAssists(createContext(astRoot, offset + 1, 0)));
+		assertEquals(List.of("first"), fAsked);
+		assertEquals(1, index.size());
+	}
+
+	@Test
+	public void testSelectionsAreIndexedExactly() throws Exception {
+		QuickAssistApplicabilityIndex<String> index= createIndex();
+		CompilationUnit astRoot= getASTRoot(fCu);
+		int offset= fSource.indexOf("someValue");
+
+		index.hasAssists(createContext(astRoot, offset, 4));
+		index.hasAssists(createContext(astRoot, offset, 4));
+		assertEquals(2, fAsked.size());
+
+		index.hasAssists(createContext(astRoot, offset, 5));
+		assertEquals(4, fAsked.size());
+	}
+
+	@Test
+	public void testNewASTClearsIndex() throws Exception {
+		QuickAssistApplicabilityIndex<String> index= createIndex();
+		int offset= fSource.indexOf("someValue");
+
+		index.hasAssists(createContext(getASTRoot(fCu), offset, 0));
+		assertEquals(2, index.size());
+
+		index.hasAssists(createContext(getASTRoot(fCu), offset, 0));
+		assertEquals(4, fAsked.size());
+		assertEquals(2, index.size());
+	}
+
+	@Test
+	public void testClear() throws Exception {
+		QuickAssistApplicabilityIndex<String> index= createIndex();
+		CompilationUnit astRoot= getASTRoot(fCu);
+		int offset= fSource.indexOf("someValue");
+
+		assertFalse(index.hasAssists(createContext(astRoot, offset, 0)));
+
+		// e.g. a preference change enables an assist
+		fApplicable= "second";
+		index.clear();
+		assertEquals(0, index.size());
+		assertTrue(index.hasAssists(createContext(astRoot, offset, 0)));
+	}
+
+	@Test
+	public void testProcessorChangeClearsIndex() throws Exception {
+		QuickAssistApplicabilityIndex<String> index= createIndex();
+		CompilationUnit astRoot= getASTRoot(fCu);
+		int offset= fSource.indexOf("someValue");
+
+		assertFalse(index.hasAssists(createContext(astRoot, offset, 0)));
+
+		fApplicable= "third";
+		fProcessors= new String[] { "first", "second", "third" };
+		assertTrue(index.hasAssists(createContext(astRoot, offset, 0)));
+		assertEquals(List.of("first", "second", "first", "second", "third"), fAsked);
+	}
+}
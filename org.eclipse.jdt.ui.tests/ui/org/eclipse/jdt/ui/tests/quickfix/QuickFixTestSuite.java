@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -61,6 +61,7 @@ import org.junit.runners.Suite;
 	AdvancedQuickAssistTest10.class,
 	CleanUpTestCaseSuite.class,
 	QuickFixEnablementTest.class,
+	QuickAssistApplicabilityIndexTest.class,
 	SurroundWithTemplateTest.class,
 	TypeParameterMismatchTest.class,
 	PropertiesFileQuickAssistTest.class,
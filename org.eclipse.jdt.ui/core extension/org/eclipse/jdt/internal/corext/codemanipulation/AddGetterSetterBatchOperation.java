@@ -0,0 +1,212 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.codemanipulation;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.eclipse.core.runtime.Assert;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.core.runtime.jobs.ISchedulingRule;
+
+import org.eclipse.core.resources.IWorkspaceRunnable;
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.text.edits.TextEdit;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IField;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.Modifier;
+import org.eclipse.jdt.core.dom.rewrite.ASTRewrite;
+
+import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
+import org.eclipse.jdt.internal.corext.refactoring.util.RefactoringASTParser;
+import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
+import org.eclipse.jdt.internal.corext.util.ParallelRunner;
+
+import org.eclipse.jdt.internal.ui.preferences.JavaPreferencesSettings;
+
+/**
+ * Workspace runnable to add accessor methods to the fields of many types at once, e.g. when
+ * generating the accessors of a whole hierarchy of data classes.
+ * <p>
+ * The accessors of all types declared in the same compilation unit are recorded in a single
+ * {@link ASTRewrite}, so every compilation unit is parsed, rewritten and changed only once. The
+ * compilation units are independent of each other and their edits are computed concurrently;
+ * the edits are then applied one compilation unit after the other. Existing accessors are always
+ * kept.
+ * </p>
+ */
+public final class AddGetterSetterBatchOperation implements IWorkspaceRunnable {
+
+	/** The accessors to create for one type */
+	private static final class TypeRequest {
+
+		private final IType fType;
+		private final IField[] fGetters;
+		private final IField[] fSetters;
+		private final IField[] fAccessors;
+
+		TypeRequest(IType type, IField[] getters, IField[] setters, IField[] accessors) {
+			fType= type;
+			fGetters= getters;
+			fSetters= setters;
+			fAccessors= accessors;
+		}
+	}
+
+	private static final IField[] NO_FIELDS= new IField[0];
+
+	/** The requests, grouped by compilation unit */
+	private final Map<ICompilationUnit, List<TypeRequest>> fRequests= new LinkedHashMap<>();
+
+	/** Should the compilation unit contents be saved? */
+	private final boolean fSave;
+
+	/** Should comments be generated? */
+	private boolean fCreateComments= true;
+
+	/** Should the accessors be sorted? */
+	private boolean fSort= false;
+
+	/** The visibility flags of the new accessors */
+	private int fVisibility= Modifier.PUBLIC;
+
+	/** The resulting text edits */
+	private final Map<ICompilationUnit, TextEdit> fEdits= new LinkedHashMap<>();
+
+	/**
+	 * Creates a new batch operation.
+	 *
+	 * @param save <code>true</code> if the changed compilation units should be saved,
+	 *            <code>false</code> otherwise
+	 */
+	public AddGetterSetterBatchOperation(boolean save) {
+		fSave= save;
+	}
+
+	/**
+	 * Adds the accessors of a type to this operation.
+	 *
+	 * @param type the type to add the accessors to, must be declared in a compilation unit
+	 * @param getters the fields to create getters for, or <code>null</code>
+	 * @param setters the fields to create setters for, or <code>null</code>
+	 * @param accessors the fields to create both, or <code>null</code>
+	 */
+	public void addType(IType type, IField[] getters, IField[] setters, IField[] accessors) {
+		Assert.isNotNull(type);
+		ICompilationUnit unit= type.getCompilationUnit();
+		Assert.isNotNull(unit);
+		fRequests.computeIfAbsent(unit, u -> new ArrayList<>()).add(new TypeRequest(type,
+				getters != null ? getters : NO_FIELDS,
+				setters != null ? setters : NO_FIELDS,
+				accessors != null ? accessors : NO_FIELDS));
+	}
+
+	/**
+	 * Determines whether comments should be generated.
+	 *
+	 * @param create <code>true</code> to generate comments, <code>false</code> otherwise
+	 */
+	public void setCreateComments(boolean create) {
+		fCreateComments= create;
+	}
+
+	/**
+	 * Determines whether the accessors should be sorted.
+	 *
+	 * @param sort <code>true</code> to sort the accessors, <code>false</code> otherwise
+	 */
+	public void setSort(boolean sort) {
+		fSort= sort;
+	}
+
+	/**
+	 * Sets the visibility modifier of the generated accessors.
+	 *
+	 * @param visibility the visibility modifier
+	 */
+	public void setVisibility(int visibility) {
+		fVisibility= visibility;
+	}
+
+	/**
+	 * Returns the resulting text edits.
+	 *
+	 * @return the text edits of the changed compilation units, in the order their types were added
+	 */
+	public Map<ICompilationUnit, TextEdit> getResultingEdits() {
+		return fEdits;
+	}
+
+	/**
+	 * Returns the scheduling rule for this operation.
+	 *
+	 * @return the scheduling rule
+	 */
+	public ISchedulingRule getSchedulingRule() {
+		return ResourcesPlugin.getWorkspace().getRoot();
+	}
+
+	/*
+	 * @see org.eclipse.core.resources.IWorkspaceRunnable#run(org.eclipse.core.runtime.IProgressMonitor)
+	 */
+	@Override
+	public void run(IProgressMonitor monitor) throws CoreException {
+		SubMonitor subMonitor= SubMonitor.convert(monitor, CodeGenerationMessages.AddGetterSetterOperation_description, fRequests.size() + 1);
+		fEdits.clear();
+		List<Entry<ICompilationUnit, List<TypeRequest>>> entries= new ArrayList<>(fRequests.entrySet());
+		TextEdit[] edits= new TextEdit[entries.size()];
+		ParallelRunner.run(entries.size(), i -> {
+			Entry<ICompilationUnit, List<TypeRequest>> entry= entries.get(i);
+			edits[i]= createEdit(entry.getKey(), entry.getValue());
+		}, subMonitor.split(1));
+
+		for (int i= 0; i < edits.length; i++) {
+			ICompilationUnit unit= entries.get(i).getKey();
+			fEdits.put(unit, edits[i]);
+			JavaModelUtil.applyEdit(unit, edits[i], fSave, subMonitor.split(1));
+		}
+	}
+
+	/**
+	 * Computes the edit adding the accessors of all given types to a compilation unit.
+	 *
+	 * @param unit the compilation unit
+	 * @param requests the requests of the types declared in the compilation unit
+	 * @return the resulting text edit
+	 * @throws CoreException if an error occurs
+	 */
+	private TextEdit createEdit(ICompilationUnit unit, List<TypeRequest> requests) throws CoreException {
+		CompilationUnit root= new RefactoringASTParser(IASTSharedValues.SHARED_AST_LEVEL).parse(unit, true);
+		CodeGenerationSettings settings= JavaPreferencesSettings.getCodeGenerationSettings(unit);
+		settings.createComments= fCreateComments;
+		ASTRewrite astRewrite= ASTRewrite.create(root.getAST());
+		for (TypeRequest request : requests) {
+			AddGetterSetterOperation operation= new AddGetterSetterOperation(request.fType, request.fGetters, request.fSetters, request.fAccessors, root, null, null, settings, false, false);
+			operation.setSort(fSort);
+			operation.setVisibility(fVisibility);
+			operation.addAccessors(astRewrite, new NullProgressMonitor());
+		}
+		return astRewrite.rewriteAST();
+	}
+}
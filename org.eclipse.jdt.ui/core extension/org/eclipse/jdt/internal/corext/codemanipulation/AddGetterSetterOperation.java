@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -40,6 +40,7 @@ import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IMethod;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.ToolFactory;
 import org.eclipse.jdt.core.dom.ASTNode;
 import org.eclipse.jdt.core.dom.AbstractTypeDeclaration;
 import org.eclipse.jdt.core.dom.AnonymousClassDeclaration;
@@ -115,6 +116,12 @@ public final class AddGetterSetterOperation implements IWorkspaceRunnable {
 	/** The visibility flags of the new accessors */
 	private int fVisibility= Modifier.PUBLIC;
 
+	/** The formatter for the new accessors, shared by all accessors of one run */
+	private CodeFormatter fFormatter;
+
+	/** The line delimiter of the compilation unit */
+	private String fLineDelimiter;
+
 	/**
 	 * Creates a new add getter setter operation.
 	 *
@@ -146,19 +153,15 @@ public final class AddGetterSetterOperation implements IWorkspaceRunnable {
 	}
 
 	/**
-	 * Adds a new accessor for the specified field.
+	 * Adds a new accessor.
 	 *
-	 * @param type the type
-	 * @param field the field
 	 * @param contents the contents of the accessor method
 	 * @param rewrite the list rewrite to use
 	 * @param insertion the insertion point
-	 * @throws JavaModelException if an error occurs
 	 */
-	private void addNewAccessor(final IType type, final IField field, final String contents, final ListRewrite rewrite, final ASTNode insertion) throws JavaModelException {
-		final String delimiter= StubUtility.getLineDelimiterUsed(type);
+	private void addNewAccessor(final String contents, final ListRewrite rewrite, final ASTNode insertion) {
 		final MethodDeclaration declaration= (MethodDeclaration) rewrite.getASTRewrite().createStringPlaceholder(
-				CodeFormatterUtil.format(CodeFormatter.K_CLASS_BODY_DECLARATIONS, contents, 0, delimiter, FormatterProfileManager.getProjectSettings(field.getJavaProject())),
+				CodeFormatterUtil.format(fFormatter, CodeFormatter.K_CLASS_BODY_DECLARATIONS, contents, 0, fLineDelimiter),
 				ASTNode.METHOD_DECLARATION);
 		if (insertion != null)
 			rewrite.insertBefore(declaration, insertion, null);
@@ -186,7 +189,7 @@ public final class AddGetterSetterOperation implements IWorkspaceRunnable {
 			} else
 				sibling= fInsert;
 			ASTNode insertion= StubUtility2Core.getNodeToInsertBefore(rewrite, sibling);
-			addNewAccessor(type, field, GetterSetterUtil.getGetterStub(field, name, fSettings.createComments, fVisibility | (field.getFlags() & Flags.AccStatic)), rewrite, insertion);
+			addNewAccessor(GetterSetterUtil.getGetterStub(field, name, fSettings.createComments, fVisibility | (field.getFlags() & Flags.AccStatic)), rewrite, insertion);
 		}
 	}
 
@@ -211,7 +214,7 @@ public final class AddGetterSetterOperation implements IWorkspaceRunnable {
 			} else
 				sibling= fInsert;
 			ASTNode insertion= StubUtility2Core.getNodeToInsertBefore(rewrite, sibling);
-			addNewAccessor(type, field, GetterSetterUtil.getSetterStub(field, name, fSettings.createComments, fVisibility | (field.getFlags() & Flags.AccStatic)), rewrite, insertion);
+			addNewAccessor(GetterSetterUtil.getSetterStub(field, name, fSettings.createComments, fVisibility | (field.getFlags() & Flags.AccStatic)), rewrite, insertion);
 			if (Flags.isFinal(field.getFlags())) {
 				FieldDeclaration fieldDecl= ASTNodes.getParent(NodeFinder.perform(fASTRoot, field.getNameRange()), FieldDeclaration.class);
 				if (fieldDecl != null) {
@@ -304,6 +307,29 @@ public final class AddGetterSetterOperation implements IWorkspaceRunnable {
 			monitor.beginTask("", fGetterFields.length + fSetterFields.length); //$NON-NLS-1$
 			final ICompilationUnit unit= fType.getCompilationUnit();
 			final ASTRewrite astRewrite= ASTRewrite.create(fASTRoot.getAST());
+			addAccessors(astRewrite, monitor);
+			fEdit= astRewrite.rewriteAST();
+			if (fApply) {
+				JavaModelUtil.applyEdit(unit, fEdit, fSave, new SubProgressMonitor(monitor, 1));
+			}
+		} finally {
+			monitor.done();
+		}
+	}
+
+	/**
+	 * Records the accessors of this operation in the given rewrite. Reports one unit of work on
+	 * the given monitor for each created getter, setter or pair of accessors.
+	 *
+	 * @param astRewrite the rewrite to use, created on the AST of this operation
+	 * @param monitor the progress monitor
+	 * @throws CoreException if an error occurs
+	 * @throws OperationCanceledException if the operation has been cancelled
+	 */
+	void addAccessors(ASTRewrite astRewrite, IProgressMonitor monitor) throws CoreException, OperationCanceledException {
+		fLineDelimiter= StubUtility.getLineDelimiterUsed(fType);
+		fFormatter= ToolFactory.createCodeFormatter(FormatterProfileManager.getProjectSettings(fType.getJavaProject()));
+		try {
 			ListRewrite listRewriter= null;
 			if (fType.isAnonymous()) {
 				final ClassInstanceCreation creation= ASTNodes.getParent(NodeFinder.perform(fASTRoot, fType.getNameRange()), ClassInstanceCreation.class);
@@ -369,12 +395,8 @@ public final class AddGetterSetterOperation implements IWorkspaceRunnable {
 					}
 				}
 			}
-			fEdit= astRewrite.rewriteAST();
-			if (fApply) {
-				JavaModelUtil.applyEdit(unit, fEdit, fSave, new SubProgressMonitor(monitor, 1));
-			}
 		} finally {
-			monitor.done();
+			fFormatter= null;
 		}
 	}
 
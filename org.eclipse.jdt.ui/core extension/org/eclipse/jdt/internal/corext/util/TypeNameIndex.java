@@ -0,0 +1,403 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.core.search.TypeNameMatch;
+import org.eclipse.jdt.core.search.TypeNameMatchRequestor;
+
+import org.eclipse.jdt.internal.corext.CorextMessages;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+
+/**
+ * An in-memory table of all types of the workspace, sorted by their simple names.
+ * <p>
+ * The table is built in the background the first time it is {@link #search searched}. Until
+ * then, {@link #search} returns <code>false</code> and clients have to fall back to
+ * {@link SearchEngine#searchAllTypeNames}. Afterwards, changed compilation units are patched into
+ * the table from Java element deltas; classpath changes and added or removed packages discard the
+ * table and it is built again. Changes inside of member bodies do not touch the table.
+ * </p>
+ * <p>
+ * Name patterns that start with a name prefix only visit the types whose simple name starts with
+ * that prefix.
+ * </p>
+ */
+public final class TypeNameIndex {
+
+	private static final Comparator<TypeNameMatch> BY_SIMPLE_NAME= (m1, m2) -> compareIgnoreCase(m1.getSimpleTypeName(), m2.getSimpleTypeName());
+
+	private static TypeNameIndex fgInstance;
+
+	public static synchronized TypeNameIndex getInstance() {
+		if (fgInstance == null)
+			fgInstance= new TypeNameIndex();
+		return fgInstance;
+	}
+
+	public static synchronized void shutdown() {
+		if (fgInstance != null) {
+			fgInstance.dispose();
+			fgInstance= null;
+		}
+	}
+
+	private final class UpdateJob extends Job {
+
+		public UpdateJob() {
+			super(CorextMessages.TypeNameIndex_job_name);
+			setSystem(true);
+			setPriority(DECORATE);
+		}
+
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			try {
+				update(monitor);
+			} catch (OperationCanceledException e) {
+				return Status.CANCEL_STATUS;
+			} catch (JavaModelException e) {
+				JavaPlugin.log(e);
+			}
+			return Status.OK_STATUS;
+		}
+	}
+
+	private final IElementChangedListener fDeltaListener= this::elementChanged;
+
+	private final UpdateJob fUpdateJob= new UpdateJob();
+
+	/** The types sorted by simple name, or <code>null</code> if the table is not available */
+	private volatile TypeNameMatch[] fMatches;
+
+	/** Whether the table has to be built from scratch */
+	private boolean fRebuild;
+
+	/** The compilation units whose types have to be patched into the table */
+	private Set<ICompilationUnit> fChangedUnits= new HashSet<>();
+
+	/** Incremented whenever the table is discarded */
+	private int fGeneration;
+
+	private boolean fStarted;
+
+	private TypeNameIndex() {
+	}
+
+	/**
+	 * Reports all types of the workspace that match the given filter, provided the table is
+	 * available. The filter's search scope must be the workspace scope. The first call starts
+	 * building the table.
+	 *
+	 * @param filter the filter
+	 * @param collector receives the matching types
+	 * @param monitor the progress monitor
+	 * @return <code>true</code> if the types have been reported, <code>false</code> if the table
+	 *         is not available yet
+	 * @throws OperationCanceledException if the monitor has been cancelled
+	 */
+	public boolean search(TypeInfoFilter filter, Consumer<TypeNameMatch> collector, IProgressMonitor monitor) throws OperationCanceledException {
+		TypeNameMatch[] matches= fMatches;
+		if (matches == null) {
+			start();
+			return false;
+		}
+		String prefix= getNamePrefix(filter);
+		int i= prefix.isEmpty() ? 0 : lowerBound(matches, prefix);
+		for (; i < matches.length; i++) {
+			TypeNameMatch match= matches[i];
+			if (!Strings.startsWithIgnoreCase(match.getSimpleTypeName(), prefix))
+				break;
+			if ((i & 0xFFF) == 0 && monitor.isCanceled())
+				throw new OperationCanceledException();
+			if (filter.matchesHistoryElement(match))
+				collector.accept(match);
+		}
+		return true;
+	}
+
+	private synchronized void start() {
+		if (fStarted)
+			return;
+		fStarted= true;
+		fRebuild= true;
+		JavaCore.addElementChangedListener(fDeltaListener, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+		fUpdateJob.schedule();
+	}
+
+	private synchronized void dispose() {
+		if (fStarted)
+			JavaCore.removeElementChangedListener(fDeltaListener);
+		fUpdateJob.cancel();
+		fMatches= null;
+	}
+
+	/**
+	 * Returns the prefix all simple names matching the given filter start with (ignoring case).
+	 *
+	 * @param filter the filter
+	 * @return the name prefix, possibly empty
+	 */
+	static String getNamePrefix(TypeInfoFilter filter) {
+		String pattern= filter.getNamePattern();
+		String prefix;
+		switch (filter.getSearchFlags()) {
+			case SearchPattern.R_EXACT_MATCH:
+			case SearchPattern.R_PREFIX_MATCH:
+				prefix= pattern;
+				break;
+			default:
+				// camel case and wildcard patterns only fix the first character
+				if (pattern.isEmpty() || pattern.charAt(0) == '*' || pattern.charAt(0) == '?')
+					return ""; //$NON-NLS-1$
+				prefix= pattern.substring(0, 1);
+				break;
+		}
+		for (int i= 0; i < prefix.length(); i++) {
+			// the matchers fold non-ASCII characters differently
+			if (prefix.charAt(i) > 0x7F)
+				return ""; //$NON-NLS-1$
+		}
+		return prefix;
+	}
+
+	/**
+	 * Returns the index of the first type whose simple name is not less than the given prefix
+	 * (ignoring case).
+	 *
+	 * @param matches the types, sorted by simple name
+	 * @param prefix the name prefix
+	 * @return the index, <code>matches.length</code> if all simple names are less than the prefix
+	 */
+	static int lowerBound(TypeNameMatch[] matches, String prefix) {
+		int low= 0;
+		int high= matches.length;
+		while (low < high) {
+			int mid= (low + high) >>> 1;
+			if (compareIgnoreCase(matches[mid].getSimpleTypeName(), prefix) < 0)
+				low= mid + 1;
+			else
+				high= mid;
+		}
+		return low;
+	}
+
+	private static int compareIgnoreCase(String s1, String s2) {
+		int length= Math.min(s1.length(), s2.length());
+		for (int i= 0; i < length; i++) {
+			char c1= Character.toLowerCase(s1.charAt(i));
+			char c2= Character.toLowerCase(s2.charAt(i));
+			if (c1 != c2)
+				return c1 - c2;
+		}
+		return s1.length() - s2.length();
+	}
+
+	private void elementChanged(ElementChangedEvent event) {
+		boolean changed;
+		synchronized (this) {
+			changed= processDelta(event.getDelta());
+		}
+		if (changed)
+			fUpdateJob.schedule(500);
+	}
+
+	/**
+	 * Records the changes of the given delta. Must be called while holding the lock.
+	 *
+	 * @param delta the delta
+	 * @return <code>true</code> if the table has to be updated
+	 */
+	private boolean processDelta(IJavaElementDelta delta) {
+		IJavaElement element= delta.getElement();
+		int kind= delta.getKind();
+		int flags= delta.getFlags();
+		switch (element.getElementType()) {
+			case IJavaElement.JAVA_PROJECT:
+				if (kind != IJavaElementDelta.CHANGED || (flags & (IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED | IJavaElementDelta.F_OPENED | IJavaElementDelta.F_CLOSED)) != 0)
+					return discard();
+				break;
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+				if (kind != IJavaElementDelta.CHANGED || (flags & (IJavaElementDelta.F_ADDED_TO_CLASSPATH | IJavaElementDelta.F_REMOVED_FROM_CLASSPATH | IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED | IJavaElementDelta.F_CONTENT)) != 0)
+					return discard();
+				break;
+			case IJavaElement.PACKAGE_FRAGMENT:
+				// the deltas of added and removed packages do not report the compilation units inside
+				if (kind != IJavaElementDelta.CHANGED)
+					return discard();
+				break;
+			case IJavaElement.COMPILATION_UNIT:
+				if (kind != IJavaElementDelta.CHANGED || (flags & IJavaElementDelta.F_PRIMARY_WORKING_COPY) != 0 || changesTypes(delta)) {
+					fChangedUnits.add(((ICompilationUnit) element).getPrimary());
+					return true;
+				}
+				return false;
+			case IJavaElement.CLASS_FILE:
+				return discard();
+			case IJavaElement.JAVA_MODEL:
+				break;
+			default:
+				return false;
+		}
+		boolean changed= false;
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			if (processDelta(child)) {
+				changed= true;
+				if (fRebuild)
+					break;
+			}
+		}
+		return changed;
+	}
+
+	/**
+	 * Tells whether the given compilation unit or type delta may change the types of the
+	 * compilation unit. Fine-grained deltas of changes inside member bodies do not.
+	 *
+	 * @param delta the delta
+	 * @return <code>true</code> if types may have been added, removed or renamed, or their
+	 *         modifiers may have changed
+	 */
+	private static boolean changesTypes(IJavaElementDelta delta) {
+		int flags= delta.getFlags();
+		if ((flags & IJavaElementDelta.F_CONTENT) != 0 && (flags & IJavaElementDelta.F_FINE_GRAINED) == 0)
+			return true; // the members have not been analyzed
+		if ((flags & IJavaElementDelta.F_CHILDREN) == 0)
+			return false;
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			if (child.getElement().getElementType() != IJavaElement.TYPE)
+				continue;
+			// renamed types are reported as removed and added
+			if (child.getKind() != IJavaElementDelta.CHANGED || (child.getFlags() & IJavaElementDelta.F_MODIFIERS) != 0 || changesTypes(child))
+				return true;
+		}
+		return false;
+	}
+
+	private boolean discard() {
+		fMatches= null;
+		fRebuild= true;
+		fGeneration++;
+		fChangedUnits.clear();
+		return true;
+	}
+
+	private void update(IProgressMonitor monitor) throws JavaModelException {
+		boolean rebuild;
+		Set<ICompilationUnit> changedUnits;
+		int generation;
+		synchronized (this) {
+			rebuild= fRebuild;
+			fRebuild= false;
+			changedUnits= fChangedUnits;
+			fChangedUnits= new HashSet<>();
+			generation= fGeneration;
+		}
+		TypeNameMatch[] matches;
+		if (rebuild) {
+			try {
+				matches= build(monitor);
+			} catch (JavaModelException | OperationCanceledException e) {
+				synchronized (this) {
+					fRebuild= true;
+				}
+				throw e;
+			}
+		} else {
+			TypeNameMatch[] current= fMatches;
+			if (current == null || changedUnits.isEmpty())
+				return;
+			matches= patch(current, changedUnits);
+		}
+		synchronized (this) {
+			if (generation == fGeneration) {
+				fMatches= matches;
+			} else {
+				// discarded while computing
+				fUpdateJob.schedule(500);
+			}
+		}
+	}
+
+	private static TypeNameMatch[] build(IProgressMonitor monitor) throws JavaModelException {
+		List<TypeNameMatch> result= new ArrayList<>();
+		new SearchEngine().searchAllTypeNames(null, 0, null, 0, IJavaSearchConstants.TYPE, SearchEngine.createWorkspaceScope(), new TypeNameMatchRequestor() {
+			@Override
+			public void acceptTypeNameMatch(TypeNameMatch match) {
+				result.add(match);
+			}
+		}, IJavaSearchConstants.WAIT_UNTIL_READY_TO_SEARCH, monitor);
+		TypeNameMatch[] matches= result.toArray(new TypeNameMatch[result.size()]);
+		Arrays.parallelSort(matches, BY_SIMPLE_NAME);
+		return matches;
+	}
+
+	/**
+	 * Replaces the types of the given compilation units by their current types. The types of
+	 * compilation units that no longer exist are removed.
+	 *
+	 * @param current the types, sorted by simple name
+	 * @param changedUnits the changed primary compilation units
+	 * @return the patched types, sorted by simple name
+	 * @throws JavaModelException if the types of a compilation unit cannot be accessed
+	 */
+	static TypeNameMatch[] patch(TypeNameMatch[] current, Set<ICompilationUnit> changedUnits) throws JavaModelException {
+		List<TypeNameMatch> added= new ArrayList<>();
+		for (ICompilationUnit unit : changedUnits) {
+			if (unit.exists()) {
+				for (IType type : unit.getAllTypes()) {
+					added.add(SearchEngine.createTypeNameMatch(type, type.getFlags()));
+				}
+			}
+		}
+		added.sort(BY_SIMPLE_NAME);
+		List<TypeNameMatch> result= new ArrayList<>(current.length + added.size());
+		int j= 0;
+		for (TypeNameMatch match : current) {
+			if (changedUnits.contains(match.getType().getCompilationUnit()))
+				continue;
+			while (j < added.size() && BY_SIMPLE_NAME.compare(added.get(j), match) < 0)
+				result.add(added.get(j++));
+			result.add(match);
+		}
+		while (j < added.size())
+			result.add(added.get(j++));
+		return result.toArray(new TypeNameMatch[result.size()]);
+	}
+}
@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.refactoring.generics;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints2.ConstraintVariable2;
+
+/**
+ * The work-list of the {@link InferTypeArgumentsConstraintsSolver}: the nodes of the constraint
+ * graph that remain to be (re-)processed.
+ * <p>
+ * Every variable gets a dense id when it is seen for the first time. Pending variables are kept
+ * as bits of those ids, so a variable that is added while it is still pending is processed only
+ * once. Pending variables are removed round-robin, in the order of their ids.
+ * </p>
+ */
+public final class ConstraintVariableWorkList {
+
+	/**
+	 * The variables seen so far, indexed by their id.
+	 */
+	private final ArrayList<ConstraintVariable2> fVariables= new ArrayList<>();
+
+	/**
+	 * Maps a variable to its index in {@link #fVariables}.
+	 */
+	private final IdentityHashMap<ConstraintVariable2, Integer> fIds= new IdentityHashMap<>();
+
+	private final BitSet fPending= new BitSet();
+
+	/**
+	 * The id to continue the round-robin at.
+	 */
+	private int fNext;
+
+	/**
+	 * Returns the id of the given variable, assigning a new one if the variable has not been seen
+	 * before.
+	 *
+	 * @param cv the variable
+	 * @return the id, between <code>0</code> and {@link #getVariableCount()} (exclusive)
+	 */
+	public int getId(ConstraintVariable2 cv) {
+		Integer id= fIds.get(cv);
+		if (id != null)
+			return id.intValue();
+		int newId= fVariables.size();
+		fVariables.add(cv);
+		fIds.put(cv, Integer.valueOf(newId));
+		return newId;
+	}
+
+	/**
+	 * @param id an id returned by {@link #getId(ConstraintVariable2)}
+	 * @return the variable with the given id
+	 */
+	public ConstraintVariable2 getVariable(int id) {
+		return fVariables.get(id);
+	}
+
+	/**
+	 * @return the number of variables that have an id
+	 */
+	public int getVariableCount() {
+		return fVariables.size();
+	}
+
+	/**
+	 * Adds the given variables, unless they are already pending.
+	 *
+	 * @param cvs the variables
+	 */
+	public void addAll(ConstraintVariable2[] cvs) {
+		for (ConstraintVariable2 cv : cvs) {
+			fPending.set(getId(cv));
+		}
+	}
+
+	public boolean isEmpty() {
+		return fPending.isEmpty();
+	}
+
+	/**
+	 * @return the number of pending variables
+	 */
+	public int size() {
+		return fPending.cardinality();
+	}
+
+	/**
+	 * Removes the next pending variable.
+	 *
+	 * @return the id of the removed variable
+	 * @throws IllegalStateException if no variable is pending
+	 */
+	public int removeNext() {
+		int id= fPending.nextSetBit(fNext);
+		if (id == -1)
+			id= fPending.nextSetBit(0);
+		if (id == -1)
+			throw new IllegalStateException("Work-list is empty"); //$NON-NLS-1$
+		fPending.clear(id);
+		fNext= id + 1;
+		return id;
+	}
+}
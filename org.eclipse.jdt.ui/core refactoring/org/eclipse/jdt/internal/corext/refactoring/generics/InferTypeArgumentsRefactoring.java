@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -22,11 +22,16 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.ISafeRunnable;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.SafeRunner;
 import org.eclipse.core.runtime.Status;
@@ -103,6 +108,19 @@ public class InferTypeArgumentsRefactoring extends Refactoring {
 
 	private static final String REWRITTEN= "InferTypeArgumentsRefactoring.rewritten"; //$NON-NLS-1$
 
+	/**
+	 * The maximum number of batches that are parsed at the same time. A parser thread keeps the
+	 * ASTs and the binding environment of its batch alive until the constraints of all preceding
+	 * batches have been created, so up to this many batches are held in memory instead of one.
+	 */
+	private static final int MAX_PARSER_THREADS= 3;
+
+	/**
+	 * The heap that must be available per parser thread. Batches are parsed one by one when the
+	 * heap is too small to hold several of them.
+	 */
+	private static final long MIN_HEAP_PER_PARSER_THREAD= 256L * 1024 * 1024;
+
 	private TextChangeManager fChangeManager;
 	private IJavaElement[] fElements;
 	private InferTypeArgumentsTCModel fTCModel;
@@ -170,65 +188,28 @@ public class InferTypeArgumentsRefactoring extends Refactoring {
 			fTCModel= new InferTypeArgumentsTCModel();
 			final InferTypeArgumentsConstraintCreator unitCollector= new InferTypeArgumentsConstraintCreator(fTCModel, fAssumeCloneReturnsSameType);
 
+			List<ConstraintBatch> batches= new ArrayList<>();
 			for (Entry<IJavaProject, ArrayList<IJavaElement>> entry : projectsToElements.entrySet()) {
 				IJavaProject project= entry.getKey();
 				ArrayList<IJavaElement> javaElementsList= entry.getValue();
 				IJavaElement[] javaElements= javaElementsList.toArray(new IJavaElement[javaElementsList.size()]);
 				List<ICompilationUnit> cus= Arrays.asList(JavaModelUtil.getAllCompilationUnits(javaElements));
 				int batchSize= 150;
-				int batches= ((cus.size()-1) / batchSize) + 1;
-				SubProgressMonitor projectMonitor= new SubProgressMonitor(pm, 1);
-				projectMonitor.beginTask("", batches); //$NON-NLS-1$
-				projectMonitor.setTaskName(RefactoringCoreMessages.InferTypeArgumentsRefactoring_building);
-				for (int i= 0; i < batches; i++) {
+				int projectBatches= ((cus.size()-1) / batchSize) + 1;
+				for (int i= 0; i < projectBatches; i++) {
 					List<ICompilationUnit> batch= cus.subList(i * batchSize, Math.min(cus.size(), (i + 1) * batchSize));
 					ICompilationUnit[] batchCus= batch.toArray(new ICompilationUnit[batch.size()]);
-					final SubProgressMonitor batchMonitor= new SubProgressMonitor(projectMonitor, 1);
-					batchMonitor.subTask(RefactoringCoreMessages.InferTypeArgumentsRefactoring_calculating_dependencies);
-					ASTParser parser= ASTParser.newParser(IASTSharedValues.SHARED_AST_LEVEL);
-					parser.setProject(project);
-					parser.setCompilerOptions(RefactoringASTParser.getCompilerOptions(project));
-					parser.setResolveBindings(true);
-					parser.createASTs(batchCus, new String[0], new ASTRequestor() {
-						@Override
-						public void acceptAST(final ICompilationUnit source, final CompilationUnit ast) {
-							batchMonitor.subTask(BasicElementLabels.getFileName(source));
-							SafeRunner.run(new ISafeRunnable() {
-								@Override
-								public void run() throws Exception {
-									for (IProblem problem : ast.getProblems()) {
-										if (problem.isError()) {
-											String cuName= JavaElementLabels.getElementLabel(source, JavaElementLabels.CU_QUALIFIED);
-											String msg= Messages.format(RefactoringCoreMessages.InferTypeArgumentsRefactoring_error_in_cu_skipped, new Object[] {cuName});
-											result.addError(msg, JavaStatusContext.create(source, SourceRangeFactory.create(problem)));
-											return;
-										}
-									}
-									ast.accept(unitCollector);
-								}
-
-								@Override
-								public void handleException(Throwable exception) {
-									String cuName= JavaElementLabels.getElementLabel(source, JavaElementLabels.CU_QUALIFIED);
-									String msg= Messages.format(RefactoringCoreMessages.InferTypeArgumentsRefactoring_internal_error, new Object[] {cuName});
-									JavaPlugin.log(new Status(IStatus.ERROR, JavaPlugin.getPluginId(), IJavaStatusConstants.INTERNAL_ERROR, msg, null));
-									String msg2= Messages.format(RefactoringCoreMessages.InferTypeArgumentsRefactoring_error_skipped, new Object[] {cuName});
-									result.addError(msg2, JavaStatusContext.create(source));
-								}
-							});
-							fTCModel.newCu();
-						}
-
-						@Override
-						public void acceptBinding(String bindingKey, IBinding binding) {
-							//do nothing
-						}
-					}, batchMonitor);
+					batches.add(new ConstraintBatch(batches.size(), project, batchCus, i == projectBatches - 1));
 				}
-				projectMonitor.done();
-				fTCModel.newCu();
 			}
 
+			SubProgressMonitor generationMonitor= new SubProgressMonitor(pm, projectsToElements.size());
+			generationMonitor.beginTask("", batches.size()); //$NON-NLS-1$
+			generationMonitor.setTaskName(RefactoringCoreMessages.InferTypeArgumentsRefactoring_building);
+			generationMonitor.subTask(RefactoringCoreMessages.InferTypeArgumentsRefactoring_calculating_dependencies);
+			createConstraints(batches, unitCollector, result, generationMonitor);
+			generationMonitor.done();
+
 //			Display.getDefault().syncExec(new Runnable() {
 //				public void run() {
 //					MessageDialog.openInformation(Display.getCurrent().getActiveShell(), "Debugging...", "after constraint gen");
@@ -252,6 +233,156 @@ public class InferTypeArgumentsRefactoring extends Refactoring {
 		}
 	}
 
+	/**
+	 * Parses the batches on worker threads and feeds their ASTs to the constraint creator. The
+	 * compiler work of a batch can overlap with the constraint creation of its predecessors, but
+	 * the ASTs are handed to the constraint creator strictly in batch order. Hence, the type
+	 * constraints model and its {@link org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types.TypeEnvironment}
+	 * are only ever accessed by one thread at a time, and the model is built in the same order as
+	 * with sequential parsing.
+	 *
+	 * @param batches the batches, in the order in which their constraints must be created
+	 * @param unitCollector the constraint creator
+	 * @param result the status to report compile errors to
+	 * @param pm the progress monitor, will be called from the calling thread only
+	 * @throws CoreException if parsing failed
+	 */
+	private void createConstraints(List<ConstraintBatch> batches, final InferTypeArgumentsConstraintCreator unitCollector, final RefactoringStatus result, final IProgressMonitor pm) throws CoreException {
+		final BatchSequencer sequencer= new BatchSequencer();
+		final IProgressMonitor workerMonitor= new NullProgressMonitor() {
+			@Override
+			public boolean isCanceled() {
+				return pm.isCanceled();
+			}
+		};
+		int threads= Math.min(batches.size(), Math.min(MAX_PARSER_THREADS, Runtime.getRuntime().availableProcessors()));
+		threads= (int) Math.max(1, Math.min(threads, Runtime.getRuntime().maxMemory() / MIN_HEAP_PER_PARSER_THREAD));
+		ExecutorService executor= Executors.newFixedThreadPool(threads, runnable -> {
+			Thread thread= new Thread(runnable, "Infer Type Arguments Constraint Creator"); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			List<Future<?>> futures= new ArrayList<>(batches.size());
+			for (final ConstraintBatch batch : batches) {
+				futures.add(executor.submit(() -> {
+					try {
+						parseBatch(batch, sequencer, unitCollector, result, workerMonitor);
+					} finally {
+						sequencer.finish(batch.fIndex);
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				try {
+					future.get();
+				} catch (ExecutionException e) {
+					Throwable cause= e.getCause();
+					if (cause instanceof OperationCanceledException)
+						throw (OperationCanceledException) cause;
+					if (cause instanceof RuntimeException)
+						throw (RuntimeException) cause;
+					if (cause instanceof Error)
+						throw (Error) cause;
+					throw new CoreException(new Status(IStatus.ERROR, JavaPlugin.getPluginId(), IJavaStatusConstants.INTERNAL_ERROR, cause.getMessage(), cause));
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new OperationCanceledException();
+				}
+				pm.worked(1);
+				if (pm.isCanceled())
+					throw new OperationCanceledException();
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private void parseBatch(final ConstraintBatch batch, final BatchSequencer sequencer, final InferTypeArgumentsConstraintCreator unitCollector, final RefactoringStatus result, IProgressMonitor pm) {
+		ASTParser parser= ASTParser.newParser(IASTSharedValues.SHARED_AST_LEVEL);
+		parser.setProject(batch.fProject);
+		parser.setCompilerOptions(RefactoringASTParser.getCompilerOptions(batch.fProject));
+		parser.setResolveBindings(true);
+		parser.createASTs(batch.fCompilationUnits, new String[0], new ASTRequestor() {
+			@Override
+			public void acceptAST(final ICompilationUnit source, final CompilationUnit ast) {
+				sequencer.awaitTurn(batch.fIndex);
+				SafeRunner.run(new ISafeRunnable() {
+					@Override
+					public void run() throws Exception {
+						for (IProblem problem : ast.getProblems()) {
+							if (problem.isError()) {
+								String cuName= JavaElementLabels.getElementLabel(source, JavaElementLabels.CU_QUALIFIED);
+								String msg= Messages.format(RefactoringCoreMessages.InferTypeArgumentsRefactoring_error_in_cu_skipped, new Object[] {cuName});
+								result.addError(msg, JavaStatusContext.create(source, SourceRangeFactory.create(problem)));
+								return;
+							}
+						}
+						ast.accept(unitCollector);
+					}
+
+					@Override
+					public void handleException(Throwable exception) {
+						String cuName= JavaElementLabels.getElementLabel(source, JavaElementLabels.CU_QUALIFIED);
+						String msg= Messages.format(RefactoringCoreMessages.InferTypeArgumentsRefactoring_internal_error, new Object[] {cuName});
+						JavaPlugin.log(new Status(IStatus.ERROR, JavaPlugin.getPluginId(), IJavaStatusConstants.INTERNAL_ERROR, msg, null));
+						String msg2= Messages.format(RefactoringCoreMessages.InferTypeArgumentsRefactoring_error_skipped, new Object[] {cuName});
+						result.addError(msg2, JavaStatusContext.create(source));
+					}
+				});
+				fTCModel.newCu();
+			}
+
+			@Override
+			public void acceptBinding(String bindingKey, IBinding binding) {
+				//do nothing
+			}
+		}, pm);
+		if (batch.fLastOfProject) {
+			sequencer.awaitTurn(batch.fIndex);
+			fTCModel.newCu();
+		}
+	}
+
+	private static final class ConstraintBatch {
+		final int fIndex;
+		final IJavaProject fProject;
+		final ICompilationUnit[] fCompilationUnits;
+		final boolean fLastOfProject;
+
+		ConstraintBatch(int index, IJavaProject project, ICompilationUnit[] compilationUnits, boolean lastOfProject) {
+			fIndex= index;
+			fProject= project;
+			fCompilationUnits= compilationUnits;
+			fLastOfProject= lastOfProject;
+		}
+	}
+
+	/**
+	 * Lets the batches access the type constraints model one after the other, in the order of
+	 * their indices.
+	 */
+	private static final class BatchSequencer {
+		private int fTurn;
+
+		synchronized void awaitTurn(int index) {
+			while (fTurn != index) {
+				try {
+					wait();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new OperationCanceledException();
+				}
+			}
+		}
+
+		synchronized void finish(int index) {
+			awaitTurn(index);
+			fTurn= index + 1;
+			notifyAll();
+		}
+	}
+
 	private void clearGlobalState() {
 		TypeSet.resetCount();
 		EnumeratedTypeSet.resetCount();
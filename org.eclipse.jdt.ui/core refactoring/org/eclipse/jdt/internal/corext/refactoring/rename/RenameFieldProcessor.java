@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -65,6 +65,7 @@ import org.eclipse.jdt.core.search.MethodReferenceMatch;
 import org.eclipse.jdt.core.search.SearchEngine;
 import org.eclipse.jdt.core.search.SearchMatch;
 import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.core.search.SearchRequestor;
 
 import org.eclipse.jdt.internal.core.manipulation.util.BasicElementLabels;
 import org.eclipse.jdt.internal.core.refactoring.descriptors.RefactoringSignatureDescriptorFactory;
@@ -1067,11 +1068,45 @@ public class RenameFieldProcessor extends JavaRenameProcessor implements IRefere
 	}
 
 	//----------------
+	/**
+	 * Cheap pre-analysis for {@link #analyzeRenameChanges(IProgressMonitor)}. A reference can
+	 * only be shadowed by, or start to shadow, a variable, type or package carrying the new name.
+	 * Locals and parameters can only interfere in the modified compilation units, which are checked
+	 * textually. Fields, types and packages elsewhere are looked up in the index.
+	 *
+	 * @param cus the compilation units that will be modified
+	 * @param pm the progress monitor
+	 * @return <code>true</code> if the rename may change the binding of a name and the full
+	 *         analysis is required
+	 * @throws CoreException if searching fails
+	 */
+	private boolean mayChangeBindings(ICompilationUnit[] cus, IProgressMonitor pm) throws CoreException {
+		String newName= getNewElementName();
+		if (RenameAnalyzeUtil.mayContainIdentifier(cus, newName)) {
+			pm.done();
+			return true;
+		}
+		int matchRule= SearchPattern.R_EXACT_MATCH | SearchPattern.R_CASE_SENSITIVE;
+		SearchPattern pattern= SearchPattern.createOrPattern(
+				SearchPattern.createPattern(newName, IJavaSearchConstants.FIELD, IJavaSearchConstants.DECLARATIONS, matchRule),
+				SearchPattern.createOrPattern(
+						SearchPattern.createPattern(newName, IJavaSearchConstants.TYPE, IJavaSearchConstants.DECLARATIONS, matchRule),
+						SearchPattern.createPattern(newName, IJavaSearchConstants.PACKAGE, IJavaSearchConstants.DECLARATIONS, matchRule)));
+		final boolean[] found= { false };
+		new SearchEngine().search(pattern, SearchUtils.getDefaultSearchParticipants(), createRefactoringScope(), new SearchRequestor() {
+			@Override
+			public void acceptSearchMatch(SearchMatch match) {
+				found[0]= true;
+			}
+		}, pm);
+		return found[0];
+	}
+
 	private RefactoringStatus analyzeRenameChanges(IProgressMonitor pm) throws CoreException {
 		ICompilationUnit[] newWorkingCopies= null;
 		WorkingCopyOwner newWCOwner= new WorkingCopyOwner() { /* must subclass */ };
 		try {
-			pm.beginTask("", 2); //$NON-NLS-1$
+			pm.beginTask("", 3); //$NON-NLS-1$
 			RefactoringStatus result= new RefactoringStatus();
 			SearchResultGroup[] oldReferences= fReferences;
 
@@ -1087,8 +1122,14 @@ public class RenameFieldProcessor extends JavaRenameProcessor implements IRefere
 				compilationUnitsToModify.addAll(Arrays.asList(fChangeManager.getAllCompilationUnits()));
 			}
 
-			newWorkingCopies= RenameAnalyzeUtil.createNewWorkingCopies(compilationUnitsToModify.toArray(new ICompilationUnit[compilationUnitsToModify.size()]),
-					fChangeManager, newWCOwner, new SubProgressMonitor(pm, 1));
+			ICompilationUnit[] cus= compilationUnitsToModify.toArray(new ICompilationUnit[compilationUnitsToModify.size()]);
+			if (!mayChangeBindings(cus, new SubProgressMonitor(pm, 1))) {
+				// nothing named like the new name is in sight, the references cannot bind differently
+				pm.worked(2);
+				return result;
+			}
+
+			newWorkingCopies= RenameAnalyzeUtil.createNewWorkingCopies(cus, fChangeManager, newWCOwner, new SubProgressMonitor(pm, 1));
 
 			SearchResultGroup[] newReferences= getNewReferences(new SubProgressMonitor(pm, 1), result, newWCOwner, newWorkingCopies);
 			result.merge(RenameAnalyzeUtil.analyzeRenameChanges2(fChangeManager, oldReferences, newReferences, getNewElementName()));
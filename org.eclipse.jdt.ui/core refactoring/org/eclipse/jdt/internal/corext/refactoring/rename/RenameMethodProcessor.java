@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -348,12 +348,14 @@ public abstract class RenameMethodProcessor extends JavaRenameProcessor implemen
 				return result;
 
 			boolean mustAnalyzeShadowing;
+			boolean mayBeUnreachable= false;
 			IMethod[] newNameMethods= searchForDeclarationsOfClashingMethods(new SubProgressMonitor(pm, 1));
 			if (newNameMethods.length == 0) {
 				mustAnalyzeShadowing= false;
 				pm.worked(1);
 			} else {
 				IType[] outerTypes= searchForOuterTypesOfReferences(newNameMethods, new SubProgressMonitor(pm, 1));
+				mayBeUnreachable= outerTypes.length == 0;
 				if (outerTypes.length > 0) {
 					//There exists a reference to a clashing method, where the reference is in a nested type.
 					//That nested type could be a type in a ripple method's hierarchy, which could
@@ -407,6 +409,9 @@ public abstract class RenameMethodProcessor extends JavaRenameProcessor implemen
 			if (result.hasFatalError())
 				return result;
 
+			if (mustAnalyzeShadowing && mayBeUnreachable && areUnreachableFromOccurrences(newNameMethods))
+				mustAnalyzeShadowing= false;
+
 			createChanges(new SubProgressMonitor(pm, 1), result);
 			if (fUpdateReferences && mustAnalyzeShadowing)
 				result.merge(analyzeRenameChanges(new SubProgressMonitor(pm, 1)));
@@ -443,6 +448,38 @@ public abstract class RenameMethodProcessor extends JavaRenameProcessor implemen
 		return outerTypesOfReferences.toArray(new IType[outerTypesOfReferences.size()]);
 	}
 
+	/**
+	 * Tells whether none of the given clashing methods can be seen from a compilation unit that is
+	 * touched by this refactoring. A private method is neither inherited nor accessible outside of
+	 * its compilation unit, so neither a renamed reference nor an existing reference to it can bind
+	 * differently when no occurrence of the renamed methods is in the same unit. References to the
+	 * clashing methods from nested types have already been handled by
+	 * {@link #searchForOuterTypesOfReferences(IMethod[], IProgressMonitor)}.
+	 *
+	 * @param newNameMethods the methods that carry the new name
+	 * @return <code>true</code> if the working copy based shadowing analysis can be skipped
+	 * @throws JavaModelException if the flags of a method cannot be accessed
+	 */
+	private boolean areUnreachableFromOccurrences(IMethod[] newNameMethods) throws JavaModelException {
+		Set<ICompilationUnit> affectedUnits= new HashSet<>();
+		for (SearchResultGroup group : fOccurrences) {
+			ICompilationUnit cu= group.getCompilationUnit();
+			if (cu != null)
+				affectedUnits.add(cu.getPrimary());
+		}
+		for (IMethod method : fMethodsToRename) {
+			ICompilationUnit cu= method.getCompilationUnit();
+			if (cu != null)
+				affectedUnits.add(cu.getPrimary());
+		}
+		for (IMethod method : newNameMethods) {
+			ICompilationUnit cu= method.getCompilationUnit();
+			if (cu == null || !JdtFlags.isPrivate(method) || affectedUnits.contains(cu.getPrimary()))
+				return false;
+		}
+		return true;
+	}
+
 	private IMethod[] searchForDeclarationsOfClashingMethods(IProgressMonitor pm) throws CoreException {
 		final List<IMethod> results= new ArrayList<>();
 		SearchPattern pattern= createNewMethodPattern();
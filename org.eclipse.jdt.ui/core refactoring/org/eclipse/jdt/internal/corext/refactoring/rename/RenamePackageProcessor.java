@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -27,6 +27,7 @@ import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.SubProgressMonitor;
 
 import org.eclipse.core.resources.IContainer;
@@ -105,6 +106,7 @@ import org.eclipse.jdt.internal.corext.refactoring.util.QualifiedNameSearchResul
 import org.eclipse.jdt.internal.corext.refactoring.util.ResourceUtil;
 import org.eclipse.jdt.internal.corext.refactoring.util.TextChangeManager;
 import org.eclipse.jdt.internal.corext.util.Messages;
+import org.eclipse.jdt.internal.corext.util.ParallelRunner;
 import org.eclipse.jdt.internal.corext.util.Resources;
 import org.eclipse.jdt.internal.corext.util.SearchUtils;
 
@@ -1063,34 +1065,53 @@ public class RenamePackageProcessor extends JavaRenameProcessor implements
 			return importChange;
 		}
 
+		/**
+		 * Rewrites the imports of all collected compilation units. The compilation units are
+		 * independent of each other and are processed concurrently; the resulting changes are
+		 * ordered by the change manager.
+		 *
+		 * @param changeManager the change manager to add the import edits to
+		 * @param pm the progress monitor
+		 * @throws CoreException if an import rewrite fails
+		 */
 		public void rewriteImports(TextChangeManager changeManager, IProgressMonitor pm) throws CoreException {
-			for (Entry<ICompilationUnit, ImportChange> entry : fImportChanges.entrySet()) {
-				ICompilationUnit cu= entry.getKey();
-				ImportChange importChange= entry.getValue();
-				ImportRewrite importRewrite= StubUtility.createImportRewrite(cu, true);
-				importRewrite.setFilterImplicitImports(false);
-				for (String toRemove : importChange.fStaticToRemove) {
-					importRewrite.removeStaticImport(toRemove);
-				}
-				for (String toRemove : importChange.fToRemove) {
-					importRewrite.removeImport(toRemove);
-				}
-				for (String[] toAdd : importChange.fStaticToAdd) {
-					importRewrite.addStaticImport(toAdd[0], toAdd[1], true);
-				}
-				for (String toAdd : importChange.fToAdd) {
-					importRewrite.addImport(toAdd);
-				}
+			pm.beginTask("", 1); //$NON-NLS-1$
+			try {
+				List<Entry<ICompilationUnit, ImportChange>> entries= new ArrayList<>(fImportChanges.entrySet());
+				ParallelRunner.run(entries.size(), i -> {
+					Entry<ICompilationUnit, ImportChange> entry= entries.get(i);
+					rewriteImports(changeManager, entry.getKey(), entry.getValue());
+				}, pm);
+				pm.worked(1);
+			} finally {
+				pm.done();
+			}
+		}
 
-				if (importRewrite.hasRecordedChanges()) {
-					TextEdit importEdit= importRewrite.rewriteImports(pm);
-					String name= RefactoringCoreMessages.RenamePackageRefactoring_update_imports;
-					try {
-						TextChangeCompatibility.addTextEdit(changeManager.get(cu), name, importEdit);
-					} catch (MalformedTreeException e) {
-						JavaPlugin.logErrorMessage("MalformedTreeException while processing cu " + cu); //$NON-NLS-1$
-						throw e;
-					}
+		private static void rewriteImports(TextChangeManager changeManager, ICompilationUnit cu, ImportChange importChange) throws CoreException {
+			ImportRewrite importRewrite= StubUtility.createImportRewrite(cu, true);
+			importRewrite.setFilterImplicitImports(false);
+			for (String toRemove : importChange.fStaticToRemove) {
+				importRewrite.removeStaticImport(toRemove);
+			}
+			for (String toRemove : importChange.fToRemove) {
+				importRewrite.removeImport(toRemove);
+			}
+			for (String[] toAdd : importChange.fStaticToAdd) {
+				importRewrite.addStaticImport(toAdd[0], toAdd[1], true);
+			}
+			for (String toAdd : importChange.fToAdd) {
+				importRewrite.addImport(toAdd);
+			}
+
+			if (importRewrite.hasRecordedChanges()) {
+				TextEdit importEdit= importRewrite.rewriteImports(new NullProgressMonitor());
+				String name= RefactoringCoreMessages.RenamePackageRefactoring_update_imports;
+				try {
+					TextChangeCompatibility.addTextEdit(changeManager.get(cu), name, importEdit);
+				} catch (MalformedTreeException e) {
+					JavaPlugin.logErrorMessage("MalformedTreeException while processing cu " + cu); //$NON-NLS-1$
+					throw e;
 				}
 			}
 		}
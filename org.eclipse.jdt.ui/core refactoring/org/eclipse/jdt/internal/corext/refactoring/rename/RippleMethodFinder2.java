@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -63,6 +63,12 @@ public class RippleMethodFinder2 {
 	private Set<IType> fRootTypes;
 	private MultiMap<IType, IType> fRootReps;
 	private Map<IType, ITypeHierarchy> fRootHierarchies;
+	/**
+	 * Maps each type to a hierarchy that contains all of its subtypes. Filled by
+	 * {@link #hierarchy(IProgressMonitor, WorkingCopyOwner, IType)}, so that the subtypes of a type
+	 * are computed at most once per search.
+	 */
+	private Map<IType, ITypeHierarchy> fSubtypeHierarchies;
 	private UnionFind fUnionFind;
 
 	private final boolean fExcludeBinaries;
@@ -299,9 +305,8 @@ public class RippleMethodFinder2 {
 			for (IType alienType : alienTypes) {
 				checkCanceled(pm);
 				Collection<IMethod> alienMethods= fTypeToMethod.get(alienType);
+				ITypeHierarchy hierarchy= hierarchy(pm, owner, alienType);
 				for (IMethod alienMethod : alienMethods) {
-					ITypeHierarchy hierarchy= hierarchy(pm, owner, alienType);
-
 					for (IType subtype : hierarchy.getAllSubtypes(alienType)) {
 						if (relatedSubTypes.contains(subtype)) {
 							if (JavaModelUtil.isVisibleInHierarchy(alienMethod, subtype.getPackageFragment())) {
@@ -329,6 +334,7 @@ public class RippleMethodFinder2 {
 
 		fRootReps= null;
 		fRootHierarchies= null;
+		fSubtypeHierarchies= null;
 		fTypeToMethod= null;
 		fUnionFind= null;
 
@@ -349,11 +355,14 @@ public class RippleMethodFinder2 {
 		Set<IType> allTypesInMethodHierarchy= new HashSet<>(Arrays.asList(methodHierarchy.getAllClasses()));
 		allTypesInMethodHierarchy.addAll(Arrays.asList(methodHierarchy.getAllInterfaces()));
 
+		if (methodTypeSubtypes.length == 0)
+			return false;
 
+		// one region hierarchy knows the supertypes of all subtypes, no need for a hierarchy per subtype
+		ITypeHierarchy subtypesHierarchy= createHierarchyOfTypes(new SubProgressMonitor(pm, 1), owner, Arrays.stream(methodTypeSubtypes));
 		for (IType methodTypeSubtype : methodTypeSubtypes) {
 			checkCanceled(pm);
-			ITypeHierarchy subtypeHierarchy= methodTypeSubtype.newTypeHierarchy(owner, pm);
-			IType[] subtypeSuperTypes= subtypeHierarchy.getAllSupertypes(methodTypeSubtype);
+			IType[] subtypeSuperTypes= subtypesHierarchy.getAllSupertypes(methodTypeSubtype);
 			for (IType subtypeSuperType : subtypeSuperTypes) {
 				checkCanceled(pm);
 				if (!allTypesInMethodHierarchy.contains(subtypeSuperType)) {
@@ -398,7 +407,15 @@ public class RippleMethodFinder2 {
 			throws JavaModelException {
 		ITypeHierarchy hierarchy= getCachedHierarchy(type, owner, new SubProgressMonitor(pm, 1));
 		if (hierarchy == null)
+			hierarchy= fSubtypeHierarchies.get(type);
+		if (hierarchy == null) {
 			hierarchy= type.newTypeHierarchy(owner, new SubProgressMonitor(pm, 1));
+			// the hierarchy of a type also knows all subtypes of its subtypes
+			fSubtypeHierarchies.putIfAbsent(type, hierarchy);
+			for (IType subtype : hierarchy.getAllSubtypes(type)) {
+				fSubtypeHierarchies.putIfAbsent(subtype, hierarchy);
+			}
+		}
 		return hierarchy;
 	}
 
@@ -506,6 +523,7 @@ public class RippleMethodFinder2 {
 				fRootReps.put(rep, type);
 		}
 		fRootHierarchies= new HashMap<>();
+		fSubtypeHierarchies= new HashMap<>();
 	}
 
 	private void uniteWithSupertypes(IType anchor, IType type) throws JavaModelException {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,10 +13,16 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.corext.refactoring.rename;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.core.runtime.Assert;
@@ -51,6 +57,7 @@ import org.eclipse.jdt.internal.corext.refactoring.changes.TextChangeCompatibili
 import org.eclipse.jdt.internal.corext.refactoring.rename.RefactoringScanner.TextMatch;
 import org.eclipse.jdt.internal.corext.refactoring.tagging.ITextUpdating;
 import org.eclipse.jdt.internal.corext.refactoring.util.TextChangeManager;
+import org.eclipse.jdt.internal.corext.util.ParallelRunner;
 
 class TextMatchUpdater {
 
@@ -66,7 +73,8 @@ class TextMatchUpdater {
 	private final SearchResultGroup[] fReferences;
 	private final boolean fOnlyQualified;
 
-	private final RefactoringScanner fScanner;
+	private final String fCurrentName;
+	private final String fCurrentQualifier;
 	private final String fNewName;
 	private final int fCurrentNameLength;
 
@@ -80,8 +88,9 @@ class TextMatchUpdater {
 		fOnlyQualified= onlyQualified;
 
 		fNewName= newName;
+		fCurrentName= currentName;
+		fCurrentQualifier= currentQualifier;
 		fCurrentNameLength= currentName.length();
-		fScanner= new RefactoringScanner(currentName, currentQualifier);
 	}
 
 	static void perform(IProgressMonitor pm, IJavaSearchScope scope, String currentName, String currentQualifier, String newName, TextChangeManager manager, SearchResultGroup[] references, boolean onlyQualified) throws JavaModelException{
@@ -96,12 +105,14 @@ class TextMatchUpdater {
 		try{
 			IProject[] projectsInScope= getProjectsInScope();
 
-			pm.beginTask("", projectsInScope.length); //$NON-NLS-1$
+			pm.beginTask("", projectsInScope.length * 2); //$NON-NLS-1$
+			List<ICompilationUnit> cus= new ArrayList<>();
 			for (IProject project : projectsInScope) {
 				if (pm.isCanceled())
 					throw new OperationCanceledException();
-				addTextMatches(project, new SubProgressMonitor(pm, 1));
+				addCompilationUnits(project, cus, new SubProgressMonitor(pm, 1));
 			}
+			addTextMatches(cus, new SubProgressMonitor(pm, projectsInScope.length));
 		} finally{
 			pm.done();
 		}
@@ -120,7 +131,7 @@ class TextMatchUpdater {
 		return projectsInScope.toArray(new IProject[projectsInScope.size()]);
 	}
 
-	private void addTextMatches(IResource resource, IProgressMonitor pm) throws JavaModelException{
+	private void addCompilationUnits(IResource resource, List<ICompilationUnit> cus, IProgressMonitor pm) throws JavaModelException{
 		try{
 			String task= RefactoringCoreMessages.TextMatchUpdater_searching + resource.getFullPath();
 			if (resource instanceof IFile){
@@ -132,7 +143,7 @@ class TextMatchUpdater {
 					return;
 				if (! fScope.encloses(element))
 					return;
-				addCuTextMatches((ICompilationUnit) element);
+				cus.add((ICompilationUnit) element);
 
 			} else if (resource instanceof IContainer){
 				IResource[] members= ((IContainer) resource).members();
@@ -141,7 +152,7 @@ class TextMatchUpdater {
 				for (IResource member : members) {
 					if (pm.isCanceled())
 						throw new OperationCanceledException();
-					addTextMatches(member, new SubProgressMonitor(pm, 1));
+					addCompilationUnits(member, cus, new SubProgressMonitor(pm, 1));
 				}
 			}
 		} catch (JavaModelException e){
@@ -153,23 +164,90 @@ class TextMatchUpdater {
 		}
 	}
 
-	private void addCuTextMatches(ICompilationUnit cu) throws JavaModelException{
-		fScanner.scan(cu);
-		Set<TextMatch> matches= fScanner.getMatches(); //Set of TextMatch
-		if (matches.isEmpty())
-			return;
+	/**
+	 * Scans the given compilation units concurrently and adds text updates for the matches that
+	 * are not references found by the search. The updates are added in the order of the
+	 * compilation units.
+	 *
+	 * @param cus the compilation units
+	 * @param pm the progress monitor
+	 * @throws JavaModelException if a compilation unit could not be read
+	 */
+	private void addTextMatches(List<ICompilationUnit> cus, IProgressMonitor pm) throws JavaModelException {
+		try {
+			pm.beginTask("", cus.size() + 1); //$NON-NLS-1$
+			@SuppressWarnings("unchecked")
+			final Set<TextMatch>[] matchesPerCu= new Set[cus.size()];
+			try {
+				ParallelRunner.run(cus.size(), i -> matchesPerCu[i]= findTextMatches(cus.get(i)), pm);
+			} catch (JavaModelException e) {
+				throw e;
+			} catch (CoreException e) {
+				throw new JavaModelException(e);
+			}
+			pm.worked(1);
 
-		removeReferences(cu, matches);
-		if (!matches.isEmpty())
-			addTextUpdates(cu, matches);
+			Map<ICompilationUnit, List<SearchResultGroup>> referencesPerCu= getReferencesPerCompilationUnit();
+			for (int i= 0; i < matchesPerCu.length; i++) {
+				Set<TextMatch> matches= matchesPerCu[i];
+				if (matches != null && !matches.isEmpty()) {
+					ICompilationUnit cu= cus.get(i);
+					List<SearchResultGroup> groups= referencesPerCu.get(cu);
+					if (groups != null) {
+						for (SearchResultGroup group : groups) {
+							removeReferences(matches, group);
+						}
+					}
+					if (!matches.isEmpty())
+						addTextUpdates(cu, matches);
+				}
+				pm.worked(1);
+			}
+		} finally {
+			pm.done();
+		}
+	}
+
+	private Set<TextMatch> findTextMatches(ICompilationUnit cu) throws JavaModelException {
+		if (!mayContainCurrentName(cu))
+			return Collections.emptySet();
+		RefactoringScanner scanner= new RefactoringScanner(fCurrentName, fCurrentQualifier);
+		scanner.scan(cu);
+		return scanner.getMatches();
+	}
+
+	/**
+	 * Tells whether the saved contents of the given compilation unit may contain the current
+	 * name. Avoids opening a buffer and tokenizing compilation units that cannot have matches.
+	 *
+	 * @param cu the compilation unit
+	 * @return <code>false</code> if the compilation unit certainly does not contain the name
+	 */
+	private boolean mayContainCurrentName(ICompilationUnit cu) {
+		if (cu.hasUnsavedChanges())
+			return true;
+		IResource resource= cu.getResource();
+		if (!(resource instanceof IFile))
+			return true;
+		IFile file= (IFile) resource;
+		try (InputStream stream= file.getContents()) {
+			String contents= new String(stream.readAllBytes(), file.getCharset());
+			// unicode escapes may hide the name from a plain text search
+			return contents.contains(fCurrentName) || contents.contains("\\u"); //$NON-NLS-1$
+		} catch (CoreException | IOException e) {
+			return true;
+		}
 	}
 
-	private void removeReferences(ICompilationUnit cu, Set<TextMatch> matches) {
+	private Map<ICompilationUnit, List<SearchResultGroup>> getReferencesPerCompilationUnit() {
+		Map<ICompilationUnit, List<SearchResultGroup>> result= new HashMap<>();
 		for (SearchResultGroup group : fReferences) {
-			if (cu.equals(group.getCompilationUnit())) {
-				removeReferences(matches, group);
+			ICompilationUnit cu= group.getCompilationUnit();
+			if (cu != null) {
+				result.computeIfAbsent(cu, k -> new ArrayList<>(1)).add(group);
 			}
 		}
+		return result;
 	}
 
 	private void removeReferences(Set<TextMatch> matches, SearchResultGroup group) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.corext.refactoring.typeconstraints.typesets;
 
+import java.util.BitSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.Set;
@@ -21,11 +22,16 @@ import org.eclipse.core.runtime.Assert;
 
 import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types.ArrayType;
 import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types.TType;
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.typesets.TypeSetEnvironment.TypeClosure;
 import org.eclipse.jdt.internal.corext.refactoring.typeconstraints2.TTypes;
 
 /**
  * A type-safe wrapper for {@code Set<TType>} that also adds {@code TType}-specific
  * functionality, e.g. subTypes() and superTypes().
+ * <p>
+ * Besides the ordered set of members, the set keeps a bitset of the members' type ids (see
+ * {@link TypeSetEnvironment#getTypeId(TType)}), which is used for the set algebra.
+ * </p>
  */
 public class EnumeratedTypeSet extends TypeSet {
 	static private int sCount= 0;
@@ -39,9 +45,15 @@ public class EnumeratedTypeSet extends TypeSet {
 	}
 
 	/**
-	 * Set containing the TTypes in this EnumeratedTypeSet.
+	 * Set containing the TTypes in this EnumeratedTypeSet. Must only be modified together
+	 * with {@link #fIds}.
 	 */
-	Set<TType> fMembers= new LinkedHashSet<>();
+	private Set<TType> fMembers= new LinkedHashSet<>();
+
+	/**
+	 * The type ids of the members.
+	 */
+	private BitSet fIds= new BitSet();
 
 	/**
 	 * Constructs a new EnumeratedTypeSet with the members of Set s in it.
@@ -53,7 +65,7 @@ public class EnumeratedTypeSet extends TypeSet {
 	public EnumeratedTypeSet(Iterator<TType> types, TypeSetEnvironment typeSetEnvironment) {
 		super(typeSetEnvironment);
 		while (types.hasNext()) {
-			fMembers.add(types.next());
+			addMember(types.next());
 		}
 		sCount++;
 	}
@@ -77,7 +89,7 @@ public class EnumeratedTypeSet extends TypeSet {
 	public EnumeratedTypeSet(TType t, TypeSetEnvironment typeSetEnvironment) {
 		super(typeSetEnvironment);
 		Assert.isNotNull(t);
-		fMembers.add(t);
+		addMember(t);
 		sCount++;
 	}
 
@@ -95,16 +107,16 @@ public class EnumeratedTypeSet extends TypeSet {
 		if (o instanceof EnumeratedTypeSet) {
 			EnumeratedTypeSet other= (EnumeratedTypeSet) o;
 
-			return fMembers.equals(other.fMembers);
+			return fIds.equals(other.fIds);
 		} else if (o instanceof SingletonTypeSet) {
 			SingletonTypeSet other= (SingletonTypeSet) o;
 
-			return (fMembers.size() == 1) && fMembers.contains(other.anyMember());
+			return (fMembers.size() == 1) && contains(other.anyMember());
 		} else if (o instanceof TypeSet) {
 			TypeSet other= (TypeSet) o;
 
 			for(Iterator<TType> otherIter= other.iterator(); otherIter.hasNext(); ) {
-				if (!fMembers.contains(otherIter.next()))
+				if (!contains(otherIter.next()))
 					return false;
 			}
 			for (TType tType : fMembers) {
@@ -118,7 +130,7 @@ public class EnumeratedTypeSet extends TypeSet {
 
 	@Override
 	public int hashCode() {
-		return 37 + fMembers.hashCode();
+		return 37 + fIds.hashCode();
 	}
 
 	/**
@@ -152,8 +164,8 @@ public class EnumeratedTypeSet extends TypeSet {
 			// More than an optimization: the universe never contains array types, so
 			// if s2 has array types, the following will retain them, as it should.
 			EnumeratedTypeSet ets2= (EnumeratedTypeSet) s2;
-			fMembers= new LinkedHashSet<>();
-			fMembers.addAll(ets2.fMembers);
+			fMembers= new LinkedHashSet<>(ets2.fMembers);
+			fIds= (BitSet) ets2.fIds.clone();
 		} else
 			retainAll(s2);
 	}
@@ -167,7 +179,7 @@ public class EnumeratedTypeSet extends TypeSet {
 		if (isUniverse())
 			return makeClone(); // subtypes(universe) = universe
 
-		if (fMembers.contains(getJavaLangObject()))
+		if (contains(getJavaLangObject()))
 			return getTypeSetEnvironment().getUniverseTypeSet();
 
 		return getTypeSetEnvironment().createSubTypesSet(this);
@@ -201,6 +213,7 @@ public class EnumeratedTypeSet extends TypeSet {
 		EnumeratedTypeSet result= new EnumeratedTypeSet(getTypeSetEnvironment());
 
 		result.fMembers.addAll(fMembers);
+		result.fIds= (BitSet) fIds.clone();
 		result.initComplete();
 		return result;
 	}
@@ -214,6 +227,7 @@ public class EnumeratedTypeSet extends TypeSet {
 			fMembers= new LinkedHashSet<>();
 		else
 			fMembers.clear();
+		fIds= new BitSet();
 	}
 
 	@Override
@@ -228,36 +242,88 @@ public class EnumeratedTypeSet extends TypeSet {
 	public boolean add(TType t) {
 		// Doesn't make sense to do here what other methods do (copy-and-modify)
 		Assert.isTrue(!isUniverse(), "Someone's trying to expand the universe!"); //$NON-NLS-1$
-		return fMembers.add(t);
+		return addMember(t);
+	}
+
+	/**
+	 * Adds the types of the given closure, in their order.
+	 *
+	 * @param closure the closure
+	 */
+	void addAll(TypeClosure closure) {
+		if (!containsAllIds(closure.fIds)) {
+			for (TType type : closure.fTypes) {
+				addMember(type);
+			}
+		}
+	}
+
+	private boolean addMember(TType t) {
+		if (fMembers.add(t)) {
+			fIds.set(getTypeSetEnvironment().getTypeId(t));
+			return true;
+		}
+		return false;
 	}
 
 	@Override
 	public boolean contains(TType t) {
 		if (isUniverse())
 			return true;
-		return fMembers.contains(t);
+		int id= getTypeSetEnvironment().findTypeId(t);
+		return id != -1 && fIds.get(id);
 	}
 
 	public boolean remove(TType t) {
 		if (isUniverse())
 			fMembers= cloneSet(fMembers);
-		return fMembers.remove(t);
+		if (fMembers.remove(t)) {
+			fIds.clear(getTypeSetEnvironment().getTypeId(t));
+			return true;
+		}
+		return false;
 	}
 
 	private Set<TType> cloneSet(Set<TType> members) {
 		return new LinkedHashSet<>(members);
 	}
 
-	public boolean addAll(TypeSet s) {
-		if (s instanceof EnumeratedTypeSet) {
-			EnumeratedTypeSet ets= (EnumeratedTypeSet) s;
+	/**
+	 * Keeps only the members whose id is in the given set.
+	 *
+	 * @param ids the ids of the members to keep
+	 * @return <code>true</code> iff a member was removed
+	 */
+	private boolean retainIds(BitSet ids) {
+		BitSet retained= (BitSet) fIds.clone();
+		retained.and(ids);
+		if (retained.equals(fIds))
+			return false;
+		Set<TType> members= new LinkedHashSet<>();
+		TypeSetEnvironment environment= getTypeSetEnvironment();
+		for (TType member : fMembers) {
+			if (retained.get(environment.getTypeId(member)))
+				members.add(member);
+		}
+		fMembers= members;
+		fIds= retained;
+		return true;
+	}
 
-			return fMembers.addAll(ets.fMembers);
-		} else {
-			EnumeratedTypeSet ets= s.enumerate();
+	private boolean containsAllIds(BitSet ids) {
+		BitSet missing= (BitSet) ids.clone();
+		missing.andNot(fIds);
+		return missing.isEmpty();
+	}
 
-			return fMembers.addAll(ets.fMembers);
+	public boolean addAll(TypeSet s) {
+		EnumeratedTypeSet ets= s.enumerate();
+		if (containsAllIds(ets.fIds))
+			return false;
+		for (TType member : ets.fMembers) {
+			addMember(member);
 		}
+		return true;
 	}
 
 	@Override
@@ -278,13 +344,17 @@ public class EnumeratedTypeSet extends TypeSet {
 			return false;
 		EnumeratedTypeSet ets= s.enumerate();
 
-		return fMembers.containsAll(ets.fMembers);
+		return containsAllIds(ets.fIds);
 	}
 
 	public boolean removeAll(EnumeratedTypeSet s) {
 		if (isUniverse())
 			fMembers= cloneSet(fMembers);
-		return fMembers.removeAll(s.fMembers);
+		if (!fIds.intersects(s.fIds))
+			return false;
+		BitSet retained= (BitSet) fIds.clone();
+		retained.andNot(s.fIds);
+		return retainIds(retained);
 	}
 
 	public boolean retainAll(TypeSet s) {
@@ -294,9 +364,10 @@ public class EnumeratedTypeSet extends TypeSet {
 
 		if (isUniverse()) {
 			fMembers= cloneSet(ets.fMembers);
+			fIds= (BitSet) ets.fIds.clone();
 			return true;
 		} else
-			return fMembers.retainAll(ets.fMembers);
+			return retainIds(ets.fIds);
 	}
 
 	@Override
@@ -313,26 +384,30 @@ public class EnumeratedTypeSet extends TypeSet {
 	public TypeSet upperBound() {
 		if (fMembers.size() == 1)
 			return new SingletonTypeSet(fMembers.iterator().next(), getTypeSetEnvironment());
-		if (fMembers.contains(getJavaLangObject()))
+		if (contains(getJavaLangObject()))
 			return new SingletonTypeSet(getJavaLangObject(), getTypeSetEnvironment());
 
 		EnumeratedTypeSet result= new EnumeratedTypeSet(getTypeSetEnvironment());
+		TypeSetEnvironment environment= getTypeSetEnvironment();
 
 		// Add to result each element of fMembers that has no proper supertype in fMembers
-		result.fMembers.addAll(fMembers);
+		BitSet retained= (BitSet) fIds.clone();
 		for (TType t : fMembers) {
 			if (t.isArrayType()) {
 				ArrayType at= (ArrayType) t;
 				int numDims= at.getDimensions();
-				for(Iterator<TType> subIter=TTypes.getAllSubTypesIterator(at.getElementType()); subIter.hasNext(); ) {
-					result.fMembers.remove(TTypes.createArrayType(subIter.next(), numDims));
+				for (TType sub : environment.getSubTypeClosure(at.getElementType()).fTypes) {
+					int id= environment.findTypeId(TTypes.createArrayType(sub, numDims));
+					if (id != -1)
+						retained.clear(id);
 				}
 			} else {
-				for (Iterator<TType> iterator= TTypes.getAllSubTypesIterator(t); iterator.hasNext();) {
-					result.fMembers.remove(iterator.next());
-				}
+				retained.andNot(environment.getSubTypeClosure(t).fIds);
 			}
 		}
+		result.fMembers.addAll(fMembers);
+		result.fIds= (BitSet) fIds.clone();
+		result.retainIds(retained);
 		result.initComplete();
 		return result;
 	}
@@ -343,30 +418,34 @@ public class EnumeratedTypeSet extends TypeSet {
 			return new SingletonTypeSet(fMembers.iterator().next(), getTypeSetEnvironment());
 
 		EnumeratedTypeSet result= new EnumeratedTypeSet(getTypeSetEnvironment());
+		TypeSetEnvironment environment= getTypeSetEnvironment();
 
 		// Add to result each element of fMembers that has no proper subtype in fMembers
-		result.fMembers.addAll(fMembers);
+		BitSet retained= (BitSet) fIds.clone();
 
 		for (TType t : fMembers) {
 			// java.lang.Object is only in the lower bound if fMembers consists
 			// of only java.lang.Object, but that case is handled above.
 			if (t.equals(getJavaLangObject())) {
-				result.fMembers.remove(t);
+				retained.clear(environment.getTypeId(t));
 				continue;
 			}
 
 			if (t instanceof ArrayType) {
 				ArrayType at= (ArrayType) t;
 				int numDims= at.getDimensions();
-				for(Iterator<TType> superIter=TTypes.getAllSuperTypesIterator(at.getElementType()); superIter.hasNext(); ) {
-					result.fMembers.remove(TTypes.createArrayType(superIter.next(), numDims));
+				for (TType sup : environment.getSuperTypeClosure(at.getElementType()).fTypes) {
+					int id= environment.findTypeId(TTypes.createArrayType(sup, numDims));
+					if (id != -1)
+						retained.clear(id);
 				}
 			} else {
-				for (Iterator<TType> iterator= TTypes.getAllSuperTypesIterator(t); iterator.hasNext();) {
-					result.fMembers.remove(iterator.next());
-				}
+				retained.andNot(environment.getSuperTypeClosure(t).fIds);
 			}
 		}
+		result.fMembers.addAll(fMembers);
+		result.fIds= (BitSet) fIds.clone();
+		result.retainIds(retained);
 		if (result.size() > 0)
 			return result;
 		else
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -215,8 +215,10 @@ public class SubTypesOfSingleton extends TypeSet {
 			if (fUpperBound instanceof ArrayType) {
 				ArrayType at= (ArrayType) fUpperBound;
 				fEnumCache= EnumeratedTypeSet.makeArrayTypesForElements(TTypes.getAllSubTypesIterator(at.getComponentType()),getTypeSetEnvironment());
-			} else
-				fEnumCache= new EnumeratedTypeSet(TTypes.getAllSubTypesIterator(fUpperBound), getTypeSetEnvironment());
+			} else {
+				fEnumCache= new EnumeratedTypeSet(getTypeSetEnvironment());
+				fEnumCache.addAll(getTypeSetEnvironment().getSubTypeClosure(fUpperBound));
+			}
 
 			fEnumCache.add(fUpperBound);
 			fEnumCache.initComplete();
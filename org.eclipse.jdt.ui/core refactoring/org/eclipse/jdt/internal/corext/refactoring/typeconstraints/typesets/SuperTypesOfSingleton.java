@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -199,8 +199,10 @@ public class SuperTypesOfSingleton extends TypeSet {
 				ArrayType at= (ArrayType) fLowerBound;
 				fEnumCache= EnumeratedTypeSet.makeArrayTypesForElements(TTypes.getAllSuperTypesIterator(at.getComponentType()), getTypeSetEnvironment());
 				fEnumCache.add(getJavaLangObject());
-			} else
-				fEnumCache= new EnumeratedTypeSet(TTypes.getAllSuperTypesIterator(fLowerBound), getTypeSetEnvironment());
+			} else {
+				fEnumCache= new EnumeratedTypeSet(getTypeSetEnvironment());
+				fEnumCache.addAll(getTypeSetEnvironment().getSuperTypeClosure(fLowerBound));
+			}
 
 			fEnumCache.add(fLowerBound);
 			fEnumCache.initComplete();
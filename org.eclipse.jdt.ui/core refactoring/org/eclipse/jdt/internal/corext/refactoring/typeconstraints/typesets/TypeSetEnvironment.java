@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2015 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,16 +14,38 @@
 
 package org.eclipse.jdt.internal.corext.refactoring.typeconstraints.typesets;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types.TType;
 import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types.TypeEnvironment;
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints2.TTypes;
 
 
 
 public class TypeSetEnvironment {
 
+	/**
+	 * The transitive sub- or supertypes of a type, in the order of the corresponding
+	 * {@link TTypes} iterator, and as a set of type ids.
+	 */
+	static final class TypeClosure {
+		final TType[] fTypes;
+		final BitSet fIds;
+
+		TypeClosure(TType[] types, BitSet ids) {
+			fTypes= types;
+			fIds= ids;
+		}
+	}
+
 	private final TypeEnvironment fTypeEnvironment;
 	private final TypeUniverseSet fUniverse;
 	private final EmptyTypeSet fEmptyTypeSet;
@@ -33,6 +55,15 @@ public class TypeSetEnvironment {
 	private final Map<TType, SuperTypesOfSingleton> fSuperTypesOfSingletons= new LinkedHashMap<>();//@perf
 	private final Map<Object, SuperTypesSet> fSuperTypesSets= new LinkedHashMap<>();//@perf
 
+	/**
+	 * Dense ids for the types used in type sets. The id of a type is its index in {@link #fTypes}.
+	 */
+	private final Map<TType, Integer> fTypeIds= new HashMap<>();
+	private final List<TType> fTypes= new ArrayList<>();
+
+	private final Map<TType, TypeClosure> fSubTypeClosures= new HashMap<>();
+	private final Map<TType, TypeClosure> fSuperTypeClosures= new HashMap<>();
+
 	private int fgCommonExprHits= 0;
 	private int fgCommonExprMisses= 0;
 
@@ -119,6 +150,78 @@ public class TypeSetEnvironment {
 		}
 	}
 
+	/**
+	 * Returns the id of the given type. Ids are dense, small integers that are assigned when a
+	 * type is first used in a type set of this environment.
+	 *
+	 * @param type the type
+	 * @return the id of the type
+	 */
+	int getTypeId(TType type) {
+		Integer id= fTypeIds.get(type);
+		if (id != null)
+			return id.intValue();
+		int newId= fTypes.size();
+		fTypes.add(type);
+		fTypeIds.put(type, Integer.valueOf(newId));
+		return newId;
+	}
+
+	/**
+	 * @param type the type
+	 * @return the id of the given type, or <code>-1</code> if the type has not been used in a
+	 *         type set of this environment yet
+	 */
+	int findTypeId(TType type) {
+		Integer id= fTypeIds.get(type);
+		return id == null ? -1 : id.intValue();
+	}
+
+	/**
+	 * Returns all subtypes of the given type, including the type itself, as enumerated by
+	 * {@link TTypes#getAllSubTypesIterator(TType)}. The closure is computed on first request
+	 * and assumes that the type hierarchy of the underlying {@link TypeEnvironment} is complete,
+	 * i.e. that no types are added to it after the constraints have been created.
+	 *
+	 * @param type the type
+	 * @return the closure, must not be modified
+	 */
+	TypeClosure getSubTypeClosure(TType type) {
+		TypeClosure closure= fSubTypeClosures.get(type);
+		if (closure == null) {
+			closure= createClosure(TTypes.getAllSubTypesIterator(type));
+			fSubTypeClosures.put(type, closure);
+		}
+		return closure;
+	}
+
+	/**
+	 * Returns all proper supertypes of the given type, as enumerated by
+	 * {@link TTypes#getAllSuperTypesIterator(TType)}. The closure is computed on first request.
+	 *
+	 * @param type the type
+	 * @return the closure, must not be modified
+	 */
+	TypeClosure getSuperTypeClosure(TType type) {
+		TypeClosure closure= fSuperTypeClosures.get(type);
+		if (closure == null) {
+			closure= createClosure(TTypes.getAllSuperTypesIterator(type));
+			fSuperTypeClosures.put(type, closure);
+		}
+		return closure;
+	}
+
+	private TypeClosure createClosure(Iterator<TType> types) {
+		Set<TType> closure= new LinkedHashSet<>();
+		BitSet ids= new BitSet();
+		while (types.hasNext()) {
+			TType type= types.next();
+			if (closure.add(type))
+				ids.set(getTypeId(type));
+		}
+		return new TypeClosure(closure.toArray(new TType[closure.size()]), ids);
+	}
+
 	public void dumpStats() {
 		System.out.println("Common expression hits:   " + fgCommonExprHits); //$NON-NLS-1$
 		System.out.println("Common expression misses: " + fgCommonExprMisses); //$NON-NLS-1$
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -31,8 +31,6 @@ import org.eclipse.core.resources.IResource;
 
 import org.eclipse.core.filebuffers.FileBuffers;
 
-import org.eclipse.text.edits.ReplaceEdit;
-
 import org.eclipse.search.core.text.TextSearchEngine;
 import org.eclipse.search.core.text.TextSearchMatchAccess;
 import org.eclipse.search.core.text.TextSearchRequestor;
@@ -40,13 +38,11 @@ import org.eclipse.search.core.text.TextSearchScope;
 
 import org.eclipse.ltk.core.refactoring.GroupCategory;
 import org.eclipse.ltk.core.refactoring.GroupCategorySet;
-import org.eclipse.ltk.core.refactoring.TextChange;
 
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.JavaCore;
 
 import org.eclipse.jdt.internal.corext.refactoring.RefactoringCoreMessages;
-import org.eclipse.jdt.internal.corext.refactoring.changes.TextChangeCompatibility;
 
 import org.eclipse.jdt.internal.ui.util.PatternConstructor;
 
@@ -111,11 +107,7 @@ public class QualifiedNameFinder {
 
 			IFile file= matchAccess.getFile();
 			synchronized(fResult) {
-				TextChange change= fResult.getChange(file);
-				TextChangeCompatibility.addTextEdit(
-					change,
-					RefactoringCoreMessages.QualifiedNameFinder_update_name,
-					new ReplaceEdit(start, length, fNewValue), QUALIFIED_NAMES);
+				fResult.getChange(file, QUALIFIED_NAMES).addReplaceEdit(start, length, fNewValue, RefactoringCoreMessages.QualifiedNameFinder_update_name);
 			}
 
 			return true;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,18 +20,21 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import org.eclipse.core.runtime.Assert;
+
 import org.eclipse.core.resources.IFile;
 
 import org.eclipse.ltk.core.refactoring.Change;
 import org.eclipse.ltk.core.refactoring.CompositeChange;
+import org.eclipse.ltk.core.refactoring.GroupCategorySet;
+import org.eclipse.ltk.core.refactoring.LazyTextFileChange;
 import org.eclipse.ltk.core.refactoring.TextChange;
-import org.eclipse.ltk.core.refactoring.TextFileChange;
 
 import org.eclipse.jdt.internal.corext.refactoring.RefactoringCoreMessages;
 
 public class QualifiedNameSearchResult {
 
-	private Map<IFile, TextChange> fChanges;
+	private Map<IFile, LazyTextFileChange> fChanges;
 
 	public QualifiedNameSearchResult() {
 		fChanges= new HashMap<>();
@@ -39,15 +42,44 @@ public class QualifiedNameSearchResult {
 
 	public TextChange getChange(IFile file) {
 		TextChange result= fChanges.get(file);
+		if (result == null)
+			result= getChange(file, null);
+		return result;
+	}
+
+	/**
+	 * Returns the change for the given file. The edits of new changes are only created when the
+	 * change is previewed or performed.
+	 * <p>
+	 * All edits of a change share the group categories of the change. If the file already has a
+	 * change, it must have been created with the same group categories.
+	 * </p>
+	 *
+	 * @param file the file
+	 * @param groupCategories the group categories of the edits in the file, or <code>null</code>
+	 * @return the change for the file
+	 */
+	public LazyTextFileChange getChange(IFile file, GroupCategorySet groupCategories) {
+		LazyTextFileChange result= fChanges.get(file);
 		if (result == null) {
-			result= new TextFileChange(file.getName(), file);
+			result= new LazyTextFileChange(file.getName(), file, groupCategories);
 			fChanges.put(file, result);
+		} else {
+			Assert.isLegal(hasSameCategories(result.getGroupCategorySet(), groupCategories), "Change of " + file.getName() + " has different group categories"); //$NON-NLS-1$ //$NON-NLS-2$
 		}
 		return result;
 	}
 
+	private static boolean hasSameCategories(GroupCategorySet one, GroupCategorySet two) {
+		if (one == two)
+			return true;
+		if (one == null || two == null)
+			return false;
+		return one.asList().equals(two.asList());
+	}
+
 	public TextChange[] getAllChanges() {
-		Collection<TextChange> values= fChanges.values();
+		Collection<LazyTextFileChange> values= fChanges.values();
 		return values.toArray(new TextChange[values.size()]);
 	}
 
@@ -57,15 +89,14 @@ public class QualifiedNameSearchResult {
 	}
 
 	public Change getSingleChange(IFile[] alreadyTouchedFiles) {
-		Collection<TextChange> values= fChanges.values();
+		Collection<LazyTextFileChange> values= fChanges.values();
 		if (values.isEmpty())
 			return null;
 
 		CompositeChange result= new CompositeChange(RefactoringCoreMessages.QualifiedNameSearchResult_change_name);
 		result.markAsSynthetic();
 		List<IFile> files= Arrays.asList(alreadyTouchedFiles);
-		for (TextChange textChange : values) {
-			TextFileChange change= (TextFileChange)textChange;
+		for (LazyTextFileChange change : values) {
 			if (!files.contains(change.getFile())) {
 				result.add(change);
 			}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -27,6 +27,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 
 import com.ibm.icu.text.BreakIterator;
 
@@ -195,7 +196,6 @@ import org.eclipse.jdt.internal.core.manipulation.search.IOccurrencesFinder;
 import org.eclipse.jdt.internal.core.manipulation.search.IOccurrencesFinder.OccurrenceLocation;
 import org.eclipse.jdt.internal.core.manipulation.search.ImplementOccurrencesFinder;
 import org.eclipse.jdt.internal.core.manipulation.search.MethodExitsFinder;
-import org.eclipse.jdt.internal.core.manipulation.search.OccurrencesFinder;
 import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
 
 import org.eclipse.jdt.ui.IContextMenuConstants;
@@ -1568,6 +1568,11 @@ public abstract class JavaEditor extends AbstractDecoratedTextEditor implements
 	 * @since 3.0
 	 */
 	private Annotation[] fOccurrenceAnnotations= null;
+	/**
+	 * The occurrences of the names of the last AST, or <code>null</code>.
+	 * @since 3.26
+	 */
+	private volatile OccurrencesIndex fOccurrencesIndex;
 	/**
 	 * Tells whether all occurrences of the element at the
 	 * current caret location are automatically marked in
@@ -3248,7 +3253,14 @@ public abstract class JavaEditor extends AbstractDecoratedTextEditor implements
 
 			synchronized (getLockObject(annotationModel)) {
 				if (annotationModel instanceof IAnnotationModelExtension) {
-					((IAnnotationModelExtension)annotationModel).replaceAnnotations(fOccurrenceAnnotations, annotationMap);
+					// only touch the annotations that change, mostly none when the caret moves within an element's occurrences
+					List<Annotation> kept= new ArrayList<>();
+					List<Annotation> removed= new ArrayList<>();
+					retainUnchangedAnnotations(annotationModel, annotationMap, kept, removed);
+					if (!removed.isEmpty() || !annotationMap.isEmpty())
+						((IAnnotationModelExtension)annotationModel).replaceAnnotations(removed.toArray(new Annotation[removed.size()]), annotationMap);
+					kept.addAll(annotationMap.keySet());
+					fOccurrenceAnnotations= kept.toArray(new Annotation[kept.size()]);
 				} else {
 					removeOccurrenceAnnotations();
 					Iterator<Entry<Annotation, Position>> iter= annotationMap.entrySet().iterator();
@@ -3256,14 +3268,54 @@ public abstract class JavaEditor extends AbstractDecoratedTextEditor implements
 						Entry<Annotation, Position> mapEntry= iter.next();
 						annotationModel.addAnnotation(mapEntry.getKey(), mapEntry.getValue());
 					}
+					fOccurrenceAnnotations= annotationMap.keySet().toArray(new Annotation[annotationMap.size()]);
 				}
-				fOccurrenceAnnotations= annotationMap.keySet().toArray(new Annotation[annotationMap.size()]);
 			}
 
 			return Status.OK_STATUS;
 		}
 	}
 
+	/**
+	 * Splits the current occurrence annotations into the annotations that are also in the given
+	 * new annotations and the annotations to remove. Annotations that are kept are removed from
+	 * the new annotations.
+	 *
+	 * @param annotationModel the annotation model
+	 * @param newAnnotations the new occurrence annotations and their positions
+	 * @param kept receives the current annotations to keep
+	 * @param removed receives the current annotations to remove
+	 * @since 3.26
+	 */
+	private void retainUnchangedAnnotations(IAnnotationModel annotationModel, Map<Annotation, Position> newAnnotations, List<Annotation> kept, List<Annotation> removed) {
+		if (fOccurrenceAnnotations == null)
+			return;
+		Map<Position, List<Annotation>> byPosition= new HashMap<>(newAnnotations.size());
+		for (Entry<Annotation, Position> entry : newAnnotations.entrySet()) {
+			byPosition.computeIfAbsent(entry.getValue(), p -> new ArrayList<>(1)).add(entry.getKey());
+		}
+		for (Annotation annotation : fOccurrenceAnnotations) {
+			Position position= annotationModel.getPosition(annotation);
+			Annotation match= null;
+			List<Annotation> candidates= position != null && !position.isDeleted() ? byPosition.get(position) : null;
+			if (candidates != null) {
+				for (Annotation candidate : candidates) {
+					if (candidate.getType().equals(annotation.getType()) && Objects.equals(candidate.getText(), annotation.getText())) {
+						match= candidate;
+						break;
+					}
+				}
+			}
+			if (match != null) {
+				candidates.remove(match);
+				newAnnotations.remove(match);
+				kept.add(annotation);
+			} else {
+				removed.add(annotation);
+			}
+		}
+	}
+
 	/**
 	 * Updates the occurrences annotations based
 	 * on the current selection.
@@ -3335,10 +3387,12 @@ public abstract class JavaEditor extends AbstractDecoratedTextEditor implements
 		if (locations == null && selectedNode instanceof Name) {
 			IBinding binding= ((Name)selectedNode).resolveBinding();
 			if (binding != null && markOccurrencesOfType(binding)) {
-				OccurrencesFinder finder= new OccurrencesFinder();
-				if (finder.initialize(astRoot, selectedNode) == null) {
-					locations= finder.getOccurrences();
+				OccurrencesIndex index= fOccurrencesIndex;
+				if (index == null || !index.isIndexOf(astRoot)) {
+					index= new OccurrencesIndex(astRoot);
+					fOccurrencesIndex= index;
 				}
+				locations= index.getOccurrences((Name)selectedNode);
 			}
 		}
 
@@ -3399,6 +3453,7 @@ public abstract class JavaEditor extends AbstractDecoratedTextEditor implements
 			fPostSelectionListenerWithAST= null;
 		}
 
+		fOccurrencesIndex= null;
 		removeOccurrenceAnnotations();
 	}
 
@@ -0,0 +1,137 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.javaeditor;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.IBinding;
+import org.eclipse.jdt.core.dom.IMethodBinding;
+import org.eclipse.jdt.core.dom.ITypeBinding;
+import org.eclipse.jdt.core.dom.IVariableBinding;
+import org.eclipse.jdt.core.dom.ImportDeclaration;
+import org.eclipse.jdt.core.dom.Name;
+import org.eclipse.jdt.core.dom.QualifiedName;
+
+import org.eclipse.jdt.internal.core.manipulation.search.IOccurrencesFinder.OccurrenceLocation;
+import org.eclipse.jdt.internal.core.manipulation.search.OccurrencesFinder;
+
+/**
+ * Index of the occurrences of the names of one AST, used to mark occurrences in the Java editor.
+ * <p>
+ * The occurrences of an element are searched once per AST, when a name of the element is selected
+ * for the first time. Selecting any other occurrence of the same element in the same AST is a
+ * lookup by the key of the element's binding.
+ * </p>
+ * <p>
+ * This class is thread safe.
+ * </p>
+ */
+public final class OccurrencesIndex {
+
+	private static final OccurrenceLocation[] NO_OCCURRENCES= new OccurrenceLocation[0];
+
+	private final CompilationUnit fAST;
+
+	private final Map<String, OccurrenceLocation[]> fOccurrences= new HashMap<>();
+
+	/**
+	 * Creates an empty index.
+	 *
+	 * @param ast the AST, with bindings
+	 */
+	public OccurrencesIndex(CompilationUnit ast) {
+		fAST= ast;
+	}
+
+	/**
+	 * Tells whether this index is the index of the given AST.
+	 *
+	 * @param ast the AST
+	 * @return <code>true</code> if this index belongs to the AST
+	 */
+	boolean isIndexOf(CompilationUnit ast) {
+		return fAST == ast;
+	}
+
+	/**
+	 * Returns the occurrences of the element referenced by the given name.
+	 *
+	 * @param selectedNode a name of the AST of this index
+	 * @return the occurrences, or <code>null</code> if there are none
+	 */
+	public OccurrenceLocation[] getOccurrences(Name selectedNode) {
+		String key= getKey(selectedNode);
+		if (key == null)
+			return findOccurrences(selectedNode);
+
+		OccurrenceLocation[] occurrences;
+		synchronized (this) {
+			occurrences= fOccurrences.get(key);
+		}
+		if (occurrences == null) {
+			occurrences= findOccurrences(selectedNode);
+			if (occurrences == null)
+				occurrences= NO_OCCURRENCES;
+			synchronized (this) {
+				fOccurrences.put(key, occurrences);
+			}
+		}
+		return occurrences.length > 0 ? occurrences : null;
+	}
+
+	private OccurrenceLocation[] findOccurrences(Name selectedNode) {
+		OccurrencesFinder finder= new OccurrencesFinder();
+		if (finder.initialize(fAST, selectedNode) == null)
+			return finder.getOccurrences();
+		return null;
+	}
+
+	/*
+	 * Returns the key of the binding declaration searched by the OccurrencesFinder for the given
+	 * name, or null if the occurrences can't be indexed.
+	 */
+	private static String getKey(Name name) {
+		IBinding binding= name.resolveBinding();
+		if (binding == null)
+			return null;
+		switch (binding.getKind()) {
+			case IBinding.TYPE:
+				binding= ((ITypeBinding) binding).getTypeDeclaration();
+				break;
+			case IBinding.METHOD:
+				binding= ((IMethodBinding) binding).getMethodDeclaration();
+				break;
+			case IBinding.VARIABLE:
+				binding= ((IVariableBinding) binding).getVariableDeclaration();
+				break;
+			default:
+				break;
+		}
+		String key= binding.getKey();
+		if (key == null)
+			return null;
+		// static imports of methods also match unqualified invocations
+		return isStaticImport(name.getParent()) ? key + "#static" : key; //$NON-NLS-1$
+	}
+
+	private static boolean isStaticImport(ASTNode node) {
+		if (!(node instanceof QualifiedName))
+			return false;
+		ASTNode parent= node.getParent();
+		return parent instanceof ImportDeclaration && ((ImportDeclaration) parent).isStatic();
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2013 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,8 +16,12 @@ package org.eclipse.jdt.internal.ui.packageview;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Display;
@@ -83,6 +87,18 @@ public class PackageExplorerContentProvider extends StandardJavaElementContentPr
 	protected static final int GRANT_PARENT= 1 << 1;
 	protected static final int PROJECT= 1 << 2;
 
+	/**
+	 * Number of queued viewer updates after which the queue is replaced by a single refresh of the
+	 * whole viewer.
+	 */
+	private static final int MAX_PENDING_UPDATES= 1000;
+
+	/**
+	 * Delay in milliseconds of a queued full refresh, so that the deltas of a large change are
+	 * collected before the viewer is refreshed.
+	 */
+	private static final int FULL_REFRESH_DELAY= 300;
+
 	private TreeViewer fViewer;
 	private Object fInput;
 	private boolean fIsFlatLayout;
@@ -90,6 +106,13 @@ public class PackageExplorerContentProvider extends StandardJavaElementContentPr
 	private boolean fFoldPackages;
 
 	private Collection<Runnable> fPendingUpdates;
+	private boolean fFullRefreshPending;
+
+	/**
+	 * The parents of the elements of the queued updates, computed when the updates are queued so
+	 * that {@link #coalescePendingUpdates()} does not walk the tree while holding the lock.
+	 */
+	private Map<Object, Object> fPendingParents;
 
 	private UIJob fUpdateJob;
 
@@ -150,25 +173,164 @@ public class PackageExplorerContentProvider extends StandardJavaElementContentPr
 		Control ctrl= fViewer.getControl();
 		if (ctrl != null && !ctrl.isDisposed()) {
 			final boolean hasPendingUpdates;
+			final boolean fullRefreshPending;
 			synchronized (this) {
 				hasPendingUpdates= fPendingUpdates != null && !fPendingUpdates.isEmpty();
+				fullRefreshPending= fFullRefreshPending;
 			}
 			//Are we in the UIThread? If so spin it until we are done
 			if (!hasPendingUpdates && ctrl.getDisplay().getThread() == Thread.currentThread() && !fViewer.isBusy()) {
 				runUpdates(runnables);
 			} else {
+				// a pending full refresh drops the updates that the parents are needed for
+				Map<Object, Object> parents= fullRefreshPending ? new HashMap<>() : collectParents(runnables);
+				final boolean fullRefresh;
 				synchronized (this) {
 					if (fPendingUpdates == null) {
-						fPendingUpdates= runnables;
+						fPendingUpdates= new ArrayList<>(runnables);
+						fPendingParents= parents;
 					} else {
 						fPendingUpdates.addAll(runnables);
+						if (!fFullRefreshPending) {
+							fPendingParents.putAll(parents);
+						}
+					}
+					coalescePendingUpdates();
+					fullRefresh= fFullRefreshPending;
+				}
+				postAsyncUpdate(ctrl.getDisplay(), fullRefresh ? FULL_REFRESH_DELAY : 0);
+			}
+		}
+	}
+
+	/**
+	 * Folds the queued updates into a minimal list: refreshes of elements whose ancestor is
+	 * refreshed as well, and adds and removes below a refreshed element are dropped. If too many
+	 * updates are queued, they are replaced by one refresh of the whole viewer. Updates not created
+	 * by {@link #postRefresh(List, boolean, Collection)}, {@link #postAdd(Object, Object, Collection)}
+	 * or {@link #postRemove(Object, Collection)} are always kept.
+	 * <p>
+	 * Must be called while holding the lock on this content provider.
+	 * </p>
+	 */
+	private void coalescePendingUpdates() {
+		if (fFullRefreshPending) {
+			fPendingUpdates= retainOtherUpdates(fPendingUpdates);
+			return;
+		}
+		if (fPendingUpdates.size() > MAX_PENDING_UPDATES) {
+			fFullRefreshPending= true;
+			fPendingUpdates= retainOtherUpdates(fPendingUpdates);
+			fPendingParents.clear();
+			return;
+		}
+
+		Set<Object> refreshedWithLabels= new HashSet<>();
+		for (Runnable runnable : fPendingUpdates) {
+			if (runnable instanceof RefreshUpdate && ((RefreshUpdate) runnable).fUpdateLabels) {
+				for (Object element : ((RefreshUpdate) runnable).fToRefresh) {
+					if (element == null) {
+						return; // refreshes the input, nothing to fold
+					}
+					refreshedWithLabels.add(element);
+				}
+			}
+		}
+		if (refreshedWithLabels.isEmpty()) {
+			return;
+		}
+
+		Set<Object> emitted= new HashSet<>();
+		List<Runnable> result= new ArrayList<>(fPendingUpdates.size());
+		for (Runnable runnable : fPendingUpdates) {
+			if (runnable instanceof RefreshUpdate) {
+				RefreshUpdate refresh= (RefreshUpdate) runnable;
+				List<Object> toRefresh= new ArrayList<>(refresh.fToRefresh.size());
+				for (Object element : refresh.fToRefresh) {
+					boolean covered= isBelowRefreshed(element, refreshedWithLabels)
+							|| !refresh.fUpdateLabels && refreshedWithLabels.contains(element)
+							|| emitted.contains(element) && refresh.fUpdateLabels;
+					if (!covered) {
+						toRefresh.add(element);
 					}
 				}
-				postAsyncUpdate(ctrl.getDisplay());
+				if (!toRefresh.isEmpty()) {
+					if (refresh.fUpdateLabels) {
+						emitted.addAll(toRefresh);
+					}
+					result.add(toRefresh.size() == refresh.fToRefresh.size() ? refresh : new RefreshUpdate(toRefresh, refresh.fUpdateLabels));
+				}
+			} else if (runnable instanceof AddUpdate) {
+				Object parent= ((AddUpdate) runnable).fParent;
+				if (!refreshedWithLabels.contains(parent) && !isBelowRefreshed(parent, refreshedWithLabels)) {
+					result.add(runnable);
+				}
+			} else if (runnable instanceof RemoveUpdate) {
+				if (!isBelowRefreshed(((RemoveUpdate) runnable).fElement, refreshedWithLabels)) {
+					result.add(runnable);
+				}
+			} else {
+				result.add(runnable);
+			}
+		}
+		fPendingUpdates= result;
+	}
+
+	private boolean isBelowRefreshed(Object element, Set<Object> refreshed) {
+		if (element == null) {
+			return false;
+		}
+		Object parent= fPendingParents.get(element);
+		while (parent != null) {
+			if (refreshed.contains(parent)) {
+				return true;
+			}
+			parent= fPendingParents.get(parent);
+		}
+		return false;
+	}
+
+	/**
+	 * Computes the ancestors of the elements of the updates that can be coalesced.
+	 *
+	 * @param runnables the updates
+	 * @return a map from each element and ancestor to its parent
+	 */
+	private Map<Object, Object> collectParents(Collection<Runnable> runnables) {
+		Map<Object, Object> parents= new HashMap<>();
+		for (Runnable runnable : runnables) {
+			if (runnable instanceof RefreshUpdate) {
+				for (Object element : ((RefreshUpdate) runnable).fToRefresh) {
+					collectParents(element, parents);
+				}
+			} else if (runnable instanceof AddUpdate) {
+				collectParents(((AddUpdate) runnable).fParent, parents);
+			} else if (runnable instanceof RemoveUpdate) {
+				collectParents(((RemoveUpdate) runnable).fElement, parents);
+			}
+		}
+		return parents;
+	}
+
+	private void collectParents(Object element, Map<Object, Object> parents) {
+		while (element != null && !parents.containsKey(element)) {
+			Object parent= getParent(element);
+			parents.put(element, parent);
+			element= parent;
+		}
+	}
+
+	private List<Runnable> retainOtherUpdates(Collection<Runnable> runnables) {
+		List<Runnable> result= new ArrayList<>();
+		for (Runnable runnable : runnables) {
+			if (!(runnable instanceof RefreshUpdate || runnable instanceof AddUpdate || runnable instanceof RemoveUpdate)) {
+				result.add(runnable);
 			}
 		}
+		return result;
 	}
-	private void postAsyncUpdate(final Display display) {
+
+	private void postAsyncUpdate(final Display display, long delay) {
 		if (fUpdateJob == null) {
 			fUpdateJob= new UIJob(display, PackagesMessages.PackageExplorerContentProvider_update_job_description) {
 				@Override
@@ -184,7 +346,7 @@ public class PackageExplorerContentProvider extends StandardJavaElementContentPr
 			};
 			fUpdateJob.setSystem(true);
 		}
-		fUpdateJob.schedule();
+		fUpdateJob.schedule(delay);
 	}
 
 	/**
@@ -192,14 +354,28 @@ public class PackageExplorerContentProvider extends StandardJavaElementContentPr
 	 */
 	public void runPendingUpdates() {
 		Collection<Runnable> pendingUpdates;
+		boolean fullRefresh;
 		synchronized (this) {
 			pendingUpdates= fPendingUpdates;
+			fullRefresh= fFullRefreshPending;
 			fPendingUpdates= null;
+			fPendingParents= null;
+			fFullRefreshPending= false;
 		}
-		if (pendingUpdates != null && fViewer != null) {
+		if ((pendingUpdates != null || fullRefresh) && fViewer != null) {
 			Control control = fViewer.getControl();
 			if (control != null && !control.isDisposed()) {
-				runUpdates(pendingUpdates);
+				if (fullRefresh) {
+					control.setRedraw(false);
+					try {
+						fViewer.refresh();
+					} finally {
+						control.setRedraw(true);
+					}
+				}
+				if (pendingUpdates != null) {
+					runUpdates(pendingUpdates);
+				}
 			}
 		}
 	}
@@ -949,35 +1125,81 @@ public class PackageExplorerContentProvider extends StandardJavaElementContentPr
 	}
 
 	protected void postRefresh(final List<Object> toRefresh, final boolean updateLabels, Collection<Runnable> runnables) {
-		runnables.add(() -> {
-			for (Object element : toRefresh.toArray()) {
+		runnables.add(new RefreshUpdate(toRefresh, updateLabels));
+	}
+
+	protected void postAdd(final Object parent, final Object element, Collection<Runnable> runnables) {
+		runnables.add(new AddUpdate(parent, element));
+	}
+
+	protected void postRemove(final Object element, Collection<Runnable> runnables) {
+		runnables.add(new RemoveUpdate(element));
+	}
+
+	/**
+	 * Viewer update posted by {@link PackageExplorerContentProvider#postRefresh(List, boolean, Collection)}.
+	 */
+	private final class RefreshUpdate implements Runnable {
+		final List<Object> fToRefresh;
+		final boolean fUpdateLabels;
+
+		RefreshUpdate(List<Object> toRefresh, boolean updateLabels) {
+			fToRefresh= toRefresh;
+			fUpdateLabels= updateLabels;
+		}
+
+		@Override
+		public void run() {
+			for (Object element : fToRefresh.toArray()) {
 				if (element == null || fViewer.testFindItems(element).length > 0) {
-					fViewer.refresh(element, updateLabels);
+					fViewer.refresh(element, fUpdateLabels);
 				}
 			}
-		});
+		}
 	}
 
-	protected void postAdd(final Object parent, final Object element, Collection<Runnable> runnables) {
-		runnables.add(() -> {
-			for (Widget item : fViewer.testFindItems(element)) {
+	/**
+	 * Viewer update posted by {@link PackageExplorerContentProvider#postAdd(Object, Object, Collection)}.
+	 */
+	private final class AddUpdate implements Runnable {
+		final Object fParent;
+		final Object fElement;
+
+		AddUpdate(Object parent, Object element) {
+			fParent= parent;
+			fElement= element;
+		}
+
+		@Override
+		public void run() {
+			for (Widget item : fViewer.testFindItems(fElement)) {
 				if (item instanceof TreeItem && !item.isDisposed()) {
 					TreeItem parentItem= ((TreeItem) item).getParentItem();
-					if (parentItem != null && !parentItem.isDisposed() && parent.equals(parentItem.getData())) {
+					if (parentItem != null && !parentItem.isDisposed() && fParent.equals(parentItem.getData())) {
 						return; // no add, element already added (most likely by a refresh)
 					}
 				}
 			}
-			fViewer.add(parent, element);
-		});
+			fViewer.add(fParent, fElement);
+		}
 	}
 
-	protected void postRemove(final Object element, Collection<Runnable> runnables) {
-		runnables.add(() -> {
-			if (fViewer.testFindItems(element).length > 0) {
-				fViewer.remove(element);
+	/**
+	 * Viewer update posted by {@link PackageExplorerContentProvider#postRemove(Object, Collection)}.
+	 */
+	private final class RemoveUpdate implements Runnable {
+		final Object fElement;
+
+		RemoveUpdate(Object element) {
+			fElement= element;
+		}
+
+		@Override
+		public void run() {
+			if (fViewer.testFindItems(fElement).length > 0) {
+				fViewer.remove(fElement);
 			}
-		});
+		}
 	}
 
 	protected void postProjectStateChanged(final Object root, Collection<Runnable> runnables) {
@@ -76,6 +76,7 @@ import org.eclipse.jdt.ui.PreferenceConstants;
 
 import org.eclipse.jdt.internal.ui.JavaPlugin;
 import org.eclipse.jdt.internal.ui.dialogs.StatusInfo;
+import org.eclipse.jdt.internal.ui.text.java.CompletionLatencyHistogram;
 import org.eclipse.jdt.internal.ui.text.java.CompletionProposalCategory;
 import org.eclipse.jdt.internal.ui.text.java.CompletionProposalComputerRegistry;
 import org.eclipse.jdt.internal.ui.util.SWTUtil;
@@ -125,6 +126,8 @@ final class CodeAssistAdvancedConfigurationBlock extends OptionsConfigurationBlo
 	            	return ((ModelElement) element).getName();
 	            case 1:
 	            	return ((ModelElement) element).getKeybindingAsString();
+	            case 2:
+	            	return ((ModelElement) element).getLatencyAsString();
 	            default:
 	            	Assert.isTrue(false);
 	            	return null;
@@ -305,6 +308,14 @@ final class CodeAssistAdvancedConfigurationBlock extends OptionsConfigurationBlo
 			String key= getKeyboardShortcut(pCmd);
 			return key;
 		}
+		String getLatencyAsString() {
+			CompletionLatencyHistogram latency= fCategory.getLatencyHistogram();
+			if (latency.getCount() == 0) {
+				return PreferencesMessages.CodeAssistAdvancedConfigurationBlock_no_latency;
+			}
+			return Messages.format(PreferencesMessages.CodeAssistAdvancedConfigurationBlock_latency,
+					new Object[] { Long.valueOf(latency.getPercentile(50)), Long.valueOf(latency.getPercentile(90)), Long.valueOf(latency.getCount()) });
+		}
 		boolean isInDefaultCategory() {
 			return fPreferenceModel.readInclusionPreference(fCategory);
 		}
@@ -466,6 +477,9 @@ final class CodeAssistAdvancedConfigurationBlock extends OptionsConfigurationBlo
 		TableColumn keyColumn= new TableColumn(table, SWT.NONE);
 		keyColumn.setText(PreferencesMessages.CodeAssistAdvancedConfigurationBlock_default_table_keybinding_column_title);
 		keyColumn.setResizable(false);
+		TableColumn latencyColumn= new TableColumn(table, SWT.NONE);
+		latencyColumn.setText(PreferencesMessages.CodeAssistAdvancedConfigurationBlock_default_table_latency_column_title);
+		latencyColumn.setResizable(false);
 
 		fDefaultViewer.addCheckStateListener(event -> {
 			boolean checked= event.getChecked();
@@ -484,13 +498,16 @@ final class CodeAssistAdvancedConfigurationBlock extends OptionsConfigurationBlo
 		final int HEADER_MARGIN= 20;
 		int minNameWidth= computeWidth(table, nameColumn.getText()) + HEADER_MARGIN;
 		int minKeyWidth= computeWidth(table, keyColumn.getText()) + HEADER_MARGIN;
+		int minLatencyWidth= computeWidth(table, latencyColumn.getText()) + HEADER_MARGIN;
 		for (ModelElement element : fModel.elements) {
 			minNameWidth= Math.max(minNameWidth, computeWidth(table, labelProvider.getColumnText(element, 0)) + ICON_AND_CHECKBOX_WITH);
 			minKeyWidth= Math.max(minKeyWidth, computeWidth(table, labelProvider.getColumnText(element, 1)));
+			minLatencyWidth= Math.max(minLatencyWidth, computeWidth(table, labelProvider.getColumnText(element, 2)));
 		}
 
 		nameColumn.setWidth(minNameWidth);
 		keyColumn.setWidth(minKeyWidth);
+		latencyColumn.setWidth(minLatencyWidth);
 	}
 
 	private void createKeysLink(Composite composite, int h_span) {
@@ -54,6 +54,9 @@ public final class PreferencesMessages extends NLS {
 	public static String CodeAssistAdvancedConfigurationBlock_default_table_category_column_title;
 	public static String CodeAssistAdvancedConfigurationBlock_default_table_description;
 	public static String CodeAssistAdvancedConfigurationBlock_default_table_keybinding_column_title;
+	public static String CodeAssistAdvancedConfigurationBlock_default_table_latency_column_title;
+	public static String CodeAssistAdvancedConfigurationBlock_latency;
+	public static String CodeAssistAdvancedConfigurationBlock_no_latency;
 	public static String CodeAssistAdvancedConfigurationBlock_key_binding_hint;
 	public static String CodeAssistAdvancedConfigurationBlock_page_description;
 	public static String CodeAssistAdvancedConfigurationBlock_separate_table_category_column_title;
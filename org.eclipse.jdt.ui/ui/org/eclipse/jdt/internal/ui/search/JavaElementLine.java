@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -38,6 +38,13 @@ public class JavaElementLine {
 
 	private int fFlags;
 
+	/**
+	 * Access to the characters of an element's contents.
+	 */
+	private interface CharAccess {
+		char getChar(int offset);
+	}
+
 	/**
 	 * @param element either an ICompilationUnit or an IClassFile
 	 * @param lineNumber the line number, starting at 0
@@ -45,39 +52,61 @@ public class JavaElementLine {
 	 * @throws CoreException thrown when accessing of the buffer failed
 	 */
 	public JavaElementLine(ITypeRoot element, int lineNumber, int lineStartOffset) throws CoreException {
+		this(element, lineNumber, lineStartOffset, getBuffer(element));
+	}
+
+	private JavaElementLine(ITypeRoot element, int lineNumber, int lineStartOffset, IBuffer buffer) {
+		this(element, lineNumber, lineStartOffset, buffer::getChar, buffer.getLength());
+	}
+
+	/**
+	 * Creates a line from the already read contents of its element.
+	 *
+	 * @param element either an ICompilationUnit or an IClassFile
+	 * @param lineNumber the line number, starting at 0
+	 * @param lineStartOffset the start offset of the line
+	 * @param contents the contents of the element
+	 * @see JavaElementLineCache
+	 */
+	JavaElementLine(ITypeRoot element, int lineNumber, int lineStartOffset, char[] contents) {
+		this(element, lineNumber, lineStartOffset, offset -> contents[offset], contents.length);
+	}
+
+	private JavaElementLine(ITypeRoot element, int lineNumber, int lineStartOffset, CharAccess contents, int length) {
 		fElement= element;
 		fFlags= 0;
 
-		IBuffer buffer= element.getBuffer();
-		if (buffer == null) {
-			throw new CoreException(new Status(IStatus.ERROR, JavaUI.ID_PLUGIN, Messages.format( SearchMessages.JavaElementLine_error_nobuffer, BasicElementLabels.getFileName(element))));
-		}
-
-		int length= buffer.getLength();
 		int i= lineStartOffset;
-
-		char ch= buffer.getChar(i);
-		while (lineStartOffset < length && IndentManipulation.isIndentChar(ch)) {
-			ch= buffer.getChar(++i);
+		while (i < length && IndentManipulation.isIndentChar(contents.getChar(i))) {
+			i++;
 		}
 		fLineStartOffset= i;
 
 		StringBuilder buf= new StringBuilder();
-
-		while (i < length && !IndentManipulation.isLineDelimiterChar(ch)) {
+		while (i < length) {
+			char ch= contents.getChar(i);
+			if (IndentManipulation.isLineDelimiterChar(ch)) {
+				break;
+			}
 			if (Character.isISOControl(ch)) {
 				buf.append(' ');
 			} else {
 				buf.append(ch);
 			}
 			i++;
-			if (i < length)
-				ch= buffer.getChar(i);
 		}
 		fLineContents= buf.toString();
 		fLineNumber= lineNumber;
 	}
 
+	private static IBuffer getBuffer(ITypeRoot element) throws CoreException {
+		IBuffer buffer= element.getBuffer();
+		if (buffer == null) {
+			throw new CoreException(new Status(IStatus.ERROR, JavaUI.ID_PLUGIN, Messages.format( SearchMessages.JavaElementLine_error_nobuffer, BasicElementLabels.getFileName(element))));
+		}
+		return buffer;
+	}
+
 	public void setFlags(int flags) {
 		fFlags= flags;
 	}
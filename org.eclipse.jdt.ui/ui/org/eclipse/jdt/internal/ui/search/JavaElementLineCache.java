@@ -0,0 +1,105 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.search;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+
+import org.eclipse.jdt.core.IBuffer;
+import org.eclipse.jdt.core.ITypeRoot;
+
+import org.eclipse.jdt.internal.corext.util.Messages;
+
+import org.eclipse.jdt.ui.JavaUI;
+
+import org.eclipse.jdt.internal.core.manipulation.util.BasicElementLabels;
+
+/**
+ * Creates the {@link JavaElementLine}s of a search query. The contents of every type root are
+ * read from its buffer only once, and all matches on the same line share one line element.
+ * <p>
+ * A cache is meant to live as long as one run of a query; {@link #clear()} releases the
+ * contents when the query has finished.
+ * </p>
+ */
+class JavaElementLineCache {
+
+	private static final class Contents {
+
+		final char[] fCharacters;
+		final Map<Integer, JavaElementLine> fLines= new HashMap<>();
+
+		Contents(char[] characters) {
+			fCharacters= characters;
+		}
+	}
+
+	private final Map<ITypeRoot, Contents> fContents= new HashMap<>();
+
+	/**
+	 * Returns the line element of the given line if it has already been created.
+	 *
+	 * @param element either an ICompilationUnit or an IClassFile
+	 * @param lineNumber the line number, starting at 0
+	 * @return the line element, or <code>null</code>
+	 */
+	public JavaElementLine getCachedLine(ITypeRoot element, int lineNumber) {
+		Contents contents= fContents.get(element);
+		return contents != null ? contents.fLines.get(Integer.valueOf(lineNumber)) : null;
+	}
+
+	/**
+	 * Returns the line element of the given line, creating it if necessary.
+	 *
+	 * @param element either an ICompilationUnit or an IClassFile
+	 * @param lineNumber the line number, starting at 0
+	 * @param lineStartOffset the start offset of the line
+	 * @return the line element
+	 * @throws CoreException thrown when accessing of the buffer failed
+	 */
+	public JavaElementLine getLine(ITypeRoot element, int lineNumber, int lineStartOffset) throws CoreException {
+		Contents contents= fContents.get(element);
+		if (contents == null) {
+			contents= new Contents(readContents(element));
+			fContents.put(element, contents);
+		}
+		Integer key= Integer.valueOf(lineNumber);
+		JavaElementLine line= contents.fLines.get(key);
+		if (line == null) {
+			line= new JavaElementLine(element, lineNumber, lineStartOffset, contents.fCharacters);
+			contents.fLines.put(key, line);
+		}
+		return line;
+	}
+
+	/**
+	 * Releases the contents and line elements held by this cache.
+	 */
+	public void clear() {
+		fContents.clear();
+	}
+
+	private static char[] readContents(ITypeRoot element) throws CoreException {
+		IBuffer buffer= element.getBuffer();
+		char[] characters= buffer != null ? buffer.getCharacters() : null;
+		if (characters == null) {
+			throw new CoreException(new Status(IStatus.ERROR, JavaUI.ID_PLUGIN, Messages.format(SearchMessages.JavaElementLine_error_nobuffer, BasicElementLabels.getFileName(element))));
+		}
+		return characters;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,6 +20,7 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.ISafeRunnable;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.PerformanceStats;
 import org.eclipse.core.runtime.SafeRunner;
 import org.eclipse.core.runtime.Status;
@@ -42,6 +43,7 @@ import org.eclipse.jdt.core.search.SearchParticipant;
 import org.eclipse.jdt.core.search.SearchPattern;
 
 import org.eclipse.jdt.internal.corext.util.Messages;
+import org.eclipse.jdt.internal.corext.util.ParallelRunner;
 import org.eclipse.jdt.internal.corext.util.SearchUtils;
 
 import org.eclipse.jdt.ui.JavaElementLabels;
@@ -81,11 +83,12 @@ public class JavaSearchQuery implements ISearchQuery {
 	private static class SearchRequestor implements ISearchRequestor {
 		private IQueryParticipant fParticipant;
 		private JavaSearchResult fSearchResult;
+		private MatchBuffer fMatches;
 		@Override
 		public void reportMatch(Match match) {
 			IMatchPresentation participant= fParticipant.getUIParticipant();
 			if (participant == null || match.getElement() instanceof IJavaElement || match.getElement() instanceof IResource) {
-				fSearchResult.addMatch(match);
+				fMatches.add(match);
 			} else {
 				fSearchResult.addMatch(match, participant);
 			}
@@ -95,6 +98,11 @@ public class JavaSearchQuery implements ISearchQuery {
 			super();
 			fParticipant= participant;
 			fSearchResult= result;
+			fMatches= new MatchBuffer(result);
+		}
+
+		public void flush() {
+			fMatches.flush();
 		}
 	}
 
@@ -169,22 +177,33 @@ public class JavaSearchQuery implements ISearchQuery {
 			if (pattern == null) {
 				return new Status(IStatus.ERROR, JavaPlugin.getPluginId(), 0, Messages.format(SearchMessages.JavaSearchQuery_error_unsupported_pattern, stringPattern), null);
 			}
-			SubMonitor subMonitor= SubMonitor.convert(monitor, Messages.format(SearchMessages.JavaSearchQuery_task_label, stringPattern), totalTicks);
+			final SubMonitor subMonitor= SubMonitor.convert(monitor, Messages.format(SearchMessages.JavaSearchQuery_task_label, stringPattern), totalTicks);
 
 			boolean ignorePotentials= NewSearchUI.arePotentialMatchesIgnored();
-			NewSearchResultCollector collector= new NewSearchResultCollector(textResult, ignorePotentials);
-
-
-			engine.search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() }, getFirstSpecification().getScope(), collector, subMonitor.split(1000));
-			for (int i= 0; i < participantDescriptors.length; i++) {
-				final ISearchRequestor requestor= new SearchRequestor(participantDescriptors[i].getParticipant(), textResult);
-				final IProgressMonitor participantPM= subMonitor.split(ticks[i]);
+			final NewSearchResultCollector collector= new NewSearchResultCollector(textResult, ignorePotentials);
+			final SearchPattern searchPattern= pattern;
+			final IProgressMonitor enginePM= subMonitor.split(1000);
+
+			// the participants report no progress of their own while they run next to the search engine
+			final IProgressMonitor participantPM= new NullProgressMonitor() {
+				@Override
+				public boolean isCanceled() {
+					return subMonitor.isCanceled();
+				}
+			};
 
-				final int iPrime= i;
+			// the search engine and the participants search independently of each other
+			ParallelRunner.run(participantDescriptors.length + 1, i -> {
+				if (i == 0) {
+					engine.search(searchPattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() }, getFirstSpecification().getScope(), collector, enginePM);
+					return;
+				}
+				final SearchParticipantRecord descriptor= participantDescriptors[i - 1];
+				final SearchRequestor requestor= new SearchRequestor(descriptor.getParticipant(), textResult);
 				ISafeRunnable runnable= new ISafeRunnable() {
 					@Override
 					public void handleException(Throwable exception) {
-						participantDescriptors[iPrime].getDescriptor().disable();
+						descriptor.getDescriptor().disable();
 						String message= SearchMessages.JavaSearchQuery_error_participant_search;
 						JavaPlugin.log(new Status(IStatus.ERROR, JavaPlugin.getPluginId(), 0, message, exception));
 					}
@@ -192,13 +211,16 @@ public class JavaSearchQuery implements ISearchQuery {
 					@Override
 					public void run() throws Exception {
 
-						final IQueryParticipant participant= participantDescriptors[iPrime].getParticipant();
+						final IQueryParticipant participant= descriptor.getParticipant();
 
 						final PerformanceStats stats= PerformanceStats.getStats(PERF_SEARCH_PARTICIPANT, participant);
 						stats.startRun();
-
-						for (QuerySpecification querySpecification : fPatternDataList) {
-							participant.search(requestor, querySpecification, participantPM);
+						try {
+							for (QuerySpecification querySpecification : fPatternDataList) {
+								participant.search(requestor, querySpecification, participantPM);
+							}
+						} finally {
+							requestor.flush();
 						}
 
 						stats.endRun();
@@ -206,7 +228,8 @@ public class JavaSearchQuery implements ISearchQuery {
 				};
 
 				SafeRunner.run(runnable);
-			}
+			}, subMonitor);
+			subMonitor.worked(totalTicks - 1000);
 
 		} catch (CoreException e) {
 			return e.getStatus();
@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.search.ui.text.AbstractTextSearchResult;
+import org.eclipse.search.ui.text.Match;
+
+/**
+ * Collects matches and adds them to a search result in batches, so that the result fires one
+ * change event per batch instead of one per match. A batch is added when it is full or when
+ * its first match has been waiting for a while; the remaining matches are added by
+ * {@link #flush()}.
+ * <p>
+ * This class is thread safe.
+ * </p>
+ */
+class MatchBuffer {
+
+	private static final int MAX_BATCH_SIZE= 500;
+
+	private static final long MAX_DELAY= TimeUnit.MILLISECONDS.toNanos(200);
+
+	private final AbstractTextSearchResult fResult;
+
+	private final List<Match> fMatches= new ArrayList<>();
+
+	private long fFirstMatchTime;
+
+	public MatchBuffer(AbstractTextSearchResult result) {
+		fResult= result;
+	}
+
+	public void add(Match match) {
+		Match[] batch= null;
+		synchronized (this) {
+			long now= System.nanoTime();
+			if (fMatches.isEmpty())
+				fFirstMatchTime= now;
+			fMatches.add(match);
+			if (fMatches.size() >= MAX_BATCH_SIZE || now - fFirstMatchTime >= MAX_DELAY)
+				batch= takeBatch();
+		}
+		if (batch != null)
+			fResult.addMatches(batch);
+	}
+
+	public void flush() {
+		Match[] batch;
+		synchronized (this) {
+			if (fMatches.isEmpty())
+				return;
+			batch= takeBatch();
+		}
+		fResult.addMatches(batch);
+	}
+
+	private Match[] takeBatch() {
+		Match[] batch= fMatches.toArray(new Match[fMatches.size()]);
+		fMatches.clear();
+		return batch;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,7 +15,6 @@
 package org.eclipse.jdt.internal.ui.search;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -71,15 +70,15 @@ public class OccurrencesSearchQuery implements ISearchQuery {
 		if (monitor == null)
 			monitor= new NullProgressMonitor();
 
+		JavaElementLineCache lineCache= new JavaElementLineCache();
 		try {
 			OccurrenceLocation[] occurrences= fFinder.getOccurrences();
 			if (occurrences != null) {
-				HashMap<Integer, JavaElementLine> lineMap= new HashMap<>();
 				CompilationUnit astRoot= fFinder.getASTRoot();
 				ArrayList<OccurrenceMatch> resultingMatches= new ArrayList<>();
 
 				for (OccurrenceLocation loc : occurrences) {
-					JavaElementLine lineKey= getLineElement(astRoot, loc, lineMap);
+					JavaElementLine lineKey= getLineElement(astRoot, loc, lineCache);
 					if (lineKey != null) {
 						OccurrenceMatch match= new OccurrenceMatch(lineKey, loc.getOffset(), loc.getLength(), loc.getFlags());
 						resultingMatches.add(match);
@@ -94,27 +93,26 @@ public class OccurrencesSearchQuery implements ISearchQuery {
 			}
 
 		} finally {
-			//Don't leak AST:
+			//Don't leak AST and contents:
 			fFinder= null;
+			lineCache.clear();
 			monitor.done();
 		}
 		return Status.OK_STATUS;
 	}
 
-	private JavaElementLine getLineElement(CompilationUnit astRoot, OccurrenceLocation location, HashMap<Integer, JavaElementLine> lineToGroup) {
+	private JavaElementLine getLineElement(CompilationUnit astRoot, OccurrenceLocation location, JavaElementLineCache lineCache) {
 		int lineNumber= astRoot.getLineNumber(location.getOffset());
 		if (lineNumber <= 0) {
 			return null;
 		}
 		JavaElementLine lineElement= null;
 		try {
-			Integer key= lineNumber;
-			lineElement= lineToGroup.get(key);
+			lineElement= lineCache.getCachedLine(astRoot.getTypeRoot(), lineNumber - 1);
 			if (lineElement == null) {
 				int lineStartOffset= astRoot.getPosition(lineNumber, 0);
 				if (lineStartOffset >= 0) {
-					lineElement= new JavaElementLine(astRoot.getTypeRoot(), lineNumber - 1, lineStartOffset);
-					lineToGroup.put(key, lineElement);
+					lineElement= lineCache.getLine(astRoot.getTypeRoot(), lineNumber - 1, lineStartOffset);
 				}
 			}
 		} catch (CoreException e) {
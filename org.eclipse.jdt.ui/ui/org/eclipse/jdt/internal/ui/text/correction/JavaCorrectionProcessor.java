@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -98,7 +98,7 @@ public class JavaCorrectionProcessor implements org.eclipse.jface.text.quickassi
 		return fgContributedCorrectionProcessors;
 	}
 
-	private static ContributedProcessorDescriptor[] getAssistProcessors() {
+	static ContributedProcessorDescriptor[] getAssistProcessors() {
 		if (fgContributedAssistProcessors == null) {
 			fgContributedAssistProcessors= getProcessorDescriptors(QUICKASSIST_PROCESSOR_CONTRIBUTION_ID, false);
 		}
@@ -160,6 +160,19 @@ public class JavaCorrectionProcessor implements org.eclipse.jface.text.quickassi
 		return false;
 	}
 
+	/**
+	 * Returns whether the given assist processor has assists for the given context.
+	 *
+	 * @param processor the assist processor
+	 * @param context the invocation context
+	 * @return <code>true</code> if the processor has assists
+	 */
+	static boolean hasAssists(ContributedProcessorDescriptor processor, IInvocationContext context) {
+		SafeHasAssist collector= new SafeHasAssist(context);
+		collector.process(processor);
+		return collector.hasAssists();
+	}
+
 	private JavaCorrectionAssistant fAssistant;
 	private String fErrorMessage;
 
@@ -0,0 +1,180 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.text.correction;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+
+import org.eclipse.jdt.ui.text.java.IInvocationContext;
+
+/**
+ * Remembers, per reconciled AST, which node ranges have quick assists. Used to decide whether
+ * the quick assist light bulb is shown.
+ * <p>
+ * For caret moves (empty selections) the result of every assist processor is indexed by the
+ * source ranges of the covering and covered node, so moving the caret inside the same node does
+ * not ask the processors again. Non-empty selections are indexed by the exact selection. The
+ * index is cleared when a new AST arrives, when the list of processors changes and when
+ * {@link #clear()} is called, e.g. on preference changes. The processors are consulted in full
+ * when the quick assist proposals are computed.
+ * </p>
+ *
+ * @param <P> the type of the assist processors
+ */
+public final class QuickAssistApplicabilityIndex<P> {
+
+	/**
+	 * Asks a single assist processor.
+	 *
+	 * @param <P> the type of the assist processors
+	 */
+	@FunctionalInterface
+	public interface AssistTester<P> {
+
+		/**
+		 * @param processor the assist processor
+		 * @param context the invocation context
+		 * @return <code>true</code> if the processor has assists for the context
+		 */
+		boolean hasAssists(P processor, IInvocationContext context);
+	}
+
+	private static final class RangeKey {
+		private final Object fProcessor;
+		private final int fCoveringStart;
+		private final int fCoveringLength;
+		private final int fCoveredStart;
+		private final int fCoveredLength;
+		private final int fSelectionOffset;
+		private final int fSelectionLength;
+
+		RangeKey(Object processor, IInvocationContext context) {
+			fProcessor= processor;
+			ASTNode covering= context.getCoveringNode();
+			ASTNode covered= context.getCoveredNode();
+			fCoveringStart= covering != null ? covering.getStartPosition() : -1;
+			fCoveringLength= covering != null ? covering.getLength() : -1;
+			fCoveredStart= covered != null ? covered.getStartPosition() : -1;
+			fCoveredLength= covered != null ? covered.getLength() : -1;
+			if (context.getSelectionLength() == 0) {
+				// caret moves only depend on the node range
+				fSelectionOffset= -1;
+				fSelectionLength= 0;
+			} else {
+				fSelectionOffset= context.getSelectionOffset();
+				fSelectionLength= context.getSelectionLength();
+			}
+		}
+
+		@Override
+		public int hashCode() {
+			int hash= System.identityHashCode(fProcessor);
+			hash= 31 * hash + fCoveringStart;
+			hash= 31 * hash + fCoveringLength;
+			hash= 31 * hash + fCoveredStart;
+			hash= 31 * hash + fCoveredLength;
+			hash= 31 * hash + fSelectionOffset;
+			return 31 * hash + fSelectionLength;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof RangeKey)) {
+				return false;
+			}
+			RangeKey other= (RangeKey) obj;
+			return fProcessor == other.fProcessor
+					&& fCoveringStart == other.fCoveringStart && fCoveringLength == other.fCoveringLength
+					&& fCoveredStart == other.fCoveredStart && fCoveredLength == other.fCoveredLength
+					&& fSelectionOffset == other.fSelectionOffset && fSelectionLength == other.fSelectionLength;
+		}
+	}
+
+	private final Supplier<P[]> fProcessors;
+	private final AssistTester<P> fTester;
+
+	private CompilationUnit fASTRoot;
+	private P[] fIndexedProcessors;
+	private final Map<RangeKey, Boolean> fHasAssists= new HashMap<>();
+
+	/**
+	 * Creates an index that asks the contributed quick assist processors.
+	 *
+	 * @return the index
+	 */
+	public static QuickAssistApplicabilityIndex<ContributedProcessorDescriptor> create() {
+		return new QuickAssistApplicabilityIndex<>(JavaCorrectionProcessor::getAssistProcessors, JavaCorrectionProcessor::hasAssists);
+	}
+
+	/**
+	 * @param processors supplies the assist processors, in the order they are asked
+	 * @param tester asks a single processor
+	 */
+	public QuickAssistApplicabilityIndex(Supplier<P[]> processors, AssistTester<P> tester) {
+		fProcessors= processors;
+		fTester= tester;
+	}
+
+	/**
+	 * Returns whether assists are available for the given context. The result of each processor
+	 * is looked up by the context's AST and node range, and only computed if it is not known yet.
+	 *
+	 * @param context the invocation context
+	 * @return <code>true</code> if there are assists at the context's selection
+	 */
+	public synchronized boolean hasAssists(IInvocationContext context) {
+		CompilationUnit astRoot= context.getASTRoot();
+		P[] processors= fProcessors.get();
+		if (astRoot != fASTRoot || processors != fIndexedProcessors) {
+			fASTRoot= astRoot;
+			fIndexedProcessors= processors;
+			fHasAssists.clear();
+		}
+		for (P processor : processors) {
+			boolean hasAssists;
+			if (astRoot == null) {
+				hasAssists= fTester.hasAssists(processor, context);
+			} else {
+				RangeKey key= new RangeKey(processor, context);
+				Boolean known= fHasAssists.get(key);
+				if (known == null) {
+					known= Boolean.valueOf(fTester.hasAssists(processor, context));
+					fHasAssists.put(key, known);
+				}
+				hasAssists= known.booleanValue();
+			}
+			if (hasAssists) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @return the number of indexed results
+	 */
+	public synchronized int size() {
+		return fHasAssists.size();
+	}
+
+	public synchronized void clear() {
+		fASTRoot= null;
+		fIndexedProcessors= null;
+		fHasAssists.clear();
+	}
+}
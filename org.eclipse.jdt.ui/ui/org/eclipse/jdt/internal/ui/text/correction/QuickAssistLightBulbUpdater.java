@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -104,6 +104,7 @@ public class QuickAssistLightBulbUpdater {
 	private boolean fIsAnnotationShown;
 	private ITextEditor fEditor;
 	private ITextViewer fViewer;
+	private final QuickAssistApplicabilityIndex<ContributedProcessorDescriptor> fApplicabilityIndex;
 
 	private ISelectionListenerWithAST fListener;
 	private IPropertyChangeListener fPropertyChangeListener;
@@ -112,6 +113,7 @@ public class QuickAssistLightBulbUpdater {
 		fEditor= part;
 		fViewer= viewer;
 		fAnnotation= new AssistAnnotation();
+		fApplicabilityIndex= QuickAssistApplicabilityIndex.create();
 		fIsAnnotationShown= false;
 		fPropertyChangeListener= null;
 	}
@@ -130,6 +132,7 @@ public class QuickAssistLightBulbUpdater {
 			SelectionListenerWithASTManager.getDefault().removeListener(fEditor, fListener);
 			fListener= null;
 		}
+		fApplicabilityIndex.clear();
 		IAnnotationModel model= getAnnotationModel();
 		if (model != null) {
 			removeLightBulb(model);
@@ -155,6 +158,8 @@ public class QuickAssistLightBulbUpdater {
 	}
 
 	protected void doPropertyChanged(String property) {
+		// the assist processors may depend on any of the preferences
+		fApplicabilityIndex.clear();
 		if (PreferenceConstants.EDITOR_QUICKASSIST_LIGHTBULB.equals(property)) {
 			if (isSetInPreferences()) {
 				ICompilationUnit cu= getCompilationUnit();
@@ -213,7 +218,7 @@ public class QuickAssistLightBulbUpdater {
 	 * Needs to be called synchronized
 	 */
 	private void calculateLightBulb(IAnnotationModel model, IInvocationContext context) {
-		boolean needsAnnotation= JavaCorrectionProcessor.hasAssists(context);
+		boolean needsAnnotation= fApplicabilityIndex.hasAssists(context);
 		if (fIsAnnotationShown) {
 			model.removeAnnotation(fAnnotation);
 		}
@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.text.java;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Records the time taken by a {@link CompletionProposalCategory} to compute its proposals. The
+ * values are kept in buckets of exponentially growing size, bucket <code>i</code> holds the
+ * computations that took less than <code>2^i</code> milliseconds.
+ * <p>
+ * This class is thread safe.
+ * </p>
+ */
+public final class CompletionLatencyHistogram {
+
+	private static final int BUCKET_COUNT= 16;
+
+	private final AtomicLongArray fBuckets= new AtomicLongArray(BUCKET_COUNT);
+
+	/**
+	 * Records a single computation.
+	 *
+	 * @param millis the time the computation took, in milliseconds
+	 */
+	public void record(long millis) {
+		fBuckets.incrementAndGet(getBucket(millis));
+	}
+
+	/**
+	 * Returns the number of recorded computations.
+	 *
+	 * @return the number of recorded computations
+	 */
+	public long getCount() {
+		long count= 0;
+		for (int i= 0; i < BUCKET_COUNT; i++) {
+			count+= fBuckets.get(i);
+		}
+		return count;
+	}
+
+	/**
+	 * Returns an upper bound for the time taken by the given percentage of all recorded
+	 * computations.
+	 *
+	 * @param percent the percentage, between 0 and 100
+	 * @return the upper bound in milliseconds, or <code>-1</code> if nothing has been recorded
+	 *         yet
+	 */
+	public long getPercentile(int percent) {
+		long count= getCount();
+		if (count == 0) {
+			return -1;
+		}
+		long threshold= Math.max(1, (count * percent + 99) / 100);
+		long seen= 0;
+		for (int i= 0; i < BUCKET_COUNT; i++) {
+			seen+= fBuckets.get(i);
+			if (seen >= threshold) {
+				return getUpperBound(i);
+			}
+		}
+		return getUpperBound(BUCKET_COUNT - 1);
+	}
+
+	/**
+	 * Discards all recorded computations.
+	 */
+	public void reset() {
+		for (int i= 0; i < BUCKET_COUNT; i++) {
+			fBuckets.set(i, 0);
+		}
+	}
+
+	private static int getBucket(long millis) {
+		if (millis <= 0) {
+			return 0;
+		}
+		int bucket= 64 - Long.numberOfLeadingZeros(millis);
+		return Math.min(bucket, BUCKET_COUNT - 1);
+	}
+
+	private static long getUpperBound(int bucket) {
+		return 1L << bucket;
+	}
+}
@@ -89,6 +89,11 @@ public final class CompletionProposalCategory {
 	 */
 	private boolean fNeedsSortingAfterFiltering;
 
+	/**
+	 * The time taken by the computers of this category to compute their proposals.
+	 */
+	private final CompletionLatencyHistogram fLatency= new CompletionLatencyHistogram();
+
 	CompletionProposalCategory(IConfigurationElement element, CompletionProposalComputerRegistry registry) throws CoreException {
 		fElement= element;
 		fRegistry= registry;
@@ -327,20 +332,25 @@ public final class CompletionProposalCategory {
 	 *
 	 * @param context the invocation context passed on to the extension
 	 * @param partition the partition type where to invocation occurred
-	 * @param monitor the progress monitor passed on to the extension
+	 * @param monitor the progress monitor passed on to the extension, the remaining computers are
+	 *            skipped once it is cancelled
 	 * @return the list of computed completion proposals (element type:
 	 *         {@link org.eclipse.jface.text.contentassist.ICompletionProposal})
 	 */
 	public List<ICompletionProposal> computeCompletionProposals(ContentAssistInvocationContext context, String partition, SubProgressMonitor monitor) {
+		long start= System.currentTimeMillis();
 		fLastError= null;
 		List<ICompletionProposal> result= new ArrayList<>();
 		List<CompletionProposalComputerDescriptor> descriptors= new ArrayList<>(fRegistry.getProposalComputerDescriptors(partition));
 		for (CompletionProposalComputerDescriptor desc : descriptors) {
+			if (monitor.isCanceled())
+				break;
 			if (desc.getCategory() == this)
 				result.addAll(desc.computeCompletionProposals(context, monitor));
 			if (fLastError == null && desc.getErrorMessage() != null)
 				fLastError= desc.getErrorMessage();
 		}
+		fLatency.record(System.currentTimeMillis() - start);
 		return result;
 	}
 
@@ -368,6 +378,16 @@ public final class CompletionProposalCategory {
 		return result;
 	}
 
+	/**
+	 * Returns the time taken by the computers of this category to compute completion proposals
+	 * during this session of the workbench.
+	 *
+	 * @return the latency histogram of this category
+	 */
+	public CompletionLatencyHistogram getLatencyHistogram() {
+		return fLatency;
+	}
+
 	/**
 	 * Returns the error message from the computers in this category.
 	 *
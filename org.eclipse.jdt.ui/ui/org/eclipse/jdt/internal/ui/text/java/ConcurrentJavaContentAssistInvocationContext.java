@@ -0,0 +1,116 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.text.java;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.ui.IEditorPart;
+
+import org.eclipse.jdt.core.CompletionContext;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IType;
+
+import org.eclipse.jdt.ui.text.java.JavaContentAssistInvocationContext;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+
+/**
+ * The context passed to one category when the categories of a content assist invocation are
+ * computed concurrently, see {@link ContentAssistProcessor#createConcurrentContexts(org.eclipse.jdt.ui.text.java.ContentAssistInvocationContext, int)}.
+ * <p>
+ * {@link JavaContentAssistInvocationContext} computes its values lazily and is not thread safe,
+ * so every category gets its own copy. Creating the copies computes nothing. The core context and
+ * the expected type are computed at most once for all copies, by the first copy that needs them:
+ * if the computers of that category have set a collector that already ran code complete, its
+ * context is used, otherwise code complete is run. Collectors that the computers of a category
+ * set on its copy do not affect the other categories.
+ * </p>
+ */
+public final class ConcurrentJavaContentAssistInvocationContext extends JavaContentAssistInvocationContext {
+
+	/**
+	 * The values that all copies of one invocation share.
+	 */
+	private static final class SharedValues {
+		private CompletionContext fCoreContext;
+		private IType fExpectedType;
+		private boolean fExpectedTypeComputed;
+	}
+
+	private final SharedValues fShared;
+	private final ICompilationUnit fCompilationUnit;
+
+	/**
+	 * Creates the copies of the given context that are used by the categories. Must be called in
+	 * the thread that owns the given context.
+	 *
+	 * @param context the context of the content assist invocation
+	 * @param editor the editor that content assist is invoked in
+	 * @param count the number of copies
+	 * @return the copies
+	 */
+	public static List<ConcurrentJavaContentAssistInvocationContext> createCopies(JavaContentAssistInvocationContext context, IEditorPart editor, int count) {
+		SharedValues shared= new SharedValues();
+		ICompilationUnit unit= context.getCompilationUnit();
+		List<ConcurrentJavaContentAssistInvocationContext> copies= new ArrayList<>(count);
+		for (int i= 0; i < count; i++) {
+			copies.add(new ConcurrentJavaContentAssistInvocationContext(context, editor, unit, shared));
+		}
+		return copies;
+	}
+
+	private ConcurrentJavaContentAssistInvocationContext(JavaContentAssistInvocationContext context, IEditorPart editor, ICompilationUnit unit, SharedValues shared) {
+		super(context.getViewer(), context.getInvocationOffset(), editor);
+		fCompilationUnit= unit;
+		fShared= shared;
+	}
+
+	@Override
+	public ICompilationUnit getCompilationUnit() {
+		return fCompilationUnit;
+	}
+
+	@Override
+	public CompletionContext getCoreContext() {
+		synchronized (fShared) {
+			if (fShared.fCoreContext == null) {
+				fShared.fCoreContext= super.getCoreContext();
+			}
+			return fShared.fCoreContext;
+		}
+	}
+
+	@Override
+	public IType getExpectedType() {
+		synchronized (fShared) {
+			if (!fShared.fExpectedTypeComputed) {
+				fShared.fExpectedType= super.getExpectedType();
+				fShared.fExpectedTypeComputed= true;
+			}
+			return fShared.fExpectedType;
+		}
+	}
+
+	@Override
+	public float getHistoryRelevance(String qualifiedTypeName) {
+		// may run code complete, which must not block the other categories' history lookups
+		getCoreContext();
+		// the history is shared by all invocations and is not thread safe
+		ContentAssistHistory history= JavaPlugin.getDefault().getContentAssistHistory();
+		synchronized (history) {
+			return super.getHistoryRelevance(qualifiedTypeName);
+		}
+	}
+}
@@ -0,0 +1,157 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.text.java;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+
+/**
+ * Computes the proposals of several content assist categories concurrently on a small bounded
+ * pool of threads that is shared by all content assist invocations.
+ * <p>
+ * All computations of one call share a deadline. Computations that do not finish in time
+ * contribute nothing, and their monitor reports cancellation once the deadline has passed:
+ * computations are expected to check it and to return early, so that they release their thread.
+ * Computations that have not started yet when the deadline passes are not started at all. If the
+ * queue of the pool is full, e.g. because earlier computations ignore their monitor, the
+ * computation runs in the calling thread instead.
+ * </p>
+ */
+public final class ContentAssistCategoryExecutor {
+
+	/**
+	 * The computation of one category.
+	 *
+	 * @param <T> the type of the computed proposals
+	 */
+	@FunctionalInterface
+	public interface Computation<T> {
+
+		/**
+		 * Computes the proposals.
+		 *
+		 * @param monitor the monitor, cancelled when the deadline has passed
+		 * @return the proposals
+		 */
+		List<T> compute(IProgressMonitor monitor);
+	}
+
+	/**
+	 * A monitor that is cancelled when the deadline has passed, also while the computation runs in
+	 * the calling thread.
+	 */
+	private static final class DeadlineMonitor extends NullProgressMonitor {
+		private final long fDeadline;
+
+		DeadlineMonitor(long deadline) {
+			fDeadline= deadline;
+		}
+
+		@Override
+		public boolean isCanceled() {
+			if (!super.isCanceled() && System.currentTimeMillis() >= fDeadline) {
+				setCanceled(true);
+			}
+			return super.isCanceled();
+		}
+	}
+
+	private static final int THREADS= Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors()));
+
+	/** The number of computations that may wait for a thread */
+	public static final int MAX_QUEUED= 32;
+
+	private static final ThreadPoolExecutor EXECUTOR;
+	static {
+		EXECUTOR= new ThreadPoolExecutor(THREADS, THREADS, 30, TimeUnit.SECONDS, new ArrayBlockingQueue<>(MAX_QUEUED), runnable -> {
+			Thread thread= new Thread(runnable, "Java Content Assist Category"); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		}, new ThreadPoolExecutor.CallerRunsPolicy());
+		EXECUTOR.allowCoreThreadTimeOut(true);
+	}
+
+	/**
+	 * Runs the given computations and waits until they are finished or the deadline has passed.
+	 * The results are returned in the order of the computations, so that the merged list does not
+	 * depend on the order in which the computations finish.
+	 *
+	 * @param <T> the type of the computed proposals
+	 * @param computations the computations
+	 * @param timeout the time in milliseconds after which unfinished computations are cancelled
+	 * @return the computed proposals, one list per computation, empty for computations that did
+	 *         not finish in time or failed
+	 */
+	public static <T> List<List<T>> computeAll(List<? extends Computation<T>> computations, long timeout) {
+		int size= computations.size();
+		long deadline= System.currentTimeMillis() + timeout;
+		List<IProgressMonitor> monitors= new ArrayList<>(size);
+		List<Future<List<T>>> futures= new ArrayList<>(size);
+		for (Computation<T> computation : computations) {
+			IProgressMonitor monitor= new DeadlineMonitor(deadline);
+			monitors.add(monitor);
+			futures.add(EXECUTOR.submit(() -> {
+				if (monitor.isCanceled())
+					return Collections.<T>emptyList();
+				return computation.compute(monitor);
+			}));
+		}
+
+		List<List<T>> result= new ArrayList<>(size);
+		boolean cancelled= false;
+		for (int i= 0; i < size; i++) {
+			List<T> computed= Collections.emptyList();
+			if (!cancelled) {
+				try {
+					long remaining= Math.max(0, deadline - System.currentTimeMillis());
+					computed= futures.get(i).get(remaining, TimeUnit.MILLISECONDS);
+				} catch (TimeoutException e) {
+					cancel(monitors.get(i), futures.get(i));
+				} catch (ExecutionException e) {
+					JavaPlugin.log(e.getCause());
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					cancelled= true;
+				}
+			}
+			if (cancelled) {
+				cancel(monitors.get(i), futures.get(i));
+			}
+			result.add(computed);
+		}
+		// frees the queue from computations that were cancelled before they started
+		EXECUTOR.purge();
+		return result;
+	}
+
+	private static void cancel(IProgressMonitor monitor, Future<?> future) {
+		monitor.setCanceled(true);
+		future.cancel(false);
+	}
+
+	private ContentAssistCategoryExecutor() {
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2016 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -227,6 +227,13 @@ public class ContentAssistProcessor implements IContentAssistProcessor {
 	 */
 	private static final String PREF_WARN_ABOUT_EMPTY_ASSIST_CATEGORY= "EmptyDefaultAssistCategory"; //$NON-NLS-1$
 
+	/**
+	 * The time in milliseconds after which categories that are computed concurrently are
+	 * cancelled and their proposals dropped. Shares the system property with the Java code assist
+	 * timeout.
+	 */
+	private static final long CONCURRENT_COMPUTATION_DEADLINE= Long.getLong("org.eclipse.jdt.ui.codeAssistTimeout", 5000); //$NON-NLS-1$
+
 	private static final Comparator<CompletionProposalCategory> ORDER_COMPARATOR= (d1, d2) -> d1.getSortOrder() - d2.getSortOrder();
 
 	private final List<CompletionProposalCategory> fCategories;
@@ -329,8 +336,20 @@ public class ContentAssistProcessor implements IContentAssistProcessor {
 		boolean needsSortingAfterFiltering= false;
 		List<ICompletionProposal> proposals= new ArrayList<>();
 		List<CompletionProposalCategory> providers= getCategories();
-		for (CompletionProposalCategory cat : providers) {
-			List<ICompletionProposal> computed= cat.computeCompletionProposals(context, fPartition, new SubProgressMonitor(monitor, 1));
+		List<ContentAssistInvocationContext> categoryContexts= createCategoryContexts(providers, context);
+		List<List<ICompletionProposal>> computedPerCategory;
+		if (categoryContexts != null) {
+			computedPerCategory= computeConcurrently(providers, categoryContexts);
+			monitor.worked(providers.size());
+		} else {
+			computedPerCategory= new ArrayList<>(providers.size());
+			for (CompletionProposalCategory cat : providers) {
+				computedPerCategory.add(cat.computeCompletionProposals(context, fPartition, new SubProgressMonitor(monitor, 1)));
+			}
+		}
+		for (int i= 0; i < providers.size(); i++) {
+			CompletionProposalCategory cat= providers.get(i);
+			List<ICompletionProposal> computed= computedPerCategory.get(i);
 			proposals.addAll(computed);
 			needsSortingAfterFiltering= needsSortingAfterFiltering || (cat.isSortingAfterFilteringNeeded() && !computed.isEmpty());
 			if (fErrorMessage == null) {
@@ -344,6 +363,64 @@ public class ContentAssistProcessor implements IContentAssistProcessor {
 		return proposals;
 	}
 
+	/**
+	 * Creates the contexts for computing the given categories concurrently. This is only done if
+	 * the computation does not happen in the UI thread, which in turn is only done if none of the
+	 * computers requires the UI thread (see {@link CompletionProposalComputerRegistry#computingCompletionRequiresUIThread()}),
+	 * and if the processor can create a separate context for each category.
+	 *
+	 * @param categories the categories to compute
+	 * @param context the code assist invocation context
+	 * @return one context per category, or <code>null</code> if the categories must be computed
+	 *         one after another with the given context
+	 */
+	private List<ContentAssistInvocationContext> createCategoryContexts(List<CompletionProposalCategory> categories, ContentAssistInvocationContext context) {
+		if (categories.size() < 2 || Display.getCurrent() != null)
+			return null;
+		List<ContentAssistInvocationContext> contexts= createConcurrentContexts(context, categories.size());
+		if (contexts == null || contexts.size() != categories.size())
+			return null;
+		return contexts;
+	}
+
+	/**
+	 * Creates the contexts passed to the categories when they are computed concurrently. The
+	 * categories run on different threads, so the returned contexts must be safe to use from
+	 * different threads at the same time. Creating them must be cheap: values that are expensive to
+	 * compute should be computed lazily.
+	 * <p>
+	 * Subclasses may extend. The default implementation returns <code>null</code>, which means
+	 * that the categories are computed one after another.
+	 * </p>
+	 *
+	 * @param context the context of the content assist invocation, only used in the calling thread
+	 * @param count the number of contexts to create
+	 * @return one context per category, or <code>null</code> if the categories can't be computed
+	 *         concurrently
+	 */
+	protected List<ContentAssistInvocationContext> createConcurrentContexts(ContentAssistInvocationContext context, int count) {
+		return null;
+	}
+
+	/**
+	 * Computes the proposals of the given categories on the shared category pool, see
+	 * {@link ContentAssistCategoryExecutor}. Categories that do not finish before the deadline are
+	 * cancelled and contribute no proposals.
+	 *
+	 * @param categories the categories to compute
+	 * @param contexts the code assist invocation contexts, one per category
+	 * @return the computed proposals, one list per category
+	 */
+	private List<List<ICompletionProposal>> computeConcurrently(List<CompletionProposalCategory> categories, List<ContentAssistInvocationContext> contexts) {
+		List<ContentAssistCategoryExecutor.Computation<ICompletionProposal>> computations= new ArrayList<>(categories.size());
+		for (int i= 0; i < categories.size(); i++) {
+			CompletionProposalCategory cat= categories.get(i);
+			ContentAssistInvocationContext context= contexts.get(i);
+			computations.add(monitor -> cat.computeCompletionProposals(context, fPartition, new SubProgressMonitor(monitor, 1)));
+		}
+		return ContentAssistCategoryExecutor.computeAll(computations, CONCURRENT_COMPUTATION_DEADLINE);
+	}
+
 	/**
 	 * Filters and sorts the proposals. The passed list may be modified
 	 * and returned, or a new list may be created and returned.
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,7 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.text.java;
 
+import java.util.ArrayList;
 import java.util.Hashtable;
 import java.util.List;
 
@@ -128,4 +129,15 @@ public class JavaCompletionProcessor extends ContentAssistProcessor {
 	protected ContentAssistInvocationContext createContext(ITextViewer viewer, int offset) {
 		return new JavaContentAssistInvocationContext(viewer, offset, fEditor);
 	}
+
+	/*
+	 * @see org.eclipse.jdt.internal.ui.text.java.ContentAssistProcessor#createConcurrentContexts(org.eclipse.jdt.ui.text.java.ContentAssistInvocationContext, int)
+	 */
+	@Override
+	protected List<ContentAssistInvocationContext> createConcurrentContexts(ContentAssistInvocationContext context, int count) {
+		// subclasses of the Java context carry state that a copy would lose
+		if (context.getClass() != JavaContentAssistInvocationContext.class)
+			return null;
+		return new ArrayList<>(ConcurrentJavaContentAssistInvocationContext.createCopies((JavaContentAssistInvocationContext) context, fEditor, count));
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -42,11 +42,14 @@ public class MethodsContentProvider implements IStructuredContentProvider, IWork
 	private boolean fShowInheritedMethods;
 	private TypeHierarchyLifeCycle fHierarchyLifeCycle;
 	private TableViewer fViewer;
+	private TypeMembersCache fMembersCache;
 
 	public MethodsContentProvider(TypeHierarchyLifeCycle lifecycle) {
 		fHierarchyLifeCycle= lifecycle;
 		fShowInheritedMethods= false;
 		fViewer= null;
+		fMembersCache= new TypeMembersCache();
+		fHierarchyLifeCycle.addChangedListener(fMembersCache);
 	}
 
 	/**
@@ -94,23 +97,16 @@ public class MethodsContentProvider implements IStructuredContentProvider, IWork
 			try {
 				ITypeHierarchy hierarchy= fHierarchyLifeCycle.getHierarchy();
 				if (fShowInheritedMethods && hierarchy != null) {
+					// reads the members of the hierarchy's types in the background
+					fMembersCache.setHierarchy(hierarchy);
 					IType[] allSupertypes= hierarchy.getAllSupertypes(type);
 					// sort in from last to first: elements with same name
 					// will show up in hierarchy order
 					for (int i= allSupertypes.length - 1; i >= 0; i--) {
-						IType superType= allSupertypes[i];
-						if (superType.exists()) {
-							addAll(superType.getMethods(), res);
-							addAll(superType.getInitializers(), res);
-							addAll(superType.getFields(), res);
-						}
+						addAll(fMembersCache.getMembers(allSupertypes[i]), res);
 					}
 				}
-				if (type.exists()) {
-					addAll(type.getMethods(), res);
-					addAll(type.getInitializers(), res);
-					addAll(type.getFields(), res);
-				}
+				addAll(fMembersCache.getMembers(type), res);
 			} catch (JavaModelException e) {
 				JavaPlugin.log(e);
 			}
@@ -135,6 +131,8 @@ public class MethodsContentProvider implements IStructuredContentProvider, IWork
 	 */
 	@Override
 	public void dispose() {
+		fHierarchyLifeCycle.removeChangedListener(fMembersCache);
+		fMembersCache.clear();
 	}
 
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2017 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,7 +16,9 @@ package org.eclipse.jdt.internal.ui.typehierarchy;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.swt.widgets.Display;
 
@@ -53,10 +55,19 @@ import org.eclipse.jdt.internal.ui.JavaPlugin;
 
 /**
  * Manages a type hierarchy, to keep it refreshed, and to allow it to be shared.
+ * <p>
+ * The hierarchy itself reports the changes that may affect it. When a refresh keeps the
+ * supertypes and flags of all types, the hierarchy view keeps its tree and only updates the
+ * members.
+ * </p>
  */
 public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IElementChangedListener {
 
 	private boolean fHierarchyRefreshNeeded;
+
+	/** Whether the last refresh kept the supertypes and flags of all types */
+	private boolean fShapeKept;
+
 	private ITypeHierarchy fHierarchy;
 	private IJavaElement[] fInputElements;
 	private boolean fIsSuperTypesOnly;
@@ -246,6 +257,16 @@ public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IE
 		}
 	}
 
+	/**
+	 * Returns whether the last refresh of the hierarchy kept the supertypes and the flags of all
+	 * types. Always <code>false</code> after a new hierarchy has been created.
+	 *
+	 * @return <code>true</code> if the types and their supertypes are unchanged
+	 */
+	public boolean isShapeKept() {
+		return fShapeKept;
+	}
+
 	/**
 	 * Returns <code>true</code> if the refresh job is running, <code>false</code> otherwise.
 	 *
@@ -280,6 +301,11 @@ public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IE
 				}
 				if (pm.isCanceled())
 					return;
+				if (fShapeKept) {
+					// the tree is unchanged, only the members may have changed
+					fTypeHierarchyViewPart.doTypeHierarchyChangedOnViewers(new IType[0]);
+					return;
+				}
 				fTypeHierarchyViewPart.setViewersInput();
 				fTypeHierarchyViewPart.updateViewers();
 			});
@@ -327,16 +353,35 @@ public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IE
 				throw new OperationCanceledException();
 			}
 			fInputElements= elements;
+			fShapeKept= false;
 		} else {
+			Map<IType, String> shape= getShape(fHierarchy);
 			fHierarchy.refresh(pm);
 			if (pm != null && pm.isCanceled())
 				throw new OperationCanceledException();
+			fShapeKept= shape.equals(getShape(fHierarchy));
 		}
 		fHierarchy.addTypeHierarchyChangedListener(this);
 		JavaCore.addElementChangedListener(this);
 		fHierarchyRefreshNeeded= false;
 	}
 
+	/*
+	 * Returns the flags and the supertypes of all types in the given hierarchy.
+	 */
+	private static Map<IType, String> getShape(ITypeHierarchy hierarchy) {
+		Map<IType, String> shape= new HashMap<>();
+		for (IType type : hierarchy.getAllTypes()) {
+			StringBuilder buf= new StringBuilder();
+			buf.append(hierarchy.getCachedFlags(type));
+			for (IType supertype : hierarchy.getSupertypes(type)) {
+				buf.append(' ').append(supertype.getHandleIdentifier());
+			}
+			shape.put(type, buf.toString());
+		}
+		return shape;
+	}
+
 	/*
 	 * @see ITypeHierarchyChangedListener#typeHierarchyChanged
 	 */
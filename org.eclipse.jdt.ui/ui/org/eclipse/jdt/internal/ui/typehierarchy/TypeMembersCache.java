@@ -0,0 +1,164 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.typehierarchy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.ITypeHierarchy;
+import org.eclipse.jdt.core.JavaModelException;
+
+/**
+ * Caches the members of the types of a type hierarchy for the methods viewer.
+ * <p>
+ * When the cache is bound to a hierarchy, the members of the hierarchy's types are read in the
+ * background, so that selecting a type with "Show All Inherited Members" enabled does not need
+ * to read the members of all its supertypes. The cache listens to the
+ * {@link TypeHierarchyLifeCycle}: the members of changed types are read again, and the cache is
+ * emptied when the hierarchy changes.
+ * </p>
+ * <p>
+ * This class is thread safe.
+ * </p>
+ */
+class TypeMembersCache implements ITypeHierarchyLifeCycleListener {
+
+	private static final Object[] NO_MEMBERS= new Object[0];
+
+	/** Maximal number of types whose members are read in the background */
+	private static final int MAX_PRECOMPUTED_TYPES= 1000;
+
+	private final Map<IType, Object[]> fMembers= new ConcurrentHashMap<>();
+
+	/** Incremented whenever members are discarded, so that outdated results are not cached */
+	private int fStamp;
+
+	/** The hierarchy the cache is bound to, or <code>null</code> */
+	private ITypeHierarchy fHierarchy;
+
+	private Job fPrecomputeJob;
+
+	/**
+	 * Binds the cache to the given hierarchy and starts reading the members of its types. Does
+	 * nothing if the cache is already bound to the hierarchy.
+	 *
+	 * @param hierarchy the hierarchy
+	 */
+	public synchronized void setHierarchy(ITypeHierarchy hierarchy) {
+		if (hierarchy == fHierarchy)
+			return;
+		clear();
+		fHierarchy= hierarchy;
+		if (hierarchy == null)
+			return;
+		IType[] types= hierarchy.getAllTypes();
+		if (types.length > MAX_PRECOMPUTED_TYPES) {
+			// start with the focus type and its supertypes
+			IType focus= hierarchy.getType();
+			types= focus != null ? hierarchy.getAllSupertypes(focus) : Arrays.copyOf(types, MAX_PRECOMPUTED_TYPES);
+		}
+		final IType[] typesToRead= types;
+		fPrecomputeJob= new Job(TypeHierarchyMessages.TypeMembersCache_job_name) {
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				for (IType type : typesToRead) {
+					if (monitor.isCanceled())
+						return Status.CANCEL_STATUS;
+					try {
+						getMembers(type);
+					} catch (JavaModelException e) {
+						// will be reported when the type is shown
+					}
+				}
+				return Status.OK_STATUS;
+			}
+		};
+		fPrecomputeJob.setSystem(true);
+		fPrecomputeJob.setPriority(Job.DECORATE);
+		fPrecomputeJob.schedule();
+	}
+
+	/**
+	 * Returns the methods, initializers and fields of the given type, in this order.
+	 *
+	 * @param type the type
+	 * @return the members, or an empty array if the type does not exist
+	 * @throws JavaModelException if the members could not be read
+	 */
+	public Object[] getMembers(IType type) throws JavaModelException {
+		Object[] members= fMembers.get(type);
+		if (members != null)
+			return members;
+
+		int stamp;
+		synchronized (this) {
+			stamp= fStamp;
+		}
+		members= readMembers(type);
+		synchronized (this) {
+			if (stamp == fStamp) {
+				Object[] existing= fMembers.putIfAbsent(type, members);
+				if (existing != null)
+					members= existing;
+			}
+		}
+		return members;
+	}
+
+	/**
+	 * Discards all members and stops reading members in the background.
+	 */
+	public synchronized void clear() {
+		if (fPrecomputeJob != null) {
+			fPrecomputeJob.cancel();
+			fPrecomputeJob= null;
+		}
+		fHierarchy= null;
+		fStamp++;
+		fMembers.clear();
+	}
+
+	@Override
+	public void typeHierarchyChanged(TypeHierarchyLifeCycle typeHierarchyProvider, IType[] changedTypes) {
+		if (changedTypes == null) {
+			clear();
+			return;
+		}
+		synchronized (this) {
+			fStamp++;
+			for (IType type : changedTypes) {
+				fMembers.remove(type);
+			}
+		}
+	}
+
+	private static Object[] readMembers(IType type) throws JavaModelException {
+		if (!type.exists())
+			return NO_MEMBERS;
+		List<Object> res= new ArrayList<>();
+		res.addAll(Arrays.asList(type.getMethods()));
+		res.addAll(Arrays.asList(type.getInitializers()));
+		res.addAll(Arrays.asList(type.getFields()));
+		return res.toArray();
+	}
+}
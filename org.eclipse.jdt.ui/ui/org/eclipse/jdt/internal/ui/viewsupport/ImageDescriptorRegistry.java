@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2013 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,11 +13,11 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.viewsupport;
 
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.widgets.Display;
 
 import org.eclipse.core.runtime.Assert;
@@ -26,12 +26,54 @@ import org.eclipse.jface.resource.ImageDescriptor;
 
 import org.eclipse.ui.PlatformUI;
 
+import org.eclipse.jdt.ui.JavaElementImageDescriptor;
+
 /**
  * A registry that maps <code>ImageDescriptors</code> to <code>Image</code>.
+ * <p>
+ * Lookups do not lock, so all viewers can share the registry. The images are kept until the
+ * registry is disposed since they may be in use by any widget.
+ * </p>
  */
 public class ImageDescriptorRegistry {
 
-	private Map<ImageDescriptor, Image> fRegistry= Collections.synchronizedMap(new HashMap<ImageDescriptor, Image>(10));
+	/**
+	 * Maximal number of entries of the composite image index. The index only refers to images
+	 * owned by the registry, so it can simply be emptied when it is full.
+	 */
+	private static final int MAX_COMPOSITES= 2000;
+
+	private static final class CompositeKey {
+
+		private final ImageDescriptor fBaseDescriptor;
+		private final int fAdornments;
+		private final int fWidth;
+		private final int fHeight;
+
+		CompositeKey(ImageDescriptor baseDescriptor, int adornments, Point size) {
+			fBaseDescriptor= baseDescriptor;
+			fAdornments= adornments;
+			fWidth= size.x;
+			fHeight= size.y;
+		}
+
+		@Override
+		public int hashCode() {
+			return fBaseDescriptor.hashCode() ^ (31 * fAdornments) ^ (fWidth << 16) ^ fHeight;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof CompositeKey))
+				return false;
+			CompositeKey other= (CompositeKey) obj;
+			return fAdornments == other.fAdornments && fWidth == other.fWidth && fHeight == other.fHeight
+					&& fBaseDescriptor.equals(other.fBaseDescriptor);
+		}
+	}
+
+	private Map<ImageDescriptor, Image> fRegistry= new ConcurrentHashMap<>();
+	private Map<CompositeKey, Image> fComposites= new ConcurrentHashMap<>();
 	private Display fDisplay;
 
 	/**
@@ -61,8 +103,40 @@ public class ImageDescriptorRegistry {
 			return result;
 
 		result= descriptor.createImage();
+		if (result != null) {
+			Image existing= fRegistry.putIfAbsent(descriptor, result);
+			if (existing != null) {
+				// created concurrently by another thread
+				result.dispose();
+				result= existing;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the image of a {@link JavaElementImageDescriptor} with the given base image,
+	 * adornments and size. Unlike {@link #get(ImageDescriptor)}, this method does not need a
+	 * composite image descriptor for images that have already been created.
+	 *
+	 * @param baseDescriptor the descriptor of the base image
+	 * @param adornments the adornment flags, see {@link JavaElementImageDescriptor}
+	 * @param size the size of the image
+	 * @return the image associated with the composite image descriptor or <code>null</code> if
+	 *         the image can't be created
+	 */
+	public Image get(ImageDescriptor baseDescriptor, int adornments, Point size) {
+		CompositeKey key= new CompositeKey(baseDescriptor, adornments, size);
+		Image result= fComposites.get(key);
 		if (result != null)
-			fRegistry.put(descriptor, result);
+			return result;
+
+		result= get(new JavaElementImageDescriptor(baseDescriptor, adornments, size));
+		if (result != null) {
+			if (fComposites.size() >= MAX_COMPOSITES)
+				fComposites.clear();
+			fComposites.put(key, result);
+		}
 		return result;
 	}
 
@@ -70,6 +144,7 @@ public class ImageDescriptorRegistry {
 	 * Disposes all images managed by this registry.
 	 */
 	public void dispose() {
+		fComposites.clear();
 		for (Image image : fRegistry.values()) {
 			image.dispose();
 		}
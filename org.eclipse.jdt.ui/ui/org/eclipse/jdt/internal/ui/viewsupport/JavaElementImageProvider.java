@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -105,6 +105,15 @@ public class JavaElementImageProvider {
 	 * @return return the image or <code>null</code>
 	 */
 	public Image getImageLabel(Object element, int flags) {
+		if (element instanceof IJavaElement) {
+			IJavaElement javaElement= (IJavaElement) element;
+			ImageDescriptor baseDesc= getBaseImageDescriptor(javaElement, flags);
+			if (baseDesc != null) {
+				// look up the composite image without creating a descriptor for every element
+				Point size= useSmallSize(flags) ? SMALL_SIZE : BIG_SIZE;
+				return getRegistry().get(baseDesc, computeJavaAdornmentFlags(javaElement, flags), size);
+			}
+		}
 		return getImageLabel(computeDescriptor(element, flags));
 	}
 
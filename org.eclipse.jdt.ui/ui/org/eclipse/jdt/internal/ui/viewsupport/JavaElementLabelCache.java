@@ -0,0 +1,278 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.viewsupport;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.eclipse.jface.preference.IPreferenceStore;
+import org.eclipse.jface.util.IPropertyChangeListener;
+import org.eclipse.jface.util.PropertyChangeEvent;
+import org.eclipse.jface.viewers.StyledString;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.JavaCore;
+
+import org.eclipse.jdt.ui.JavaElementLabels;
+
+/**
+ * Caches the labels computed by {@link JavaElementLabels#getElementLabel(IJavaElement, long)}
+ * and {@link JavaElementLabels#getStyledElementLabel(IJavaElement, long)}, keyed by element and
+ * rendering flags.
+ * <p>
+ * The label of an element only depends on the element, its ancestors and the appearance
+ * preferences. The labels of the elements in a changed compilation unit, class file or container
+ * are therefore discarded when the Java model reports the change; all labels are discarded when
+ * the preferences change. Labels using {@link JavaElementLabels#USE_RESOLVED} are not cached.
+ * </p>
+ * <p>
+ * Labels are computed without holding the lock. Clients take a {@link #getStamp() stamp} before
+ * they compute a label and pass it when they cache the label, so that a label computed before
+ * a change is not cached after the change discarded the labels.
+ * </p>
+ * <p>
+ * The cache is only used while it is installed. It is installed when the plug-in starts, so its
+ * element changed listener is notified before the listeners of the views showing the labels.
+ * </p>
+ * <p>
+ * This class is thread safe.
+ * </p>
+ */
+public final class JavaElementLabelCache implements IElementChangedListener, IPropertyChangeListener {
+
+	private static final int MAX_SIZE= 4000;
+
+	private static final class Key {
+
+		final IJavaElement fElement;
+		final long fFlags;
+
+		Key(IJavaElement element, long flags) {
+			fElement= element;
+			fFlags= flags;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * fElement.hashCode() + Long.hashCode(fFlags);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Key))
+				return false;
+			Key other= (Key) obj;
+			return fFlags == other.fFlags && fElement.equals(other.fElement);
+		}
+	}
+
+	private static final class LabelMap<T> extends LinkedHashMap<Key, T> {
+
+		private static final long serialVersionUID= 1L;
+
+		LabelMap() {
+			super(256, 0.75f, true);
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Key, T> eldest) {
+			return size() > MAX_SIZE;
+		}
+	}
+
+	private static volatile JavaElementLabelCache fgInstance;
+
+	private final IPreferenceStore fPreferenceStore;
+
+	private final LabelMap<String> fLabels= new LabelMap<>();
+
+	private final LabelMap<StyledString> fStyledLabels= new LabelMap<>();
+
+	/** Incremented whenever labels are discarded, so that outdated labels are not cached */
+	private int fStamp;
+
+	private JavaElementLabelCache(IPreferenceStore store) {
+		fPreferenceStore= store;
+	}
+
+	/**
+	 * Installs the cache.
+	 *
+	 * @param store the preference store holding the appearance preferences
+	 */
+	public static synchronized void install(IPreferenceStore store) {
+		if (fgInstance != null)
+			return;
+		JavaElementLabelCache cache= new JavaElementLabelCache(store);
+		JavaCore.addElementChangedListener(cache, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+		store.addPropertyChangeListener(cache);
+		fgInstance= cache;
+	}
+
+	/**
+	 * Uninstalls the cache and discards all labels.
+	 */
+	public static synchronized void uninstall() {
+		JavaElementLabelCache cache= fgInstance;
+		if (cache != null) {
+			fgInstance= null;
+			JavaCore.removeElementChangedListener(cache);
+			cache.fPreferenceStore.removePropertyChangeListener(cache);
+			cache.clear();
+		}
+	}
+
+	/**
+	 * Returns the installed cache if the label with the given flags can be cached.
+	 *
+	 * @param flags the rendering flags
+	 * @return the cache, or <code>null</code> if the label must be computed
+	 */
+	public static JavaElementLabelCache getCache(long flags) {
+		if ((flags & JavaElementLabels.USE_RESOLVED) != 0)
+			return null;
+		return fgInstance;
+	}
+
+	/**
+	 * Returns the current stamp, to be passed to {@link #putLabel} or {@link #putStyledLabel}
+	 * with a label computed afterwards.
+	 *
+	 * @return the stamp
+	 */
+	public synchronized int getStamp() {
+		return fStamp;
+	}
+
+	/**
+	 * Returns the cached label of the given element.
+	 *
+	 * @param element the element
+	 * @param flags the rendering flags
+	 * @return the label, or <code>null</code> if it is not cached
+	 */
+	public synchronized String getLabel(IJavaElement element, long flags) {
+		return fLabels.get(new Key(element, flags));
+	}
+
+	/**
+	 * Caches the label of the given element, unless labels have been discarded since the label
+	 * was computed.
+	 *
+	 * @param element the element
+	 * @param flags the rendering flags
+	 * @param label the label
+	 * @param stamp the {@link #getStamp() stamp} taken before the label was computed
+	 */
+	public synchronized void putLabel(IJavaElement element, long flags, String label, int stamp) {
+		if (stamp == fStamp)
+			fLabels.put(new Key(element, flags), label);
+	}
+
+	/**
+	 * Returns a copy of the cached styled label of the given element.
+	 *
+	 * @param element the element
+	 * @param flags the rendering flags
+	 * @return a new styled string with the label, or <code>null</code> if it is not cached
+	 */
+	public StyledString getStyledLabel(IJavaElement element, long flags) {
+		StyledString label;
+		synchronized (this) {
+			label= fStyledLabels.get(new Key(element, flags));
+		}
+		// styled strings are mutable, clients get their own copy
+		return label != null ? new StyledString().append(label) : null;
+	}
+
+	/**
+	 * Caches a copy of the styled label of the given element, unless labels have been discarded
+	 * since the label was computed.
+	 *
+	 * @param element the element
+	 * @param flags the rendering flags
+	 * @param label the styled label
+	 * @param stamp the {@link #getStamp() stamp} taken before the label was computed
+	 */
+	public void putStyledLabel(IJavaElement element, long flags, StyledString label, int stamp) {
+		StyledString copy= new StyledString().append(label);
+		synchronized (this) {
+			if (stamp == fStamp)
+				fStyledLabels.put(new Key(element, flags), copy);
+		}
+	}
+
+	/**
+	 * Discards all labels.
+	 */
+	public synchronized void clear() {
+		fStamp++;
+		fLabels.clear();
+		fStyledLabels.clear();
+	}
+
+	@Override
+	public void propertyChange(PropertyChangeEvent event) {
+		if (!Objects.equals(event.getOldValue(), event.getNewValue()))
+			clear();
+	}
+
+	@Override
+	public void elementChanged(ElementChangedEvent event) {
+		Set<IJavaElement> changed= new HashSet<>();
+		collectChangedElements(event.getDelta(), changed);
+		if (changed.isEmpty())
+			return;
+		synchronized (this) {
+			fStamp++;
+			removeLabels(fLabels, changed);
+			removeLabels(fStyledLabels, changed);
+		}
+	}
+
+	private static void collectChangedElements(IJavaElementDelta delta, Set<IJavaElement> changed) {
+		IJavaElement element= delta.getElement();
+		int type= element.getElementType();
+		if (delta.getKind() != IJavaElementDelta.CHANGED || type >= IJavaElement.COMPILATION_UNIT) {
+			changed.add(element);
+			return;
+		}
+		if ((delta.getFlags() & ~(IJavaElementDelta.F_CHILDREN | IJavaElementDelta.F_AST_AFFECTED)) != 0) {
+			// e.g. a classpath or source attachment change, affects all labels in the container
+			changed.add(element);
+			return;
+		}
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			collectChangedElements(child, changed);
+		}
+	}
+
+	private static void removeLabels(LabelMap<?> labels, Set<IJavaElement> changed) {
+		for (Iterator<Key> iter= labels.keySet().iterator(); iter.hasNext();) {
+			for (IJavaElement element= iter.next().fElement; element != null; element= element.getParent()) {
+				if (changed.contains(element)) {
+					iter.remove();
+					break;
+				}
+			}
+		}
+	}
+}
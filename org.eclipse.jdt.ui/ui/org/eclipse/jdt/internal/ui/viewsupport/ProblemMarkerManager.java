@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -58,8 +58,11 @@ public class ProblemMarkerManager implements IResourceChangeListener, IAnnotatio
 
 		private HashSet<IResource> fChangedElements;
 
-		public ProjectErrorVisitor(HashSet<IResource> changedElements) {
+		private ProblemSeverityTree fSeverityTree;
+
+		public ProjectErrorVisitor(HashSet<IResource> changedElements, ProblemSeverityTree severityTree) {
 			fChangedElements= changedElements;
+			fSeverityTree= severityTree;
 		}
 
 		@Override
@@ -67,6 +70,10 @@ public class ProblemMarkerManager implements IResourceChangeListener, IAnnotatio
 			IResource res= delta.getResource();
 			if (res instanceof IProject && delta.getKind() == IResourceDelta.CHANGED) {
 				IProject project= (IProject) res;
+				if ((delta.getFlags() & IResourceDelta.OPEN) != 0 && fSeverityTree != null) {
+					// markers of opened projects are read again on demand
+					fSeverityTree.resourceRemoved(project);
+				}
 				if (!project.isAccessible()) {
 					// only track open Java projects
 					return false;
@@ -78,7 +85,18 @@ public class ProblemMarkerManager implements IResourceChangeListener, IAnnotatio
 
 		private void checkInvalidate(IResourceDelta delta, IResource resource) {
 			int kind= delta.getKind();
-			if (kind == IResourceDelta.REMOVED || kind == IResourceDelta.ADDED || (kind == IResourceDelta.CHANGED && isErrorDelta(delta))) {
+			boolean isErrorDelta= kind != IResourceDelta.REMOVED && isErrorDelta(delta);
+			if (fSeverityTree != null) {
+				if (kind == IResourceDelta.REMOVED) {
+					fSeverityTree.resourceRemoved(resource);
+				} else if (isErrorDelta) {
+					fSeverityTree.markersChanged(resource);
+				} else if (hasProblemMarkerDelta(delta)) {
+					// markers may have moved, e.g. only their CHAR_START changed
+					fSeverityTree.positionsChanged(resource);
+				}
+			}
+			if (kind == IResourceDelta.REMOVED || kind == IResourceDelta.ADDED || (kind == IResourceDelta.CHANGED && isErrorDelta)) {
 				// invalidate the resource and all parents
 				while (resource.getType() != IResource.ROOT && fChangedElements.add(resource)) {
 					resource= resource.getParent();
@@ -86,6 +104,16 @@ public class ProblemMarkerManager implements IResourceChangeListener, IAnnotatio
 			}
 		}
 
+		private boolean hasProblemMarkerDelta(IResourceDelta delta) {
+			if ((delta.getFlags() & IResourceDelta.MARKERS) != 0) {
+				for (IMarkerDelta markerDelta : delta.getMarkerDeltas()) {
+					if (markerDelta.isSubtypeOf(IMarker.PROBLEM))
+						return true;
+				}
+			}
+			return false;
+		}
+
 		private boolean isErrorDelta(IResourceDelta delta) {
 			if ((delta.getFlags() & IResourceDelta.MARKERS) != 0) {
 				for (IMarkerDelta markerDelta : delta.getMarkerDeltas()) {
@@ -109,6 +137,9 @@ public class ProblemMarkerManager implements IResourceChangeListener, IAnnotatio
 	private final Set<IResource> fResourcesWithMarkerChanges= ConcurrentHashMap.newKeySet();
 	private final Set<IResource> fResourcesWithAnnotationChanges= ConcurrentHashMap.newKeySet();
 
+	/** The problem severities, maintained while there are listeners, or <code>null</code> */
+	private volatile ProblemSeverityTree fSeverityTree;
+
 	private final Throttler throttledUpdates= new Throttler(PlatformUI.getWorkbench().getDisplay(), Duration.ofMillis(250), this::runPendingUpdates);
 
 	public ProblemMarkerManager() {
@@ -124,7 +155,7 @@ public class ProblemMarkerManager implements IResourceChangeListener, IAnnotatio
 		try {
 			IResourceDelta delta= event.getDelta();
 			if (delta != null)
-				delta.accept(new ProjectErrorVisitor(changedElements));
+				delta.accept(new ProjectErrorVisitor(changedElements, fSeverityTree));
 		} catch (CoreException e) {
 			JavaPlugin.log(e.getStatus());
 		}
@@ -159,6 +190,7 @@ public class ProblemMarkerManager implements IResourceChangeListener, IAnnotatio
 	 */
 	public void addListener(IProblemChangedListener listener) {
 		if (fListeners.isEmpty()) {
+			fSeverityTree= new ProblemSeverityTree();
 			JavaPlugin.getWorkspace().addResourceChangeListener(this);
 			JavaPlugin.getDefault().getCompilationUnitDocumentProvider().addGlobalAnnotationModelListener(this);
 		}
@@ -174,9 +206,20 @@ public class ProblemMarkerManager implements IResourceChangeListener, IAnnotatio
 		if (fListeners.isEmpty()) {
 			JavaPlugin.getWorkspace().removeResourceChangeListener(this);
 			JavaPlugin.getDefault().getCompilationUnitDocumentProvider().removeGlobalAnnotationModelListener(this);
+			fSeverityTree= null;
 		}
 	}
 
+	/**
+	 * Returns the tree of problem severities. The tree is kept up to date from the resource
+	 * deltas only while this manager has listeners.
+	 *
+	 * @return the problem severity tree, or <code>null</code> if this manager has no listeners
+	 */
+	public ProblemSeverityTree getSeverityTree() {
+		return fSeverityTree;
+	}
+
 	private void fireChanges() {
 		throttledUpdates.throttledExec();
 	}
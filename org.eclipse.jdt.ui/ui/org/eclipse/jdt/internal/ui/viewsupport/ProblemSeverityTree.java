@@ -0,0 +1,327 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.viewsupport;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceStatus;
+import org.eclipse.core.resources.IWorkspaceRoot;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+
+/**
+ * Aggregates the maximal severity of the problem markers of the workspace per resource.
+ * <p>
+ * Every node of the tree knows the severity of the markers on its own resource and counts how many
+ * resources of its subtree and how many of its direct children have problems of each severity. The
+ * maximal problem severity of a container is therefore available without visiting its markers.
+ * The markers of a project are read once when the project is first queried; afterwards the
+ * {@link ProblemMarkerManager} keeps the tree up to date from marker deltas.
+ * </p>
+ * <p>
+ * For files, the tree also keeps an index of the start positions of their problem markers, grouped
+ * by severity. The index is created on demand and discarded when any problem marker of the file
+ * changes.
+ * </p>
+ * <p>
+ * This class is thread safe.
+ * </p>
+ */
+public final class ProblemSeverityTree {
+
+	private static final int[] NO_POSITIONS= new int[0];
+
+	private static final class Node {
+
+		final Node fParent;
+		final String fName;
+		Map<String, Node> fChildren;
+
+		/** Whether the markers of this project (or, for the root, of all projects) have been read */
+		boolean fLoaded;
+
+		/** Severity of the problems of this node's resource, or -1 */
+		int fSeverity= -1;
+
+		/** Number of resources with problems of a severity, in the subtree including this node */
+		final int[] fSubtreeCounts= new int[3];
+
+		/** Number of direct children with problems of a severity */
+		final int[] fChildCounts= new int[3];
+
+		/** Start positions of the text problems of a file, by severity, or <code>null</code> */
+		int[][] fPositions;
+
+		Node(Node parent, String name) {
+			fParent= parent;
+			fName= name;
+		}
+
+		boolean isEmpty() {
+			return fSeverity == -1 && !fLoaded && fPositions == null && (fChildren == null || fChildren.isEmpty());
+		}
+	}
+
+	private final Node fRoot= new Node(null, null);
+
+	/**
+	 * Returns the maximal severity of the problem markers on the given resource.
+	 *
+	 * @param resource the resource
+	 * @param depth the depth, one of the <code>IResource.DEPTH_*</code> constants
+	 * @return the maximal severity, one of the <code>IMarker.SEVERITY_*</code> constants, or -1 if
+	 *         there are no problems
+	 * @throws CoreException if the markers could not be read
+	 */
+	public synchronized int getMaxSeverity(IResource resource, int depth) throws CoreException {
+		load(resource);
+		Node node= find(resource.getFullPath(), false);
+		if (node == null)
+			return -1;
+		switch (depth) {
+			case IResource.DEPTH_ZERO:
+				return node.fSeverity;
+			case IResource.DEPTH_ONE:
+				return Math.max(node.fSeverity, maxSeverity(node.fChildCounts));
+			default:
+				return maxSeverity(node.fSubtreeCounts);
+		}
+	}
+
+	/**
+	 * Returns the start positions of the text problem markers on the given file.
+	 *
+	 * @param resource the file
+	 * @param severity the severity, one of the <code>IMarker.SEVERITY_*</code> constants
+	 * @return the character start positions of the markers of the given severity; must not be
+	 *         modified
+	 * @throws CoreException if the markers could not be read
+	 */
+	public synchronized int[] getProblemPositions(IResource resource, int severity) throws CoreException {
+		load(resource);
+		Node node= find(resource.getFullPath(), false);
+		if (node == null || node.fSeverity == -1)
+			return NO_POSITIONS;
+		if (node.fPositions == null)
+			node.fPositions= computePositions(resource);
+		return node.fPositions[severity];
+	}
+
+	/**
+	 * Updates the severity of the given resource after its problem markers have changed.
+	 *
+	 * @param resource the resource with changed markers
+	 */
+	public synchronized void markersChanged(IResource resource) {
+		if (!isLoaded(resource))
+			return;
+		int severity;
+		try {
+			severity= resource.isAccessible() ? resource.findMaxProblemSeverity(IMarker.PROBLEM, true, IResource.DEPTH_ZERO) : -1;
+		} catch (CoreException e) {
+			if (e.getStatus().getCode() != IResourceStatus.RESOURCE_NOT_FOUND)
+				JavaPlugin.log(e);
+			severity= -1;
+		}
+		Node node= find(resource.getFullPath(), severity != -1);
+		if (node != null) {
+			node.fPositions= null;
+			setSeverity(node, severity);
+			prune(node);
+		}
+	}
+
+	/**
+	 * Discards the problem positions of the given file after its problem markers have changed
+	 * without changing its severity, e.g. because they moved.
+	 *
+	 * @param resource the file with changed markers
+	 */
+	public synchronized void positionsChanged(IResource resource) {
+		Node node= find(resource.getFullPath(), false);
+		if (node != null) {
+			node.fPositions= null;
+			prune(node);
+		}
+	}
+
+	/**
+	 * Tells whether the tree has a node for the given resource. Nodes exist for resources with
+	 * problems, their parents, and loaded projects.
+	 *
+	 * @param resource the resource
+	 * @return <code>true</code> if the resource has a node
+	 */
+	public synchronized boolean contains(IResource resource) {
+		return find(resource.getFullPath(), false) != null;
+	}
+
+	/**
+	 * Removes the given resource and all its members from the tree. The markers of removed, closed
+	 * or opened projects are read again when the project is queried the next time.
+	 *
+	 * @param resource the removed resource
+	 */
+	public synchronized void resourceRemoved(IResource resource) {
+		Node node= find(resource.getFullPath(), false);
+		if (node == null || node == fRoot)
+			return;
+		if (maxSeverity(node.fSubtreeCounts) != -1) {
+			for (int severity= 0; severity < 3; severity++) {
+				int count= node.fSubtreeCounts[severity];
+				for (Node parent= node.fParent; parent != null; parent= parent.fParent)
+					parent.fSubtreeCounts[severity]-= count;
+			}
+			if (node.fSeverity != -1)
+				node.fParent.fChildCounts[node.fSeverity]--;
+		}
+		Node parent= node.fParent;
+		parent.fChildren.remove(node.fName);
+		prune(parent);
+	}
+
+	/**
+	 * Forgets all problems. The markers are read again when the tree is queried the next time.
+	 */
+	public synchronized void clear() {
+		fRoot.fChildren= null;
+		fRoot.fLoaded= false;
+		fRoot.fSeverity= -1;
+		Arrays.fill(fRoot.fSubtreeCounts, 0);
+		Arrays.fill(fRoot.fChildCounts, 0);
+	}
+
+	private boolean isLoaded(IResource resource) {
+		if (resource.getType() == IResource.ROOT)
+			return fRoot.fLoaded;
+		if (resource.getProject() == null)
+			return false;
+		Node project= find(resource.getProject().getFullPath(), false);
+		return project != null && project.fLoaded;
+	}
+
+	private void load(IResource resource) throws CoreException {
+		if (resource.getType() == IResource.ROOT) {
+			// projects may have been opened or created since the last query
+			IWorkspaceRoot root= (IWorkspaceRoot) resource;
+			for (IProject project : root.getProjects()) {
+				load(project);
+			}
+			if (!fRoot.fLoaded) {
+				setSeverity(fRoot, root.findMaxProblemSeverity(IMarker.PROBLEM, true, IResource.DEPTH_ZERO));
+				fRoot.fLoaded= true;
+			}
+			return;
+		}
+		IProject project= resource.getProject();
+		if (isLoaded(project) || !project.isAccessible())
+			return;
+		Map<IResource, Integer> severities= new HashMap<>();
+		for (IMarker marker : project.findMarkers(IMarker.PROBLEM, true, IResource.DEPTH_INFINITE)) {
+			int severity= marker.getAttribute(IMarker.SEVERITY, -1);
+			if (isCounted(severity))
+				severities.merge(marker.getResource(), Integer.valueOf(severity), Math::max);
+		}
+		for (Map.Entry<IResource, Integer> entry : severities.entrySet()) {
+			setSeverity(find(entry.getKey().getFullPath(), true), entry.getValue().intValue());
+		}
+		find(project.getFullPath(), true).fLoaded= true;
+	}
+
+	private Node find(IPath path, boolean create) {
+		Node node= fRoot;
+		for (int i= 0; i < path.segmentCount(); i++) {
+			String segment= path.segment(i);
+			Node child= node.fChildren != null ? node.fChildren.get(segment) : null;
+			if (child == null) {
+				if (!create)
+					return null;
+				if (node.fChildren == null)
+					node.fChildren= new HashMap<>();
+				child= new Node(node, segment);
+				node.fChildren.put(segment, child);
+			}
+			node= child;
+		}
+		return node;
+	}
+
+	private static void setSeverity(Node node, int severity) {
+		if (!isCounted(severity))
+			severity= -1;
+		int old= node.fSeverity;
+		if (old == severity)
+			return;
+		node.fSeverity= severity;
+		if (old != -1) {
+			for (Node curr= node; curr != null; curr= curr.fParent)
+				curr.fSubtreeCounts[old]--;
+			if (node.fParent != null)
+				node.fParent.fChildCounts[old]--;
+		}
+		if (severity != -1) {
+			for (Node curr= node; curr != null; curr= curr.fParent)
+				curr.fSubtreeCounts[severity]++;
+			if (node.fParent != null)
+				node.fParent.fChildCounts[severity]++;
+		}
+	}
+
+	private static void prune(Node node) {
+		while (node.fParent != null && node.isEmpty()) {
+			Node parent= node.fParent;
+			parent.fChildren.remove(node.fName);
+			node= parent;
+		}
+	}
+
+	private static int[][] computePositions(IResource resource) throws CoreException {
+		int[][] positions= new int[3][];
+		int[] sizes= new int[3];
+		for (int severity= 0; severity < 3; severity++)
+			positions[severity]= new int[4];
+		for (IMarker marker : resource.findMarkers(IMarker.PROBLEM, true, IResource.DEPTH_ZERO)) {
+			int severity= marker.getAttribute(IMarker.SEVERITY, -1);
+			if (isCounted(severity) && marker.isSubtypeOf(IMarker.TEXT)) {
+				int[] array= positions[severity];
+				if (sizes[severity] == array.length)
+					positions[severity]= array= Arrays.copyOf(array, 2 * array.length);
+				array[sizes[severity]++]= marker.getAttribute(IMarker.CHAR_START, -1);
+			}
+		}
+		for (int severity= 0; severity < 3; severity++)
+			positions[severity]= sizes[severity] == 0 ? NO_POSITIONS : Arrays.copyOf(positions[severity], sizes[severity]);
+		return positions;
+	}
+
+	private static boolean isCounted(int severity) {
+		return severity == IMarker.SEVERITY_INFO || severity == IMarker.SEVERITY_WARNING || severity == IMarker.SEVERITY_ERROR;
+	}
+
+	private static int maxSeverity(int[] counts) {
+		for (int severity= IMarker.SEVERITY_ERROR; severity >= IMarker.SEVERITY_INFO; severity--) {
+			if (counts[severity] > 0)
+				return severity;
+		}
+		return -1;
+	}
+}
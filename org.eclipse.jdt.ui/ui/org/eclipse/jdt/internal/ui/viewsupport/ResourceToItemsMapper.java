@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2017 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,9 +15,12 @@ package org.eclipse.jdt.internal.ui.viewsupport;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Stack;
 
+import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Item;
 import org.eclipse.swt.widgets.Widget;
 
@@ -31,6 +34,11 @@ import org.eclipse.jdt.core.IJavaElement;
  * Items are mapped to their element's underlying resource.
  * Method <code>resourceChanged</code> updates all items that are affected from the changed
  * elements.
+ * <p>
+ * The updates are coalesced: the items of resources changed within a short time are updated
+ * together, every item once, and at most a limited number of items is updated per run of the
+ * event loop. A build changing the markers of many resources therefore does not block the UI.
+ * </p>
  */
 public class ResourceToItemsMapper {
 
@@ -41,12 +49,22 @@ public class ResourceToItemsMapper {
 
 	private static final int NUMBER_LIST_REUSE= 10;
 
+	/** Time in milliseconds to collect changed resources before their items are updated */
+	private static final int UPDATE_DELAY= 50;
+
+	/** Maximal number of items updated per run of the event loop */
+	private static final int MAX_UPDATES_PER_RUN= 200;
+
 	// map from IResource to Item or List<Item>
 	private HashMap<IResource, Object> fResourceToItem;
 	private Stack<List<Item>> fReuseLists;
 
 	private IContentViewerAccessor fContentViewerAccess;
 
+	/** Changed resources whose items have not been updated yet */
+	private final LinkedHashSet<IResource> fPendingResources= new LinkedHashSet<>();
+	private boolean fUpdateScheduled;
+
 	public ResourceToItemsMapper(IContentViewerAccessor viewer) {
 		fResourceToItem= new HashMap<>();
 		fReuseLists= new Stack<>();
@@ -55,28 +73,56 @@ public class ResourceToItemsMapper {
 	}
 
 	/**
-	 * Must be called from the UI thread.
+	 * Schedules the update of the items of the given resource. Must be called from the UI thread.
 	 * @param changedResource Changed resource
 	 */
 	public void resourceChanged(IResource changedResource) {
-		Object obj= fResourceToItem.get(changedResource);
-		if (obj == null) {
-			// not mapped
-		} else if (obj instanceof Item) {
-			updateItem((Item) obj);
-		} else { // List of Items
-			@SuppressWarnings("unchecked")
-			List<Item> list= (List<Item>) obj;
-			for (Item element : list) {
-				updateItem(element);
+		if (!fResourceToItem.containsKey(changedResource)) {
+			return; // not mapped
+		}
+		fPendingResources.add(changedResource);
+		if (!fUpdateScheduled) {
+			fUpdateScheduled= true;
+			Display.getCurrent().timerExec(UPDATE_DELAY, this::updatePendingItems);
+		}
+	}
+
+	/**
+	 * Updates the items of the pending resources, at most {@link #MAX_UPDATES_PER_RUN} at a time.
+	 * The items are looked up only now, so items created or disposed in the meantime are handled.
+	 */
+	private void updatePendingItems() {
+		int updated= 0;
+		Iterator<IResource> iter= fPendingResources.iterator();
+		while (iter.hasNext() && updated < MAX_UPDATES_PER_RUN) {
+			Object obj= fResourceToItem.get(iter.next());
+			iter.remove();
+			if (obj == null) {
+				// not mapped anymore
+			} else if (obj instanceof Item) {
+				updated+= updateItem((Item) obj);
+			} else { // List of Items
+				@SuppressWarnings("unchecked")
+				List<Item> list= (List<Item>) obj;
+				for (Item element : list.toArray(new Item[list.size()])) {
+					updated+= updateItem(element);
+				}
 			}
 		}
+		if (fPendingResources.isEmpty()) {
+			fUpdateScheduled= false;
+		} else {
+			// let the event loop paint and handle input before the next batch
+			Display.getCurrent().asyncExec(this::updatePendingItems);
+		}
 	}
 
-	private void updateItem(Item item) {
+	private int updateItem(Item item) {
 		if (!item.isDisposed()) {
 			fContentViewerAccess.doUpdateItem(item);
+			return 1;
 		}
+		return 0;
 	}
 
 	/**
@@ -150,6 +196,7 @@ public class ResourceToItemsMapper {
 	 */
 	public void clearMap() {
 		fResourceToItem.clear();
+		fPendingResources.clear();
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2017 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -81,6 +81,7 @@ import org.eclipse.jdt.internal.ui.JavaPluginImages;
 import org.eclipse.jdt.internal.ui.viewsupport.IProblemChangedListener;
 import org.eclipse.jdt.internal.ui.viewsupport.ImageDescriptorRegistry;
 import org.eclipse.jdt.internal.ui.viewsupport.ImageImageDescriptor;
+import org.eclipse.jdt.internal.ui.viewsupport.ProblemSeverityTree;
 
 /**
  * LabelDecorator that decorates an element's image with error and warning overlays that
@@ -594,14 +595,31 @@ public class ProblemsLabelDecorator implements ILabelDecorator, ILightweightLabe
 				return ERRORTICK_BUILDPATH_ERROR;
 			}
 		}
-		severity= res.findMaxProblemSeverity(IMarker.PROBLEM, true, depth);
+		ProblemSeverityTree tree= getSeverityTree();
+		severity= tree != null ? tree.getMaxSeverity(res, depth) : res.findMaxProblemSeverity(IMarker.PROBLEM, true, depth);
 		return convertToTick(severity);
 	}
 
+	private static ProblemSeverityTree getSeverityTree() {
+		JavaPlugin plugin= JavaPlugin.getDefault();
+		return plugin != null ? plugin.getProblemMarkerManager().getSeverityTree() : null;
+	}
+
 	private int getErrorTicksFromMarkers(IResource res, int depth, ISourceReference sourceElement) throws CoreException {
 		if (res == null || !res.isAccessible()) {
 			return 0;
 		}
+		ProblemSeverityTree tree= getSeverityTree();
+		if (tree != null && depth != IResource.DEPTH_INFINITE) {
+			// markers are only in files: look up the indexed positions, most severe first
+			for (int severity= IMarker.SEVERITY_ERROR; severity >= IMarker.SEVERITY_INFO; severity--) {
+				for (int pos : tree.getProblemPositions(res, severity)) {
+					if (isInside(pos, sourceElement))
+						return convertToTick(severity);
+				}
+			}
+			return 0;
+		}
 		int severity= -1;
 		IMarker[] markers= res.findMarkers(IMarker.PROBLEM, true, depth);
 		if (markers != null && markers.length > 0) {
@@ -673,6 +691,9 @@ public class ProblemsLabelDecorator implements ILabelDecorator, ILightweightLabe
 
 	private int findMaxProblemSeverity (IResource res, String type, boolean includeSubtypes, int depth) throws CoreException {
 		try {
+			ProblemSeverityTree tree= getSeverityTree();
+			if (tree != null && IMarker.PROBLEM.equals(type) && includeSubtypes)
+				return tree.getMaxSeverity(res, depth);
 			return res.findMaxProblemSeverity(type, includeSubtypes, depth);
 		} catch (CoreException e) {
 			if (e.getStatus().getCode() == IResourceStatus.RESOURCE_NOT_FOUND) {
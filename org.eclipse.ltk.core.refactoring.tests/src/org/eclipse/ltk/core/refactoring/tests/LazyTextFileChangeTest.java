@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ltk.core.refactoring.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
+
+import org.eclipse.text.edits.MultiTextEdit;
+import org.eclipse.text.edits.ReplaceEdit;
+import org.eclipse.text.edits.TextEdit;
+
+import org.eclipse.ltk.core.refactoring.GroupCategory;
+import org.eclipse.ltk.core.refactoring.GroupCategorySet;
+import org.eclipse.ltk.core.refactoring.LazyTextFileChange;
+import org.eclipse.ltk.core.refactoring.TextEditBasedChangeGroup;
+import org.eclipse.ltk.core.refactoring.tests.util.SimpleTestProject;
+
+public class LazyTextFileChangeTest {
+
+	private static final GroupCategory CATEGORY= new GroupCategory("org.eclipse.ltk.core.refactoring.tests.category", "category", "description");
+
+	private SimpleTestProject fProject;
+
+	@Before
+	public void setUp() throws Exception {
+		fProject= new SimpleTestProject();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		fProject.delete();
+	}
+
+	@Test
+	public void testEditsCreatedOnPreview() throws Exception {
+		IFolder folder= fProject.createFolder("test");
+		IFile file= fProject.createFile(folder, "test.txt", "section one section two");
+		LazyTextFileChange change= new LazyTextFileChange("", file, new GroupCategorySet(CATEGORY));
+		change.addReplaceEdit(20, 3, "four", "second");
+		change.addReplaceEdit(8, 3, "three", "first");
+
+		assertFalse(change.isMaterialized());
+		assertTrue(change.hasOneGroupCategory(Collections.singletonList(CATEGORY)));
+		assertFalse(change.isMaterialized());
+
+		assertEquals("section three section four", change.getPreviewContent(new NullProgressMonitor()));
+		assertTrue(change.isMaterialized());
+		TextEditBasedChangeGroup[] groups= change.getChangeGroups();
+		assertEquals(2, groups.length);
+		assertEquals("second", groups[0].getName());
+		assertEquals("first", groups[1].getName());
+	}
+
+	@Test
+	public void testPerform() throws Exception {
+		IFolder folder= fProject.createFolder("test");
+		IFile file= fProject.createFile(folder, "test.txt", "section one section two");
+		LazyTextFileChange change= new LazyTextFileChange("", file);
+		change.addReplaceEdit(8, 3, "three", "first");
+		change.addReplaceEdit(20, 3, "four", "second");
+		change.initializeValidationData(new NullProgressMonitor());
+
+		change.perform(new NullProgressMonitor());
+		assertEquals("section three section four", fProject.getContent(file));
+	}
+
+	@Test
+	public void testDisabledGroup() throws Exception {
+		IFolder folder= fProject.createFolder("test");
+		IFile file= fProject.createFile(folder, "test.txt", "section one section two");
+		LazyTextFileChange change= new LazyTextFileChange("", file);
+		change.addReplaceEdit(8, 3, "three", "first");
+		change.addReplaceEdit(20, 3, "four", "second");
+
+		change.getChangeGroups()[1].setEnabled(false);
+		change.addReplaceEdit(0, 7, "part", "third");
+		assertEquals("part three section two", change.getPreviewContent(new NullProgressMonitor()));
+	}
+
+	@Test
+	public void testEditInsideCoveringEdit() throws Exception {
+		IFolder folder= fProject.createFolder("test");
+		IFile file= fProject.createFile(folder, "test.txt", "section one section two");
+		LazyTextFileChange change= new LazyTextFileChange("", file);
+		MultiTextEdit root= new MultiTextEdit();
+		MultiTextEdit covering= new MultiTextEdit(0, 11);
+		covering.addChild(new ReplaceEdit(0, 7, "part"));
+		root.addChild(covering);
+		change.setEdit(root);
+
+		change.addReplaceEdit(8, 3, "three", "first");
+		change.addReplaceEdit(20, 3, "four", "second");
+		assertEquals("part three section four", change.getPreviewContent(new NullProgressMonitor()));
+
+		change.addReplaceEdit(12, 7, "chapter", "third");
+		assertEquals("part three chapter four", change.getPreviewContent(new NullProgressMonitor()));
+		TextEdit[] coveredEdits= covering.getChildren();
+		assertEquals(2, coveredEdits.length);
+	}
+}
@@ -0,0 +1,234 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ltk.core.refactoring;
+
+import java.util.List;
+
+import org.eclipse.core.runtime.Assert;
+
+import org.eclipse.core.resources.IFile;
+
+import org.eclipse.text.edits.MalformedTreeException;
+import org.eclipse.text.edits.MultiTextEdit;
+import org.eclipse.text.edits.ReplaceEdit;
+import org.eclipse.text.edits.TextEdit;
+import org.eclipse.text.edits.TextEditGroup;
+
+/**
+ * A {@link TextFileChange} that records its replacements in a compact form and only creates the
+ * {@link TextEdit text edit tree} and the {@link TextEditChangeGroup text edit change groups} when
+ * they are first needed, e.g. when the change is previewed or performed.
+ * <p>
+ * Refactorings touching a large number of files can use this change to keep the memory needed
+ * by the change tree low: as long as a file change is neither previewed nor performed, it only
+ * holds the offset, length, replacement text and group name of each edit. Each recorded edit is
+ * managed by its own text edit change group.
+ * </p>
+ * <p>
+ * Once the edits have been created, the change behaves like a regular text file change.
+ * </p>
+ *
+ * @since 3.13
+ *
+ * @noextend This class is not intended to be subclassed by clients.
+ */
+public class LazyTextFileChange extends TextFileChange {
+
+	private final GroupCategorySet fGroupCategories;
+
+	/** Recorded edits, <code>null</code> once the edits have been created */
+	private int[] fOffsets;
+	private int[] fLengths;
+	private String[] fTexts;
+	private String[] fGroupNames;
+	private int fSize;
+
+	/**
+	 * Creates a new lazy text file change for the given file.
+	 *
+	 * @param name the change's name mainly used to render the change in the UI
+	 * @param file the file this text change operates on
+	 */
+	public LazyTextFileChange(String name, IFile file) {
+		this(name, file, null);
+	}
+
+	/**
+	 * Creates a new lazy text file change for the given file. The text edit change groups of this
+	 * change are associated with the given group categories.
+	 *
+	 * @param name the change's name mainly used to render the change in the UI
+	 * @param file the file this text change operates on
+	 * @param groupCategories the group categories of all edits of this change, or
+	 *            <code>null</code>
+	 */
+	public LazyTextFileChange(String name, IFile file, GroupCategorySet groupCategories) {
+		super(name, file);
+		fGroupCategories= groupCategories;
+		fOffsets= new int[4];
+		fLengths= new int[4];
+		fTexts= new String[4];
+		fGroupNames= new String[4];
+	}
+
+	/**
+	 * Records a replacement. The replacement must not overlap with any other edit of this change,
+	 * but it may lie inside an edit that covers it, e.g. one added to the {@link #getEdit() root
+	 * edit} by other clients. If the edits of this change have already been created, a
+	 * {@link ReplaceEdit} is added immediately.
+	 *
+	 * @param offset the offset of the replaced text
+	 * @param length the length of the replaced text
+	 * @param text the replacement text
+	 * @param groupName the name of the text edit group managing the replacement
+	 */
+	public void addReplaceEdit(int offset, int length, String text, String groupName) {
+		Assert.isTrue(offset >= 0 && length >= 0);
+		Assert.isNotNull(text);
+		Assert.isNotNull(groupName);
+		if (fOffsets == null) {
+			addReplaceEdit(new ReplaceEdit(offset, length, text), groupName);
+			return;
+		}
+		if (fSize == fOffsets.length) {
+			int capacity= 2 * fSize;
+			fOffsets= grow(fOffsets, capacity);
+			fLengths= grow(fLengths, capacity);
+			fTexts= grow(fTexts, capacity);
+			fGroupNames= grow(fGroupNames, capacity);
+		}
+		// most replacements of a refactoring share their text and group name
+		if (fSize > 0) {
+			if (text.equals(fTexts[fSize - 1]))
+				text= fTexts[fSize - 1];
+			if (groupName.equals(fGroupNames[fSize - 1]))
+				groupName= fGroupNames[fSize - 1];
+		}
+		fOffsets[fSize]= offset;
+		fLengths[fSize]= length;
+		fTexts[fSize]= text;
+		fGroupNames[fSize]= groupName;
+		fSize++;
+	}
+
+	/**
+	 * Returns whether the text edit tree of this change has already been created.
+	 *
+	 * @return <code>true</code> if the edits have been created, <code>false</code> if they are
+	 *         still recorded in compact form
+	 */
+	public boolean isMaterialized() {
+		return fOffsets == null;
+	}
+
+	/**
+	 * Returns the group categories of the edits of this change.
+	 *
+	 * @return the group categories, or <code>null</code> if the edits are not categorized
+	 */
+	public GroupCategorySet getGroupCategorySet() {
+		return fGroupCategories;
+	}
+
+	@Override
+	public boolean hasOneGroupCategory(List<GroupCategory> groupCategories) {
+		if (isMaterialized())
+			return super.hasOneGroupCategory(groupCategories);
+		return fSize > 0 && fGroupCategories != null && fGroupCategories.containsOneCategory(groupCategories);
+	}
+
+	@Override
+	final void materializeEdits() {
+		if (fOffsets == null)
+			return;
+		int[] offsets= fOffsets;
+		int[] lengths= fLengths;
+		String[] texts= fTexts;
+		String[] groupNames= fGroupNames;
+		int size= fSize;
+		fOffsets= null;
+		fLengths= null;
+		fTexts= null;
+		fGroupNames= null;
+		fSize= 0;
+		for (int i= 0; i < size; i++) {
+			addReplaceEdit(new ReplaceEdit(offsets[i], lengths[i], texts[i]), groupNames[i]);
+		}
+	}
+
+	private void addReplaceEdit(ReplaceEdit edit, String groupName) {
+		TextEdit root= getEdit();
+		if (root == null) {
+			root= new MultiTextEdit();
+			setEdit(root);
+		}
+		insert(root, edit);
+		TextEditGroup group= fGroupCategories != null
+				? new CategorizedTextEditGroup(groupName, edit, fGroupCategories)
+				: new TextEditGroup(groupName, edit);
+		TextEditChangeGroup changeGroup= new TextEditChangeGroup(this, group);
+		changeGroup.setEnabled(isEnabled());
+		addTextEditChangeGroup(changeGroup);
+	}
+
+	/*
+	 * Adds the edit to the deepest edit of the tree that covers it, and moves the children that it
+	 * covers below it, like the refactorings do when they add edits to a shared change.
+	 */
+	private static void insert(TextEdit parent, TextEdit edit) throws MalformedTreeException {
+		if (!parent.hasChildren()) {
+			parent.addChild(edit);
+			return;
+		}
+		TextEdit[] children= parent.getChildren();
+		for (TextEdit child : children) {
+			if (covers(child, edit)) {
+				insert(child, edit);
+				return;
+			}
+		}
+		int removed= 0;
+		for (int i= 0; i < children.length; i++) {
+			TextEdit child= children[i];
+			if (covers(edit, child)) {
+				parent.removeChild(i - removed++);
+				edit.addChild(child);
+			}
+		}
+		parent.addChild(edit);
+	}
+
+	private static boolean covers(TextEdit thisEdit, TextEdit otherEdit) {
+		if (thisEdit.getLength() == 0) // an insertion point can't cover anything
+			return false;
+		int thisOffset= thisEdit.getOffset();
+		int thisEnd= thisEdit.getExclusiveEnd();
+		int otherOffset= otherEdit.getOffset();
+		if (otherEdit.getLength() == 0)
+			return thisOffset < otherOffset && otherOffset < thisEnd;
+		return thisOffset <= otherOffset && otherEdit.getExclusiveEnd() <= thisEnd;
+	}
+
+	private static int[] grow(int[] array, int capacity) {
+		int[] result= new int[capacity];
+		System.arraycopy(array, 0, result, 0, array.length);
+		return result;
+	}
+
+	private static String[] grow(String[] array, int capacity) {
+		String[] result= new String[capacity];
+		System.arraycopy(array, 0, result, 0, array.length);
+		return result;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -114,6 +114,7 @@ public abstract class TextChange extends TextEditBasedChange {
 	 *  set
 	 */
 	public TextEdit getEdit() {
+		materializeEdits();
 		return fEdit;
 	}
 
@@ -138,6 +139,7 @@ public abstract class TextChange extends TextEditBasedChange {
 	 * @param group the text edit change group to add
 	 */
 	public void addTextEditChangeGroup(TextEditChangeGroup group) {
+		materializeEdits();
 		Assert.isTrue(fEdit != null, "Can only add a description if a root edit exists"); //$NON-NLS-1$
 		addChangeGroup(group);
 	}
@@ -167,6 +169,7 @@ public abstract class TextChange extends TextEditBasedChange {
 	 * @since 3.1
 	 */
 	public void addEdit(TextEdit edit) throws MalformedTreeException {
+		materializeEdits();
 		Assert.isTrue(fEdit != null, "root must exist to add an edit"); //$NON-NLS-1$
 		fEdit.addChild(edit);
 	}
@@ -534,6 +537,7 @@ public abstract class TextChange extends TextEditBasedChange {
 	}
 
 	private TextEditProcessor createTextEditProcessor(IDocument document, int flags, boolean preview) {
+		materializeEdits();
 		if (fEdit == null)
 			return new TextEditProcessor(document, new MultiTextEdit(0,0), flags);
 		List<TextEdit> excludes= new ArrayList<>(0);
@@ -564,6 +568,7 @@ public abstract class TextChange extends TextEditBasedChange {
 	}
 
 	private TextEditProcessor createTextEditProcessor(IDocument document, int flags, TextEditBasedChangeGroup[] changes) {
+		materializeEdits();
 		if (fEdit == null)
 			return new TextEditProcessor(document, new MultiTextEdit(0,0), flags);
 		List<TextEdit> includes= new ArrayList<>(0);
@@ -588,6 +593,7 @@ public abstract class TextChange extends TextEditBasedChange {
 	}
 
 	private IRegion getRegion(TextEditBasedChangeGroup[] changes) {
+		materializeEdits();
 		if (changes == ALL_EDITS) {
 			if (fEdit == null)
 				return null;
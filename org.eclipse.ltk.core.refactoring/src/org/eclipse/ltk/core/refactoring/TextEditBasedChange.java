@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2015 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -187,6 +187,7 @@ public abstract class TextEditBasedChange extends Change {
 	 * @since 3.2
 	 */
 	public boolean hasOneGroupCategory(List<GroupCategory> groupCategories) {
+		materializeEdits();
 		if (fCombiedGroupCategories == null) {
 			fCombiedGroupCategories= GroupCategorySet.NONE;
 			for (TextEditBasedChangeGroup group : fChangeGroups) {
@@ -203,9 +204,21 @@ public abstract class TextEditBasedChange extends Change {
 	 * @return the text edit change groups
 	 */
 	public final TextEditBasedChangeGroup[] getChangeGroups() {
+		materializeEdits();
 		return fChangeGroups.toArray(new TextEditBasedChangeGroup[fChangeGroups.size()]);
 	}
 
+	/**
+	 * Hook for changes that create their edits and change groups on demand. Called before the
+	 * edits or change groups of this change are accessed. The default implementation does
+	 * nothing.
+	 *
+	 * @see LazyTextFileChange
+	 */
+	void materializeEdits() {
+		// edits are always present
+	}
+
 	String getContent(IDocument document, IRegion region, boolean expandRegionToFullLine, int surroundingLines) throws CoreException {
 		try {
 			if (expandRegionToFullLine) {
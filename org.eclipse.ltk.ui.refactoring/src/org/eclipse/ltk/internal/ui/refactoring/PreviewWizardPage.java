@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -71,6 +71,8 @@ import org.eclipse.compare.CompareUI;
 import org.eclipse.ltk.core.refactoring.Change;
 import org.eclipse.ltk.core.refactoring.CompositeChange;
 import org.eclipse.ltk.core.refactoring.GroupCategory;
+import org.eclipse.ltk.core.refactoring.GroupCategorySet;
+import org.eclipse.ltk.core.refactoring.LazyTextFileChange;
 import org.eclipse.ltk.core.refactoring.NullChange;
 import org.eclipse.ltk.core.refactoring.RefactoringStatus;
 import org.eclipse.ltk.core.refactoring.TextEditBasedChange;
@@ -674,7 +676,12 @@ public class PreviewWizardPage extends RefactoringWizardPage implements IPreview
 	}
 
 	private void collectGroupCategories(Set<GroupCategory> result, Change change) {
-		if (change instanceof TextEditBasedChange) {
+		if (change instanceof LazyTextFileChange && !((LazyTextFileChange)change).isMaterialized()) {
+			// don't create the edits of files that are not previewed
+			GroupCategorySet groupCategories= ((LazyTextFileChange)change).getGroupCategorySet();
+			if (groupCategories != null)
+				result.addAll(groupCategories.asList());
+		} else if (change instanceof TextEditBasedChange) {
 			for (TextEditBasedChangeGroup group : ((TextEditBasedChange)change).getChangeGroups()) {
 				result.addAll(group.getGroupCategorySet().asList());
 			}